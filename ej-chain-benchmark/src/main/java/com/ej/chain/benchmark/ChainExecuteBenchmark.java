@@ -0,0 +1,71 @@
+package com.ej.chain.benchmark;
+
+import com.ej.chain.benchmark.support.BenchmarkHandlers;
+import com.ej.chain.benchmark.support.BenchmarkManage;
+import com.ej.chain.benchmark.support.BenchmarkRequest;
+import com.ej.chain.context.ThreadLocalContextPool;
+import com.ej.chain.dto.BaseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AbstractManage.execute在不同责任链长度、Handler组成和执行方式下的耗时
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ChainExecuteBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int length;
+
+    @Param({"CHECK", "PROCESS", "MIXED"})
+    private BenchmarkHandlers.Mix mix;
+
+    /**
+     * INTERPRETED:解释执行，COMPILED:编译执行，METERED:编译执行并开启指标统计，POOLED:编译执行并复用上下文(配合-prof gc查看分配)
+     */
+    @Param({"INTERPRETED", "COMPILED", "METERED", "POOLED"})
+    private String mode;
+
+    private BenchmarkManage manage;
+    private BenchmarkRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manage = BenchmarkHandlers.register(new BenchmarkManage(), BenchmarkHandlers.chain(length, mix));
+        if ("METERED".equals(mode)) {
+            manage.metrics();
+        }
+        if ("POOLED".equals(mode)) {
+            manage.contextPool(new ThreadLocalContextPool());
+        }
+        if (!"INTERPRETED".equals(mode)) {
+            manage.compile();
+        }
+        request = new BenchmarkRequest("1", 100L);
+    }
+
+    @Benchmark
+    public BaseResponse<Object> execute() {
+        return manage.execute(request);
+    }
+}
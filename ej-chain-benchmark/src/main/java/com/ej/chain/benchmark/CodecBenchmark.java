@@ -0,0 +1,79 @@
+package com.ej.chain.benchmark;
+
+import com.ej.chain.benchmark.support.BenchmarkCodec;
+import com.ej.chain.benchmark.support.BenchmarkHandlers;
+import com.ej.chain.benchmark.support.BenchmarkManage;
+import com.ej.chain.dto.BaseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 从字节请求到字节返回值的耗时：先转字符串再解析、编码成字节数组再复制，与编解码直接读写ByteBuffer对比
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:20
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+
+    /**
+     * 请求中applyNo的长度
+     */
+    @Param({"16", "1024"})
+    private int payload;
+
+    private BenchmarkManage manage;
+    private ByteBuffer request;
+    private ByteBuffer target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manage = BenchmarkHandlers.register(new BenchmarkManage(), BenchmarkHandlers.chain(1, BenchmarkHandlers.Mix.CHECK));
+        manage.codec(new BenchmarkCodec()).compile();
+        StringBuilder applyNo = new StringBuilder();
+        for (int idx = 0; idx < payload; idx++) {
+            applyNo.append((char) ('0' + idx % 10));
+        }
+        byte[] bytes = (applyNo + ",100").getBytes(StandardCharsets.UTF_8);
+        request = ByteBuffer.allocateDirect(bytes.length);
+        request.put(bytes);
+        target = ByteBuffer.allocateDirect(256);
+    }
+
+    @Benchmark
+    public ByteBuffer viaString() {
+        request.clear();
+        target.clear();
+        byte[] bytes = new byte[request.remaining()];
+        request.get(bytes);
+        BaseResponse<Object> response = manage.execute(new String(bytes, StandardCharsets.UTF_8));
+        return target.put(BenchmarkCodec.encodeToBytes(response));
+    }
+
+    @Benchmark
+    public ByteBuffer viaCodec() {
+        request.clear();
+        target.clear();
+        manage.execute(request, target);
+        return target;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ej.chain.benchmark;
+
+import com.ej.chain.benchmark.support.BenchmarkHandlers;
+import com.ej.chain.benchmark.support.BenchmarkManage;
+import com.ej.chain.benchmark.support.BenchmarkRequest;
+import com.ej.chain.dto.BaseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多线程共享同一个责任链管理类时的吞吐量，线程数用-t参数调整，默认使用全部CPU<br/>
+ * 开启指标统计时各线程共享同一组计数器
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(2)
+public class ContentionBenchmark {
+
+    @Param({"false", "true"})
+    private boolean metered;
+
+    private BenchmarkManage manage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manage = BenchmarkHandlers.register(new BenchmarkManage(), BenchmarkHandlers.chain(8, BenchmarkHandlers.Mix.MIXED));
+        if (metered) {
+            manage.metrics();
+        }
+        manage.compile();
+    }
+
+    @Benchmark
+    public BaseResponse<Object> execute(RequestState state) {
+        return manage.execute(state.request);
+    }
+
+    /**
+     * 每个线程使用自己的请求参数
+     */
+    @State(Scope.Thread)
+    public static class RequestState {
+
+        private BenchmarkRequest request;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            request = new BenchmarkRequest(Thread.currentThread().getName(), 100L);
+        }
+    }
+}
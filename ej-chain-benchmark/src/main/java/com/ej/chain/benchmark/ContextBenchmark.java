@@ -0,0 +1,91 @@
+package com.ej.chain.benchmark;
+
+import com.ej.chain.context.ChainContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 责任链上下文的读写耗时：按key与按槽位、静态方法(查找当前上下文)与上下文实例、基本类型装箱与不装箱、新建上下文
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:05
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ContextBenchmark {
+
+    private static final String KEY = "benchmark.context";
+    private static final int SLOT = ChainContext.slotOf(KEY);
+
+    private ChainContext.Context context;
+    private Object value;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ChainContext.newContext();
+        ChainContext.bind(context);
+        value = new Object();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ChainContext.clear();
+    }
+
+    @Benchmark
+    public Object staticByKey() {
+        ChainContext.injectTemporaryArgs(KEY, value);
+        return ChainContext.extractTemporaryArgs(KEY);
+    }
+
+    @Benchmark
+    public Object staticBySlot() {
+        ChainContext.injectTemporaryArgs(SLOT, value);
+        return ChainContext.extractTemporaryArgs(SLOT);
+    }
+
+    @Benchmark
+    public Object instanceBySlot() {
+        context.injectTemporaryArgs(SLOT, value);
+        return context.extractTemporaryArgs(SLOT);
+    }
+
+    @Benchmark
+    public long longBoxed() {
+        context.injectTemporaryArgs(SLOT, ++counter);
+        return (Long) context.extractTemporaryArgs(SLOT);
+    }
+
+    @Benchmark
+    public long longPrimitive() {
+        context.injectLong(SLOT, ++counter);
+        return context.extractLong(SLOT);
+    }
+
+    @Benchmark
+    public Object current() {
+        return ChainContext.current();
+    }
+
+    @Benchmark
+    public Object newContext() {
+        return ChainContext.newContext();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ej.chain.benchmark;
+
+import com.ej.chain.benchmark.support.BenchmarkHandlers;
+import com.ej.chain.benchmark.support.BenchmarkManage;
+import com.ej.chain.benchmark.support.BenchmarkRequest;
+import com.ej.chain.dto.BaseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 中断路径的耗时：正常结束、injectTips中断、强制中断异常(带堆栈/不带堆栈)、系统异常<br/>
+ * 中断发生在第一个Handler，后面的Handler不会执行；业务拒绝日志关闭，系统异常日志在logback.xml中关闭
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InterruptBenchmark {
+
+    @Param({"NONE", "TIPS", "EXCEPTION", "STACKLESS_EXCEPTION", "SYSTEM_ERROR"})
+    private BenchmarkHandlers.Interrupt interrupt;
+
+    private BenchmarkManage manage;
+    private BenchmarkRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manage = new BenchmarkManage();
+        manage.register(new BenchmarkHandlers.InterruptCheckHandler(interrupt));
+        BenchmarkHandlers.register(manage, BenchmarkHandlers.chain(4, BenchmarkHandlers.Mix.PROCESS));
+        manage.rejectionLogSampling(0);
+        manage.compile();
+        request = new BenchmarkRequest("1", 100L);
+    }
+
+    @Benchmark
+    public BaseResponse<Object> execute() {
+        return manage.execute(request);
+    }
+}
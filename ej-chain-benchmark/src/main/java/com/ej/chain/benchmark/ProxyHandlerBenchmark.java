@@ -0,0 +1,76 @@
+package com.ej.chain.benchmark;
+
+import com.ej.chain.benchmark.support.BenchmarkHandlers;
+import com.ej.chain.benchmark.support.BenchmarkRequest;
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.proxy.JavassistProxyBackend;
+import com.ej.chain.proxy.LookupProxyBackend;
+import com.ej.chain.proxy.ProxyHandlerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 运行时生成的代理Handler与手写Handler通过上下文传递数据的耗时对比<br/>
+ * 代理类按被代理类缓存，每组参数在单独fork的JVM中运行，不同生成方式之间互不影响
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:05
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProxyHandlerBenchmark {
+
+    @Param({"LOOKUP", "JAVASSIST"})
+    private String backend;
+
+    private BenchmarkHandlers.ContextProcessHandler proxyProcess;
+    private BenchmarkHandlers.ContextCompletedHandler proxyCompleted;
+    private BenchmarkHandlers.ContextProcessHandler handWrittenProcess;
+    private BenchmarkHandlers.ContextCompletedHandler handWrittenCompleted;
+    private BenchmarkRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProxyHandlerFactory.setProxyBackend("JAVASSIST".equals(backend) ? new JavassistProxyBackend() : new LookupProxyBackend());
+        proxyProcess = ProxyHandlerFactory.getJavassistProxyHandlerInstance(BenchmarkHandlers.ContextProcessHandler.class, true);
+        proxyCompleted = ProxyHandlerFactory.getJavassistProxyHandlerInstance(BenchmarkHandlers.ContextCompletedHandler.class, true);
+        handWrittenProcess = new BenchmarkHandlers.HandWrittenContextProcessHandler();
+        handWrittenCompleted = new BenchmarkHandlers.HandWrittenContextCompletedHandler();
+        request = new BenchmarkRequest("1", 100L);
+        ChainContext.bind(ChainContext.newContext());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ChainContext.clear();
+    }
+
+    @Benchmark
+    public Object proxy() {
+        proxyProcess.process(request);
+        return proxyCompleted.getAmount();
+    }
+
+    @Benchmark
+    public Object handWritten() {
+        handWrittenProcess.process(request);
+        return handWrittenCompleted.getAmount();
+    }
+}
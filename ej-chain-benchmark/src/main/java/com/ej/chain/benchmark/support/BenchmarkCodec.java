@@ -0,0 +1,68 @@
+package com.ej.chain.benchmark.support;
+
+import com.ej.chain.codec.ChainCodec;
+import com.ej.chain.dto.BaseResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 基准测试使用的编解码，请求格式为"applyNo,amount"，返回值格式为"responseCode,responseMsg"，都是ASCII
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:20
+ */
+public class BenchmarkCodec implements ChainCodec<BenchmarkRequest, Object> {
+
+    @Override
+    public BenchmarkRequest decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        //amount较短，从后往前找分隔符
+        int comma = buffer.limit() - 1;
+        while (buffer.get(comma) != ',') {
+            comma--;
+        }
+        byte[] applyNo = new byte[comma - start];
+        buffer.get(applyNo);
+        buffer.get();
+        long amount = 0;
+        while (buffer.hasRemaining()) {
+            amount = amount * 10 + (buffer.get() - '0');
+        }
+        return new BenchmarkRequest(new String(applyNo, StandardCharsets.ISO_8859_1), amount);
+    }
+
+    @Override
+    public boolean encode(BaseResponse<Object> response, ByteBuffer target) {
+        String code = response.getResponseCode();
+        String msg = response.getResponseMsg();
+        if (target.remaining() < code.length() + 1 + msg.length()) {
+            return false;
+        }
+        putAscii(target, code);
+        target.put((byte) ',');
+        putAscii(target, msg);
+        return true;
+    }
+
+    /**
+     * 按字符串转换的方式编码，作为对比
+     */
+    public static byte[] encodeToBytes(BaseResponse<Object> response) {
+        return (response.getResponseCode() + "," + response.getResponseMsg()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 按字符串转换的方式解码，作为对比
+     */
+    public static BenchmarkRequest decodeString(String request) {
+        int comma = request.indexOf(',');
+        return new BenchmarkRequest(request.substring(0, comma), Long.parseLong(request.substring(comma + 1)));
+    }
+
+    private static void putAscii(ByteBuffer target, String value) {
+        for (int idx = 0; idx < value.length(); idx++) {
+            target.put((byte) value.charAt(idx));
+        }
+    }
+}
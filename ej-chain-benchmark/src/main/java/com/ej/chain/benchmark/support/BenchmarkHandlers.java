@@ -0,0 +1,240 @@
+package com.ej.chain.benchmark.support;
+
+import com.ej.chain.annotation.FromContext;
+import com.ej.chain.annotation.ToContext;
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.exception.ChainForcedInterruptException;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.CheckHandler;
+import com.ej.chain.handlers.CompletedHandler;
+import com.ej.chain.handlers.ProcessHandler;
+import com.ej.chain.proxy.ProxyHandlerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试使用的Handler，只做少量计算，测量的主要是框架本身的开销
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:00
+ */
+public final class BenchmarkHandlers {
+
+    public static final String AMOUNT_KEY = "benchmark.amount";
+    public static final String REJECT_CODE = "1001";
+
+    /**
+     * 责任链中Handler的组成
+     */
+    public enum Mix {
+        /**
+         * 只有校验类Handler
+         */
+        CHECK,
+        /**
+         * 只有业务类Handler
+         */
+        PROCESS,
+        /**
+         * 校验、业务(JAVASSIST代理，通过上下文传递数据)、完成类Handler交替
+         */
+        MIXED
+    }
+
+    /**
+     * 中断方式
+     */
+    public enum Interrupt {
+        /**
+         * 不中断
+         */
+        NONE,
+        /**
+         * injectTips中断
+         */
+        TIPS,
+        /**
+         * 抛出强制中断异常
+         */
+        EXCEPTION,
+        /**
+         * 抛出不收集堆栈的强制中断异常
+         */
+        STACKLESS_EXCEPTION,
+        /**
+         * 抛出系统异常
+         */
+        SYSTEM_ERROR
+    }
+
+    private BenchmarkHandlers() {
+    }
+
+    /**
+     * 生成指定长度和组成的责任链
+     *
+     * @param length 责任链长度
+     * @param mix    Handler的组成
+     * @return java.util.List<com.ej.chain.handlers.BaseHandler<com.ej.chain.benchmark.support.BenchmarkRequest>>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:00
+     */
+    public static List<BaseHandler<BenchmarkRequest>> chain(int length, Mix mix) {
+        List<BaseHandler<BenchmarkRequest>> chain = new ArrayList<>(length);
+        for (int idx = 0; idx < length; idx++) {
+            switch (mix) {
+                case CHECK:
+                    chain.add(new AmountCheckHandler());
+                    break;
+                case PROCESS:
+                    chain.add(new CountProcessHandler());
+                    break;
+                default:
+                    if (idx % 3 == 0) {
+                        chain.add(new AmountCheckHandler());
+                    } else if (idx % 3 == 1) {
+                        chain.add(ProxyHandlerFactory.getJavassistProxyHandlerInstance(ContextProcessHandler.class, false));
+                    } else {
+                        chain.add(ProxyHandlerFactory.getJavassistProxyHandlerInstance(ContextCompletedHandler.class, false));
+                    }
+                    break;
+            }
+        }
+        return chain;
+    }
+
+    /**
+     * 注册责任链
+     *
+     * @param manage
+     * @param chain
+     * @return com.ej.chain.benchmark.support.BenchmarkManage
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:00
+     */
+    public static BenchmarkManage register(BenchmarkManage manage, List<BaseHandler<BenchmarkRequest>> chain) {
+        for (BaseHandler<BenchmarkRequest> handler : chain) {
+            manage.register(handler);
+        }
+        return manage;
+    }
+
+    /**
+     * 金额校验
+     */
+    public static class AmountCheckHandler implements CheckHandler<BenchmarkRequest> {
+        @Override
+        public void checkParams(BenchmarkRequest request) {
+            if (request.getAmount() < 0) {
+                injectTips(REJECT_CODE, "amount must not be negative");
+            }
+        }
+    }
+
+    /**
+     * 计数业务处理
+     */
+    public static class CountProcessHandler implements ProcessHandler<BenchmarkRequest> {
+
+        private long count;
+
+        @Override
+        public boolean duplicated(BenchmarkRequest request) {
+            return false;
+        }
+
+        @Override
+        public void process(BenchmarkRequest request) {
+            count += request.getAmount();
+        }
+    }
+
+    /**
+     * 通过JAVASSIST代理向上下文写入数据
+     */
+    public abstract static class ContextProcessHandler implements ProcessHandler<BenchmarkRequest> {
+
+        @Override
+        public boolean duplicated(BenchmarkRequest request) {
+            return false;
+        }
+
+        @Override
+        public void process(BenchmarkRequest request) {
+            setAmount(request.getAmount());
+        }
+
+        @ToContext(AMOUNT_KEY)
+        public abstract void setAmount(Long amount);
+    }
+
+    /**
+     * 通过JAVASSIST代理从上下文读取数据
+     */
+    public abstract static class ContextCompletedHandler implements CompletedHandler<BenchmarkRequest> {
+
+        @Override
+        public void completed(BenchmarkRequest request) {
+            injectData(getAmount());
+        }
+
+        @FromContext(AMOUNT_KEY)
+        public abstract Long getAmount();
+    }
+
+    /**
+     * 与JAVASSIST代理等价的手写实现，直接按槽位读写上下文
+     */
+    public static class HandWrittenContextProcessHandler extends ContextProcessHandler {
+
+        private static final int AMOUNT_SLOT = ChainContext.slotOf(AMOUNT_KEY);
+
+        @Override
+        public void setAmount(Long amount) {
+            ChainContext.injectTemporaryArgs(AMOUNT_SLOT, amount);
+        }
+    }
+
+    /**
+     * 与JAVASSIST代理等价的手写实现，直接按槽位读写上下文
+     */
+    public static class HandWrittenContextCompletedHandler extends ContextCompletedHandler {
+
+        private static final int AMOUNT_SLOT = ChainContext.slotOf(AMOUNT_KEY);
+
+        @Override
+        public Long getAmount() {
+            return (Long) ChainContext.extractTemporaryArgs(AMOUNT_SLOT);
+        }
+    }
+
+    /**
+     * 按指定方式中断的校验Handler
+     */
+    public static class InterruptCheckHandler implements CheckHandler<BenchmarkRequest> {
+
+        private final Interrupt interrupt;
+
+        public InterruptCheckHandler(Interrupt interrupt) {
+            this.interrupt = interrupt;
+        }
+
+        @Override
+        public void checkParams(BenchmarkRequest request) {
+            switch (interrupt) {
+                case TIPS:
+                    injectTips(REJECT_CODE, "rejected");
+                    break;
+                case EXCEPTION:
+                    throw new ChainForcedInterruptException(REJECT_CODE, "rejected");
+                case STACKLESS_EXCEPTION:
+                    throw ChainForcedInterruptException.stackless(REJECT_CODE, "rejected");
+                case SYSTEM_ERROR:
+                    throw new IllegalStateException("rejected");
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ej.chain.benchmark.support;
+
+import com.ej.chain.manages.AbstractManage;
+
+/**
+ * 基准测试使用的责任链管理类
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:00
+ */
+public class BenchmarkManage extends AbstractManage<BenchmarkRequest, Object> {
+
+    public static final String SYSTEM_ERROR_CODE = "9999";
+    public static final String SUCCESS_CODE = "0000";
+
+    @Override
+    protected BenchmarkRequest convertRequest(String request, Class<BenchmarkRequest> clazz) {
+        return BenchmarkCodec.decodeString(request);
+    }
+
+    @Override
+    protected Class<BenchmarkRequest> getRequestClass() {
+        return BenchmarkRequest.class;
+    }
+
+    @Override
+    protected String systemErrorCode() {
+        return SYSTEM_ERROR_CODE;
+    }
+
+    @Override
+    protected String systemErrorMsg() {
+        return "system error";
+    }
+
+    @Override
+    protected String successCode() {
+        return SUCCESS_CODE;
+    }
+
+    @Override
+    protected String successMsg() {
+        return "success";
+    }
+}
@@ -0,0 +1,26 @@
+package com.ej.chain.benchmark.support;
+
+/**
+ * 基准测试使用的请求参数
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:00
+ */
+public class BenchmarkRequest {
+
+    private final String applyNo;
+    private final long amount;
+
+    public BenchmarkRequest(String applyNo, long amount) {
+        this.applyNo = applyNo;
+        this.amount = amount;
+    }
+
+    public String getApplyNo() {
+        return applyNo;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+}
@@ -0,0 +1,274 @@
+package com.ej.chain.flow;
+
+import com.ej.chain.dto.BaseResponse;
+import com.ej.chain.manages.AbstractManage;
+import com.ej.chain.stream.StreamOptions;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 以{@link Flow.Processor}执行责任链：订阅请求的Publisher，向下游输出返回值<br/>
+ * 向上游请求的数量按{@link StreamOptions#maxInFlight(int)}控制，执行中和已执行完但下游还没有请求的返回值都计入上限，
+ * 下游消费变慢时不再向上游请求；只支持一个下游订阅者，上游结束且返回值都输出后向下游发送结束信号
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:05
+ */
+public class ChainFlowProcessor<Request, Data> implements Flow.Processor<Request, BaseResponse<Data>> {
+
+    private final AbstractManage<Request, Data> manage;
+    private final StreamOptions options;
+
+    /**
+     * 以下状态都在lock中读写
+     */
+    private final Object lock = new Object();
+    /**
+     * 按提交顺序保存还没有输出的请求，包括执行中和已执行完的
+     */
+    private final ArrayDeque<CompletableFuture<BaseResponse<Data>>> pending = new ArrayDeque<>();
+    /**
+     * 已向上游请求但还没有收到的请求数
+     */
+    private long outstanding;
+    /**
+     * 下游已请求但还没有输出的返回值数
+     */
+    private long demand;
+    private boolean upstreamDone;
+    private Throwable upstreamError;
+
+    /**
+     * 输出循环的重入计数，保证同一时刻只有一个线程向下游发信号
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super BaseResponse<Data>> downstream;
+    private volatile boolean cancelled;
+    private boolean terminated;
+
+    /**
+     * @param manage  责任链管理类
+     * @param options 流式执行的参数
+     */
+    public ChainFlowProcessor(AbstractManage<Request, Data> manage, StreamOptions options) {
+        this.manage = manage;
+        this.options = options;
+    }
+
+    /**
+     * 订阅请求的Publisher，返回输出返回值的Publisher
+     *
+     * @param manage    责任链管理类
+     * @param publisher 请求的Publisher
+     * @param options   流式执行的参数
+     * @return java.util.concurrent.Flow.Publisher<com.ej.chain.dto.BaseResponse<Data>>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:05
+     */
+    public static <Request, Data> Flow.Publisher<BaseResponse<Data>> publish(AbstractManage<Request, Data> manage, Flow.Publisher<Request> publisher, StreamOptions options) {
+        ChainFlowProcessor<Request, Data> processor = new ChainFlowProcessor<>(manage, options);
+        publisher.subscribe(processor);
+        return processor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super BaseResponse<Data>> subscriber) {
+        synchronized (lock) {
+            if (downstream != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException(getClass().getSimpleName() + " supports only one subscriber"));
+                return;
+            }
+            downstream = subscriber;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("request must be positive, but was " + n));
+                    return;
+                }
+                synchronized (lock) {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                Flow.Subscription subscription = upstream;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+            }
+        });
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(Request request) {
+        CompletableFuture<BaseResponse<Data>> future;
+        try {
+            future = manage.executeAsync(request, options.getExecutor());
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        synchronized (lock) {
+            outstanding--;
+            pending.add(future);
+        }
+        future.whenComplete((result, e) -> drain());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        synchronized (lock) {
+            upstreamDone = true;
+            upstreamError = throwable;
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (lock) {
+            upstreamDone = true;
+        }
+        drain();
+    }
+
+    /**
+     * 下游请求不合法或请求执行异常时，取消上游并向下游发送异常
+     */
+    private void fail(Throwable throwable) {
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        synchronized (lock) {
+            upstreamDone = true;
+            upstreamError = throwable;
+            pending.clear();
+        }
+        drain();
+    }
+
+    /**
+     * 输出已完成的返回值，按剩余额度向上游请求，上游结束且都输出后发送结束信号
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super BaseResponse<Data>> subscriber = downstream;
+            Flow.Subscription subscription = upstream;
+            if (cancelled || terminated) {
+                synchronized (lock) {
+                    pending.clear();
+                }
+            } else {
+                if (subscriber != null) {
+                    emit(subscriber);
+                }
+                long credit = 0;
+                boolean finished;
+                Throwable error;
+                synchronized (lock) {
+                    if (subscription != null && !upstreamDone) {
+                        credit = options.getMaxInFlight() - pending.size() - outstanding;
+                        outstanding += Math.max(credit, 0);
+                    }
+                    finished = upstreamDone && pending.isEmpty();
+                    error = upstreamError;
+                }
+                if (credit > 0) {
+                    subscription.request(credit);
+                }
+                if (finished && subscriber != null && !terminated && !cancelled) {
+                    terminated = true;
+                    if (error != null) {
+                        subscriber.onError(error);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(Flow.Subscriber<? super BaseResponse<Data>> subscriber) {
+        while (!cancelled) {
+            CompletableFuture<BaseResponse<Data>> next = null;
+            synchronized (lock) {
+                if (demand > 0) {
+                    next = poll();
+                    if (next != null && demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            BaseResponse<Data> response;
+            try {
+                response = next.join();
+            } catch (CompletionException e) {
+                fail(e.getCause() == null ? e : e.getCause());
+                return;
+            }
+            subscriber.onNext(response);
+        }
+    }
+
+    /**
+     * 取出下一个可以输出的请求：按顺序时只看最早提交的，不按顺序时取任意一个已执行完的
+     */
+    private CompletableFuture<BaseResponse<Data>> poll() {
+        if (options.isOrdered()) {
+            CompletableFuture<BaseResponse<Data>> head = pending.peek();
+            return head != null && head.isDone() ? pending.poll() : null;
+        }
+        for (Iterator<CompletableFuture<BaseResponse<Data>>> iterator = pending.iterator(); iterator.hasNext(); ) {
+            CompletableFuture<BaseResponse<Data>> future = iterator.next();
+            if (future.isDone()) {
+                iterator.remove();
+                return future;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ej.chain.loom;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.context.ContextStorage;
+
+/**
+ * 基于ScopedValue的上下文存储<br/>
+ * 每个请求一个虚拟线程时，ThreadLocal会给每个线程都创建一份ThreadLocalMap，
+ * ScopedValue只在执行期间绑定，不产生线程级别的存储<br/>
+ * JDK21中ScopedValue是预览特性，单独放在ej-chain-loom-preview中，只能在JDK21上运行，且运行时需要加上--enable-preview，否则加载时报UnsupportedClassVersionError；
+ * 不确定运行环境时通过ej-chain-loom中的LoomContextStorage.install()安装，不可用时使用ThreadLocal
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 15:30
+ */
+public class ScopedValueContextStorage implements ContextStorage {
+
+    private static final ScopedValue<ChainContext.Context> CONTEXT = ScopedValue.newInstance();
+
+    @Override
+    public ChainContext.Context get() {
+        return CONTEXT.orElse(null);
+    }
+
+    @Override
+    public void runWith(ChainContext.Context context, Runnable action) {
+        ScopedValue.runWhere(CONTEXT, context, action);
+    }
+
+    /**
+     * 将上下文存储替换为ScopedValue，需要在任何责任链执行之前调用
+     *
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 15:30
+     */
+    public static void install() {
+        ChainContext.setStorage(new ScopedValueContextStorage());
+    }
+}
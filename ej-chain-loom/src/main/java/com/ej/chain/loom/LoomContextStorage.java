@@ -0,0 +1,49 @@
+package com.ej.chain.loom;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.context.ContextStorage;
+
+/**
+ * 虚拟线程场景下的上下文存储选择，本类不依赖预览特性<br/>
+ * classpath中有ej-chain-loom-preview且JVM开启了--enable-preview时使用ScopedValueContextStorage，
+ * 否则使用默认的ThreadLocal存储；预览特性编译的类在其他JDK版本或未开启预览时加载报UnsupportedClassVersionError，这里按不可用处理
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 11:40
+ */
+public final class LoomContextStorage {
+
+    private static final String SCOPED_VALUE_STORAGE = "com.ej.chain.loom.ScopedValueContextStorage";
+
+    private LoomContextStorage() {
+    }
+
+    /**
+     * 按运行环境替换上下文存储，需要在任何责任链执行之前调用
+     *
+     * @return boolean 使用ScopedValue时返回true，使用ThreadLocal时返回false
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 11:40
+     */
+    public static boolean install() {
+        ContextStorage storage = scopedValueStorage();
+        ChainContext.setStorage(storage);
+        return storage != null;
+    }
+
+    /**
+     * 加载ScopedValue上下文存储
+     *
+     * @return com.ej.chain.context.ContextStorage 不可用时返回null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 11:40
+     */
+    static ContextStorage scopedValueStorage() {
+        try {
+            Class<?> storageClass = Class.forName(SCOPED_VALUE_STORAGE, true, LoomContextStorage.class.getClassLoader());
+            return (ContextStorage) storageClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ej.chain.loom;
+
+import com.ej.chain.dto.BaseResponse;
+import com.ej.chain.manages.AbstractManage;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 责任链的虚拟线程执行入口，每个请求一个虚拟线程<br/>
+ * Handler中的阻塞调用只挂起虚拟线程，不需要按下游耗时调整线程池大小
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 15:35
+ */
+public class VirtualThreadManageExecutor implements AutoCloseable {
+
+    private final ExecutorService executorService;
+
+    public VirtualThreadManageExecutor() {
+        this("ej-chain-virtual-");
+    }
+
+    /**
+     * @param threadNamePrefix 虚拟线程名称前缀
+     */
+    public VirtualThreadManageExecutor(String threadNamePrefix) {
+        ThreadFactory threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.executorService = Executors.newThreadPerTaskExecutor(threadFactory);
+    }
+
+    /**
+     * 在新的虚拟线程中执行责任链
+     *
+     * @param manage  责任链管理类
+     * @param request 请求参数
+     * @return java.util.concurrent.CompletableFuture<com.ej.chain.dto.BaseResponse<Data>>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 15:35
+     */
+    public <Request, Data> CompletableFuture<BaseResponse<Data>> submit(AbstractManage<Request, Data> manage, Request request) {
+        return CompletableFuture.supplyAsync(() -> manage.execute(request), executorService);
+    }
+
+    /**
+     * 在新的虚拟线程中执行责任链并等待结果，调用方本身是虚拟线程时等待不占用平台线程
+     *
+     * @param manage  责任链管理类
+     * @param request 请求参数
+     * @return com.ej.chain.dto.BaseResponse<Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 15:35
+     */
+    public <Request, Data> BaseResponse<Data> execute(AbstractManage<Request, Data> manage, Request request) {
+        return submit(manage, request).join();
+    }
+
+    /**
+     * 停止接收新请求并等待已提交的请求执行完成
+     *
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 15:35
+     */
+    @Override
+    public void close() {
+        executorService.close();
+    }
+}
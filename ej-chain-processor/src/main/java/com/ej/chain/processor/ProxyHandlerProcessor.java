@@ -0,0 +1,279 @@
+package com.ej.chain.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 抽象Handler代理类的注解处理器<br/>
+ * 编译期为使用了FromContext、ToContext注解的抽象Handler生成代理类，类名与运行时JAVASSIST生成的相同(抽象类名+ProxyHandler)，
+ * ProxyHandlerFactory优先加载生成好的代理类，找不到时才在运行时生成；校验规则与运行时相同，不符合时编译报错
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:20
+ */
+@SupportedAnnotationTypes({ProxyHandlerProcessor.FROM_CONTEXT, ProxyHandlerProcessor.TO_CONTEXT})
+public class ProxyHandlerProcessor extends AbstractProcessor {
+
+    static final String FROM_CONTEXT = "com.ej.chain.annotation.FromContext";
+    static final String TO_CONTEXT = "com.ej.chain.annotation.ToContext";
+    private static final String BASE_HANDLER = "com.ej.chain.handlers.BaseHandler";
+    private static final String CHAIN_CONTEXT = "com.ej.chain.context.ChainContext";
+    private static final String EXTENDS_CLASS_NAME_SUFFIX = "ProxyHandler";
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> handlerTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (ExecutableElement method : ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                handlerTypes.add((TypeElement) method.getEnclosingElement());
+            }
+        }
+        for (TypeElement handlerType : handlerTypes) {
+            if (checkClass(handlerType)) {
+                List<ExecutableElement> methods = getAbstractMethods(handlerType);
+                if (checkMethods(methods)) {
+                    generate(handlerType, methods);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 对需要代理的Handler类的校验
+     *
+     * @param handlerType
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:20
+     */
+    private boolean checkClass(TypeElement handlerType) {
+        TypeElement baseHandler = elements.getTypeElement(BASE_HANDLER);
+        if (baseHandler == null || !types.isAssignable(types.erasure(handlerType.asType()), types.erasure(baseHandler.asType()))) {
+            return error(handlerType, handlerType.getQualifiedName() + " must be the child of " + BASE_HANDLER);
+        }
+        if (handlerType.getKind() != ElementKind.CLASS || !handlerType.getModifiers().contains(Modifier.ABSTRACT)) {
+            return error(handlerType, handlerType.getQualifiedName() + " is not an abstract class");
+        }
+        if (handlerType.getNestingKind() == NestingKind.MEMBER && !handlerType.getModifiers().contains(Modifier.STATIC)) {
+            return error(handlerType, handlerType.getQualifiedName() + " must be a static class");
+        }
+        if (handlerType.getModifiers().contains(Modifier.PRIVATE)) {
+            return error(handlerType, handlerType.getQualifiedName() + " can't be private");
+        }
+        return true;
+    }
+
+    private List<ExecutableElement> getAbstractMethods(TypeElement handlerType) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(handlerType.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * 对使用了FromContext或ToContext注解的抽象方法进行校验，与运行时的校验规则一致
+     *
+     * @param methods
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:20
+     */
+    private boolean checkMethods(List<ExecutableElement> methods) {
+        boolean valid = true;
+        for (ExecutableElement method : methods) {
+            String from = contextKey(method, FROM_CONTEXT);
+            String to = contextKey(method, TO_CONTEXT);
+            if (from != null && to != null) {
+                valid = error(method, method + " can't have both FromContext and ToContext");
+            } else if (from != null) {
+                if (method.getReturnType().getKind() == TypeKind.VOID) {
+                    valid = error(method, method + "  must have a return value");
+                } else if (!method.getParameters().isEmpty()) {
+                    valid = error(method, method + " can't have arguments");
+                }
+            } else if (to != null) {
+                if (method.getReturnType().getKind() != TypeKind.VOID) {
+                    valid = error(method, method + " can't have a return value");
+                } else if (method.getParameters().size() != 1) {
+                    valid = error(method, method + " must have an argument");
+                }
+            } else {
+                valid = error(method, method + " need either FromContext or ToContext");
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * 生成代理类源码
+     *
+     * @param handlerType
+     * @param methods
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:20
+     */
+    private void generate(TypeElement handlerType, List<ExecutableElement> methods) {
+        PackageElement packageElement = elements.getPackageOf(handlerType);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(handlerType).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + EXTENDS_CLASS_NAME_SUFFIX;
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * ").append(handlerType.getQualifiedName()).append("的代理类，由").append(ProxyHandlerProcessor.class.getName()).append("生成\n */\n");
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        source.append("public class ").append(simpleName).append(" extends ").append(types.erasure(handlerType.asType())).append(" {\n");
+        for (int idx = 0; idx < methods.size(); idx++) {
+            ExecutableElement method = methods.get(idx);
+            String key = contextKey(method, FROM_CONTEXT) != null ? contextKey(method, FROM_CONTEXT) : contextKey(method, TO_CONTEXT);
+            source.append("\n    private static final int SLOT_").append(idx).append(" = ").append(CHAIN_CONTEXT).append(".slotOf(").append(elements.getConstantExpression(key)).append(");\n");
+        }
+        for (int idx = 0; idx < methods.size(); idx++) {
+            ExecutableElement method = methods.get(idx);
+            source.append("\n    @Override\n    ").append(accessModifier(method));
+            if (contextKey(method, FROM_CONTEXT) != null) {
+                String returnType = typeName(method.getReturnType());
+                String primitiveName = primitiveAccessorOf(method.getReturnType());
+                source.append(returnType).append(" ").append(method.getSimpleName()).append("() {\n        return ");
+                if (primitiveName != null) {
+                    source.append(CHAIN_CONTEXT).append(".extract").append(primitiveName).append("(SLOT_").append(idx).append(");\n    }\n");
+                } else {
+                    source.append("(").append(returnType).append(") ").append(CHAIN_CONTEXT).append(".extractTemporaryArgs(SLOT_").append(idx).append(");\n    }\n");
+                }
+            } else {
+                TypeMirror parameterType = method.getParameters().get(0).asType();
+                String primitiveName = primitiveAccessorOf(parameterType);
+                source.append("void ").append(method.getSimpleName()).append("(").append(typeName(parameterType)).append(" object) {\n        ")
+                        .append(CHAIN_CONTEXT).append(primitiveName != null ? ".inject" + primitiveName : ".injectTemporaryArgs").append("(SLOT_").append(idx).append(", object);\n    }\n");
+            }
+        }
+        source.append("}\n");
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try {
+            JavaFileObject file = filer.createSourceFile(qualifiedName, handlerType);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            error(handlerType, "generate " + qualifiedName + " failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 获取注解的key，没有该注解时返回null
+     *
+     * @param method
+     * @param annotationName
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:20
+     */
+    private String contextKey(ExecutableElement method, String annotationName) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return String.valueOf(entry.getValue().getValue());
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private String accessModifier(Element method) {
+        if (method.getModifiers().contains(Modifier.PUBLIC)) {
+            return "public ";
+        } else if (method.getModifiers().contains(Modifier.PROTECTED)) {
+            return "protected ";
+        }
+        return "";
+    }
+
+    /**
+     * 源码中使用的类型名称，泛型类型按擦除后的类型处理
+     *
+     * @param type
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:20
+     */
+    private String typeName(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    /**
+     * int/long/double/boolean使用ChainContext中不装箱的读写方法，返回方法名后缀，其他类型返回null
+     */
+    private static String primitiveAccessorOf(TypeMirror type) {
+        switch (type.getKind()) {
+            case INT:
+                return "Int";
+            case LONG:
+                return "Long";
+            case DOUBLE:
+                return "Double";
+            case BOOLEAN:
+                return "Boolean";
+            default:
+                return null;
+        }
+    }
+
+    private boolean error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+}
@@ -0,0 +1,458 @@
+package com.ej.chain.server;
+
+import com.ej.chain.dto.BaseResponse;
+import com.ej.chain.manages.AbstractManage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ObjectName;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于选择器的非阻塞责任链服务端<br/>
+ * 一个选择器线程负责接入和读写，按路径把请求路由到注册的责任链，解码、执行和编码都在工作线程中完成，不为每个连接创建线程；
+ * 同一端口同时支持长度前缀协议和HTTP/1.1(见{@link Protocol})，路由的责任链需要设置{@link com.ej.chain.codec.ChainCodec}
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:40
+ */
+public class ChainServer implements Closeable {
+
+    public static final Logger LOGGER = LoggerFactory.getLogger(ChainServer.class);
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    private static final int INITIAL_RESPONSE_SIZE = 4 * 1024;
+    private static final int MAX_RESPONSE_SIZE = 64 * 1024 * 1024;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final InetSocketAddress address;
+    private final Map<String, AbstractManage<?, ?>> routes = new ConcurrentHashMap<>();
+    private final ServerStats stats = new ServerStats();
+    /**
+     * 工作线程处理完的连接，由选择器线程写出响应
+     */
+    private final Queue<Connection> responded = new ConcurrentLinkedQueue<>();
+
+    private Executor workers;
+    private ExecutorService ownedWorkers;
+    private int maxRequestSize = 4 * 1024 * 1024;
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private ObjectName objectName;
+    private volatile boolean running;
+
+    public ChainServer(int port) {
+        this(new InetSocketAddress(port));
+    }
+
+    /**
+     * @param address 监听地址，端口为0时由系统分配，启动后通过{@link #getPort()}获取
+     */
+    public ChainServer(InetSocketAddress address) {
+        this.address = address;
+    }
+
+    /**
+     * 注册路由，HTTP按请求路径(不含查询参数)匹配，长度前缀协议按请求中的路径匹配
+     *
+     * @param path   路径，如/credit/apply
+     * @param manage 设置了编解码的责任链管理类
+     * @return com.ej.chain.server.ChainServer
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:40
+     */
+    public ChainServer route(String path, AbstractManage<?, ?> manage) {
+        if (manage.getCodec() == null) {
+            throw new IllegalArgumentException(manage.getClass().getName() + " must have a codec to be served");
+        }
+        if (routes.putIfAbsent(path, manage) != null) {
+            throw new IllegalArgumentException("duplicated route " + path);
+        }
+        return this;
+    }
+
+    /**
+     * 设置执行请求的工作线程池，不设置时按CPU核数创建，关闭服务端时一起关闭
+     *
+     * @param executor 工作线程池，拒绝任务时返回503
+     * @return com.ej.chain.server.ChainServer
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:40
+     */
+    public synchronized ChainServer workers(Executor executor) {
+        if (running) {
+            throw new IllegalStateException("server is already started");
+        }
+        this.workers = executor;
+        return this;
+    }
+
+    /**
+     * 设置请求体的最大长度，超过时返回413并关闭连接，默认4M
+     *
+     * @param maxRequestSize 字节
+     * @return com.ej.chain.server.ChainServer
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:40
+     */
+    public synchronized ChainServer maxRequestSize(int maxRequestSize) {
+        if (running) {
+            throw new IllegalStateException("server is already started");
+        }
+        this.maxRequestSize = maxRequestSize;
+        return this;
+    }
+
+    /**
+     * 绑定端口并启动选择器线程
+     *
+     * @return com.ej.chain.server.ChainServer
+     * @throws IOException 绑定端口失败时
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:40
+     */
+    public synchronized ChainServer start() throws IOException {
+        if (running) {
+            throw new IllegalStateException("server is already started");
+        }
+        if (workers == null) {
+            AtomicInteger index = new AtomicInteger();
+            ownedWorkers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "ej-chain-server-worker-" + index.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            workers = ownedWorkers;
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(address, 1024);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        selectorThread = new Thread(this::loop, "ej-chain-server-" + getPort());
+        selectorThread.start();
+        LOGGER.info("chain server started on {}, routes:{}", serverChannel.getLocalAddress(), routes.keySet());
+        return this;
+    }
+
+    /**
+     * 将统计注册到JMX，ObjectName为com.ej.chain:type=Server,port=端口
+     *
+     * @return com.ej.chain.server.ChainServer
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:40
+     */
+    public synchronized ChainServer registerMBean() {
+        try {
+            objectName = new ObjectName("com.ej.chain:type=Server,port=" + getPort());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(stats, objectName);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return this;
+    }
+
+    /**
+     * 获取实际监听的端口
+     *
+     * @return int
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:40
+     */
+    public int getPort() {
+        return serverChannel == null ? address.getPort() : serverChannel.socket().getLocalPort();
+    }
+
+    public ServerStats getStats() {
+        return stats;
+    }
+
+    /**
+     * 停止接入和读写，关闭所有连接；工作线程中未完成的请求执行完后丢弃响应
+     *
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:40
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection) {
+                closeConnection((Connection) key.attachment());
+            }
+        }
+        serverChannel.close();
+        selector.close();
+        if (ownedWorkers != null) {
+            ownedWorkers.shutdown();
+            ownedWorkers = null;
+            workers = null;
+        }
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (Exception e) {
+                LOGGER.warn("unregister {} failed", objectName, e);
+            }
+            objectName = null;
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                selector.select();
+                Connection connection;
+                while ((connection = responded.poll()) != null) {
+                    writeResponse(connection);
+                }
+                for (SelectionKey key : selector.selectedKeys()) {
+                    handleKey(key);
+                }
+                selector.selectedKeys().clear();
+            } catch (IOException e) {
+                LOGGER.error("{} -> ", e.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isWritable()) {
+                write(connection);
+            } else if (key.isReadable()) {
+                read(connection);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("connection {} closed: {}", connection.channel, e.getMessage());
+            closeConnection(connection);
+        }
+    }
+
+    private void accept() {
+        SocketChannel channel;
+        try {
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Connection connection = new Connection(channel, INITIAL_BUFFER_SIZE);
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                stats.accepted.increment();
+                stats.open.increment();
+            }
+        } catch (IOException e) {
+            LOGGER.error("{} -> ", e.getClass().getSimpleName(), e);
+        }
+    }
+
+    private void read(Connection connection) throws IOException {
+        ByteBuffer buffer = connection.readBuffer;
+        if (!buffer.hasRemaining()) {
+            int maxBufferSize = maxRequestSize + Protocol.MAX_HEADER_SIZE + 8;
+            if (buffer.capacity() >= maxBufferSize) {
+                fail(connection, new Protocol.ProtocolException(Protocol.STATUS_TOO_LARGE, "request is too large"));
+                return;
+            }
+            ByteBuffer grown = ByteBuffer.allocate((int) Math.min((long) buffer.capacity() * 2, maxBufferSize));
+            buffer.flip();
+            grown.put(buffer);
+            connection.readBuffer = buffer = grown;
+        }
+        if (connection.channel.read(buffer) < 0) {
+            closeConnection(connection);
+            return;
+        }
+        dispatch(connection);
+    }
+
+    /**
+     * 解析下一个完整的请求并交给工作线程，处理期间暂停读取
+     */
+    private void dispatch(Connection connection) {
+        if (connection.current != null || connection.response != null || connection.closed) {
+            return;
+        }
+        ByteBuffer view = connection.readBuffer.duplicate();
+        view.flip();
+        if (!view.hasRemaining()) {
+            return;
+        }
+        if (connection.protocol == null) {
+            connection.protocol = Protocol.detect(view.get(0));
+        }
+        ServerRequest request;
+        try {
+            request = connection.protocol.parse(view, maxRequestSize);
+        } catch (Protocol.ProtocolException e) {
+            fail(connection, e);
+            return;
+        }
+        if (request == null) {
+            return;
+        }
+        connection.current = request;
+        connection.key.interestOps(0);
+        AbstractManage<?, ?> manage = routes.get(request.path);
+        if (manage == null) {
+            stats.failed.increment();
+            respond(connection, Protocol.STATUS_NOT_FOUND, EMPTY, request.keepAlive);
+            return;
+        }
+        long start = System.nanoTime();
+        stats.queued.increment();
+        try {
+            workers.execute(() -> process(connection, request, manage, start));
+        } catch (RejectedExecutionException e) {
+            stats.queued.decrement();
+            stats.failed.increment();
+            respond(connection, Protocol.STATUS_UNAVAILABLE, EMPTY, request.keepAlive);
+        }
+    }
+
+    /**
+     * 在工作线程中执行请求并编码响应；任何异常(包括Error)都返回500，连接不会因为没有响应而一直暂停读取
+     */
+    private void process(Connection connection, ServerRequest request, AbstractManage<?, ?> manage, long start) {
+        stats.queued.decrement();
+        stats.active.increment();
+        int status = Protocol.STATUS_OK;
+        ByteBuffer body;
+        try {
+            body = execute(manage, request.payload);
+        } catch (Throwable e) {
+            LOGGER.error("{} -> ", e.getClass().getSimpleName(), e);
+            stats.failed.increment();
+            status = Protocol.STATUS_SERVER_ERROR;
+            body = EMPTY;
+        } finally {
+            stats.active.decrement();
+        }
+        stats.completed.increment();
+        stats.record(start);
+        respond(connection, status, body, request.keepAlive);
+    }
+
+    private static <Request, Data> ByteBuffer execute(AbstractManage<Request, Data> manage, ByteBuffer payload) {
+        BaseResponse<Data> response = manage.execute(payload);
+        ByteBuffer body = ByteBuffer.allocate(INITIAL_RESPONSE_SIZE);
+        while (!manage.encode(response, body)) {
+            if (body.capacity() >= MAX_RESPONSE_SIZE) {
+                throw new IllegalStateException("response of " + manage.getClass().getName() + " is larger than " + MAX_RESPONSE_SIZE);
+            }
+            body = ByteBuffer.allocate(body.capacity() * 2);
+        }
+        body.flip();
+        return body;
+    }
+
+    /**
+     * 设置响应并交给选择器线程写出
+     */
+    private void respond(Connection connection, int status, ByteBuffer body, boolean keepAlive) {
+        connection.response = new ByteBuffer[]{connection.protocol.header(status, body.remaining(), keepAlive), body.duplicate()};
+        connection.closeAfterWrite = !keepAlive;
+        responded.add(connection);
+        selector.wakeup();
+    }
+
+    /**
+     * 请求不合法：返回对应的状态码后关闭连接
+     */
+    private void fail(Connection connection, Protocol.ProtocolException e) {
+        LOGGER.debug("bad request from {}: {}", connection.channel, e.getMessage());
+        stats.failed.increment();
+        connection.key.interestOps(0);
+        respond(connection, e.status, ByteBuffer.wrap(e.getMessage().getBytes(StandardCharsets.UTF_8)), false);
+    }
+
+    private void writeResponse(Connection connection) {
+        if (connection.closed) {
+            return;
+        }
+        if (connection.current != null) {
+            ByteBuffer buffer = connection.readBuffer;
+            buffer.flip();
+            buffer.position(connection.current.length);
+            buffer.compact();
+            connection.current = null;
+        }
+        try {
+            write(connection);
+        } catch (IOException e) {
+            LOGGER.debug("connection {} closed: {}", connection.channel, e.getMessage());
+            closeConnection(connection);
+        }
+    }
+
+    private void write(Connection connection) throws IOException {
+        ByteBuffer[] response = connection.response;
+        connection.channel.write(response);
+        if (response[response.length - 1].hasRemaining()) {
+            connection.key.interestOps(SelectionKey.OP_WRITE);
+            return;
+        }
+        connection.response = null;
+        if (connection.closeAfterWrite) {
+            closeConnection(connection);
+            return;
+        }
+        connection.key.interestOps(SelectionKey.OP_READ);
+        //客户端可能已经发送了下一个请求
+        dispatch(connection);
+    }
+
+    private void closeConnection(Connection connection) {
+        if (connection.closed) {
+            return;
+        }
+        connection.closed = true;
+        if (connection.key != null) {
+            connection.key.cancel();
+        }
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            LOGGER.debug("close {} failed", connection.channel, e);
+        }
+        stats.open.decrement();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ej.chain.server;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * 一个客户端连接的状态，只在选择器线程中读写；响应由工作线程设置后通过队列交给选择器线程<br/>
+ * 同一连接同一时刻只处理一个请求，处理期间不再读取数据，由TCP窗口对客户端形成背压
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:40
+ */
+class Connection {
+
+    final SocketChannel channel;
+    SelectionKey key;
+    /**
+     * 已读取的数据在[0, position)之间
+     */
+    ByteBuffer readBuffer;
+    /**
+     * 第一个字节到达时确定
+     */
+    Protocol protocol;
+    /**
+     * 正在处理的请求，为null时可以解析下一个请求
+     */
+    ServerRequest current;
+    /**
+     * 待写出的响应，为null时没有待写出的响应
+     */
+    ByteBuffer[] response;
+    /**
+     * 响应写完后关闭连接
+     */
+    boolean closeAfterWrite;
+    boolean closed;
+
+    Connection(SocketChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.readBuffer = ByteBuffer.allocate(bufferSize);
+    }
+}
@@ -0,0 +1,197 @@
+package com.ej.chain.server;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 连接使用的协议，按连接的第一个字节区分：大写字母开头为HTTP，否则为长度前缀协议
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:40
+ */
+enum Protocol {
+
+    /**
+     * 长度前缀协议<br/>
+     * 请求：int 后续长度 + short 路径长度 + 路径(UTF-8) + 请求体；响应：int 后续长度 + short 状态码 + 响应体，状态码同HTTP
+     */
+    BINARY {
+        @Override
+        ServerRequest parse(ByteBuffer buffer, int maxRequestSize) {
+            if (buffer.remaining() < 4) {
+                return null;
+            }
+            int start = buffer.position();
+            int frameLength = buffer.getInt(start);
+            if (frameLength < 2 || frameLength > maxRequestSize) {
+                throw new ProtocolException(STATUS_TOO_LARGE, "invalid frame length " + frameLength);
+            }
+            if (buffer.remaining() < 4 + frameLength) {
+                return null;
+            }
+            int pathLength = buffer.getShort(start + 4) & 0xFFFF;
+            if (pathLength > frameLength - 2) {
+                throw new ProtocolException(STATUS_BAD_REQUEST, "invalid path length " + pathLength);
+            }
+            byte[] path = new byte[pathLength];
+            ByteBuffer view = buffer.duplicate();
+            view.position(start + 6);
+            view.get(path);
+            view.limit(start + 4 + frameLength);
+            return new ServerRequest(new String(path, StandardCharsets.UTF_8), view.slice(), 4 + frameLength, true);
+        }
+
+        @Override
+        ByteBuffer header(int status, int bodyLength, boolean keepAlive) {
+            ByteBuffer header = ByteBuffer.allocate(6);
+            header.putInt(bodyLength + 2).putShort((short) status).flip();
+            return header;
+        }
+    },
+
+    /**
+     * HTTP/1.1，只支持Content-Length指定请求体长度，支持keep-alive和pipelining(按顺序逐个处理)
+     */
+    HTTP {
+        @Override
+        ServerRequest parse(ByteBuffer buffer, int maxRequestSize) {
+            int start = buffer.position();
+            int headerEnd = indexOfHeaderEnd(buffer);
+            if (headerEnd < 0) {
+                if (buffer.remaining() > MAX_HEADER_SIZE) {
+                    throw new ProtocolException(STATUS_TOO_LARGE, "header is too large");
+                }
+                return null;
+            }
+            byte[] headerBytes = new byte[headerEnd - start];
+            ByteBuffer view = buffer.duplicate();
+            view.get(headerBytes);
+            String[] lines = new String(headerBytes, StandardCharsets.ISO_8859_1).split("\r\n");
+            String[] requestLine = lines[0].split(" ");
+            if (requestLine.length != 3 || !requestLine[2].startsWith("HTTP/1.")) {
+                throw new ProtocolException(STATUS_BAD_REQUEST, "invalid request line " + lines[0]);
+            }
+            boolean keepAlive = "HTTP/1.1".equals(requestLine[2]);
+            long contentLength = 0;
+            for (int idx = 1; idx < lines.length; idx++) {
+                int colon = lines[idx].indexOf(':');
+                if (colon <= 0) {
+                    throw new ProtocolException(STATUS_BAD_REQUEST, "invalid header " + lines[idx]);
+                }
+                String name = lines[idx].substring(0, colon).trim();
+                String value = lines[idx].substring(colon + 1).trim();
+                if ("Content-Length".equalsIgnoreCase(name)) {
+                    try {
+                        contentLength = Long.parseLong(value);
+                    } catch (NumberFormatException e) {
+                        throw new ProtocolException(STATUS_BAD_REQUEST, "invalid Content-Length " + value);
+                    }
+                } else if ("Connection".equalsIgnoreCase(name)) {
+                    keepAlive = "keep-alive".equalsIgnoreCase(value) || (keepAlive && !"close".equalsIgnoreCase(value));
+                } else if ("Transfer-Encoding".equalsIgnoreCase(name) && !"identity".equalsIgnoreCase(value)) {
+                    throw new ProtocolException(STATUS_NOT_IMPLEMENTED, "unsupported Transfer-Encoding " + value);
+                }
+            }
+            if (contentLength < 0 || contentLength > maxRequestSize) {
+                throw new ProtocolException(STATUS_TOO_LARGE, "invalid Content-Length " + contentLength);
+            }
+            int bodyStart = headerEnd + 4;
+            if (buffer.limit() - bodyStart < contentLength) {
+                return null;
+            }
+            String path = requestLine[1];
+            int query = path.indexOf('?');
+            view.position(bodyStart);
+            view.limit(bodyStart + (int) contentLength);
+            return new ServerRequest(query >= 0 ? path.substring(0, query) : path, view.slice(), bodyStart + (int) contentLength - start, keepAlive);
+        }
+
+        @Override
+        ByteBuffer header(int status, int bodyLength, boolean keepAlive) {
+            String header = "HTTP/1.1 " + status + " " + reasonOf(status) + "\r\n"
+                    + "Content-Type: application/octet-stream\r\n"
+                    + "Content-Length: " + bodyLength + "\r\n"
+                    + "Connection: " + (keepAlive ? "keep-alive" : "close") + "\r\n\r\n";
+            return ByteBuffer.wrap(header.getBytes(StandardCharsets.ISO_8859_1));
+        }
+    };
+
+    static final int STATUS_OK = 200;
+    static final int STATUS_BAD_REQUEST = 400;
+    static final int STATUS_NOT_FOUND = 404;
+    static final int STATUS_TOO_LARGE = 413;
+    static final int STATUS_SERVER_ERROR = 500;
+    static final int STATUS_NOT_IMPLEMENTED = 501;
+    static final int STATUS_UNAVAILABLE = 503;
+
+    /**
+     * HTTP请求头的最大长度
+     */
+    static final int MAX_HEADER_SIZE = 8 * 1024;
+
+    /**
+     * 从buffer的position开始解析一个请求，不改变buffer的position
+     *
+     * @param buffer         已读取的数据
+     * @param maxRequestSize 请求体的最大长度
+     * @return com.ej.chain.server.ServerRequest 数据还不完整时返回null
+     * @throws ProtocolException 请求不合法时
+     */
+    abstract ServerRequest parse(ByteBuffer buffer, int maxRequestSize);
+
+    /**
+     * 生成响应头
+     *
+     * @param status     状态码
+     * @param bodyLength 响应体长度
+     * @param keepAlive  响应后是否保持连接
+     * @return java.nio.ByteBuffer 可以直接写出的响应头
+     */
+    abstract ByteBuffer header(int status, int bodyLength, boolean keepAlive);
+
+    static Protocol detect(byte first) {
+        return first >= 'A' && first <= 'Z' ? HTTP : BINARY;
+    }
+
+    private static int indexOfHeaderEnd(ByteBuffer buffer) {
+        int limit = Math.min(buffer.limit(), buffer.position() + MAX_HEADER_SIZE + 4);
+        for (int idx = buffer.position(); idx + 3 < limit; idx++) {
+            if (buffer.get(idx) == '\r' && buffer.get(idx + 1) == '\n' && buffer.get(idx + 2) == '\r' && buffer.get(idx + 3) == '\n') {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    private static String reasonOf(int status) {
+        switch (status) {
+            case STATUS_OK:
+                return "OK";
+            case STATUS_BAD_REQUEST:
+                return "Bad Request";
+            case STATUS_NOT_FOUND:
+                return "Not Found";
+            case STATUS_TOO_LARGE:
+                return "Payload Too Large";
+            case STATUS_NOT_IMPLEMENTED:
+                return "Not Implemented";
+            case STATUS_UNAVAILABLE:
+                return "Service Unavailable";
+            default:
+                return "Internal Server Error";
+        }
+    }
+
+    /**
+     * 请求不合法，返回对应的状态码后关闭连接
+     */
+    static class ProtocolException extends RuntimeException {
+
+        final int status;
+
+        ProtocolException(int status, String message) {
+            super(message, null, false, false);
+            this.status = status;
+        }
+    }
+}
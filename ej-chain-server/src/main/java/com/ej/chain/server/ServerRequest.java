@@ -0,0 +1,36 @@
+package com.ej.chain.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 从连接中解析出的一个完整请求
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:40
+ */
+class ServerRequest {
+
+    /**
+     * 路由路径
+     */
+    final String path;
+    /**
+     * 请求体，是连接读缓冲区的一部分，响应写完之前有效
+     */
+    final ByteBuffer payload;
+    /**
+     * 该请求在读缓冲区中占用的字节数，包括请求头
+     */
+    final int length;
+    /**
+     * 响应后是否保持连接
+     */
+    final boolean keepAlive;
+
+    ServerRequest(String path, ByteBuffer payload, int length, boolean keepAlive) {
+        this.path = path;
+        this.payload = payload;
+        this.length = length;
+        this.keepAlive = keepAlive;
+    }
+}
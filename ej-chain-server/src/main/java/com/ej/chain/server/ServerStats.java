@@ -0,0 +1,86 @@
+package com.ej.chain.server;
+
+import com.ej.chain.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 服务端的统计：连接数、等待工作线程的请求数、执行中的请求数和请求耗时<br/>
+ * 请求耗时从请求完整读取到响应编码完成，包括等待工作线程的时间
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:40
+ */
+public class ServerStats implements ServerStatsMBean {
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    final LongAdder accepted = new LongAdder();
+    final LongAdder open = new LongAdder();
+    final LongAdder queued = new LongAdder();
+    final LongAdder active = new LongAdder();
+    final LongAdder completed = new LongAdder();
+    /**
+     * 请求不合法、没有对应的路由、工作线程拒绝或编码失败的请求数
+     */
+    final LongAdder failed = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    void record(long start) {
+        histogram.record(System.nanoTime() - start);
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public long getAcceptedConnections() {
+        return accepted.sum();
+    }
+
+    @Override
+    public long getOpenConnections() {
+        return open.sum();
+    }
+
+    @Override
+    public long getQueuedRequests() {
+        return queued.sum();
+    }
+
+    @Override
+    public long getActiveRequests() {
+        return active.sum();
+    }
+
+    @Override
+    public long getCompletedRequests() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getFailedRequests() {
+        return failed.sum();
+    }
+
+    @Override
+    public double getLatencyMeanMicros() {
+        return histogram.mean() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getLatencyP50Micros() {
+        return histogram.percentile(0.5) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getLatencyP99Micros() {
+        return histogram.percentile(0.99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getLatencyMaxMicros() {
+        return histogram.max() / NANOS_PER_MICRO;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ej.chain.server;
+
+/**
+ * {@link ServerStats}的JMX接口
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:40
+ */
+public interface ServerStatsMBean {
+
+    long getAcceptedConnections();
+
+    long getOpenConnections();
+
+    long getQueuedRequests();
+
+    long getActiveRequests();
+
+    long getCompletedRequests();
+
+    long getFailedRequests();
+
+    double getLatencyMeanMicros();
+
+    double getLatencyP50Micros();
+
+    double getLatencyP99Micros();
+
+    double getLatencyMaxMicros();
+}
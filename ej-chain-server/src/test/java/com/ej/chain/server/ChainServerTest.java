@@ -0,0 +1,268 @@
+package com.ej.chain.server;
+
+import com.ej.chain.codec.ChainCodec;
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.dto.BaseResponse;
+import com.ej.chain.handlers.ProcessHandler;
+import com.ej.chain.manages.AbstractManage;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 通过本机回环地址验证{@link ChainServer}的两种协议和异常状态码
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 09:30
+ */
+public class ChainServerTest {
+
+    private ChainServer server;
+
+    @After
+    public void tearDown() throws IOException {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    public void httpKeepAliveAndPipelining() throws IOException {
+        server = new ChainServer(new InetSocketAddress("127.0.0.1", 0)).route("/echo", new EchoManage()).start();
+        try (Socket socket = connect()) {
+            OutputStream out = socket.getOutputStream();
+            out.write((httpRequest("/echo", "first") + httpRequest("/echo", "second")).getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            assertEquals("200|000000:FIRST", readHttpResponse(in));
+            assertEquals("200|000000:SECOND", readHttpResponse(in));
+
+            out.write(httpRequest("/missing", "third").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            assertEquals("404|", readHttpResponse(in));
+        }
+    }
+
+    @Test
+    public void binaryFraming() throws IOException {
+        server = new ChainServer(new InetSocketAddress("127.0.0.1", 0)).route("/echo", new EchoManage()).start();
+        try (Socket socket = connect()) {
+            byte[] frame = binaryRequest("/echo", "binary");
+            OutputStream out = socket.getOutputStream();
+            // 分两次写入，服务端需要等待完整的帧
+            out.write(frame, 0, 5);
+            out.flush();
+            out.write(frame, 5, frame.length - 5);
+            out.write(binaryRequest("/echo", "again"));
+            out.flush();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertEquals("200|000000:BINARY", readBinaryResponse(in));
+            assertEquals("200|000000:AGAIN", readBinaryResponse(in));
+        }
+    }
+
+    @Test
+    public void tooLarge() throws IOException {
+        server = new ChainServer(new InetSocketAddress("127.0.0.1", 0)).route("/echo", new EchoManage()).maxRequestSize(16).start();
+        try (Socket socket = connect()) {
+            OutputStream out = socket.getOutputStream();
+            out.write(httpRequest("/echo", "a request body longer than sixteen bytes").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            assertTrue(readHttpResponse(in).startsWith("413|"));
+            assertEquals(-1, in.read());
+        }
+        try (Socket socket = connect()) {
+            OutputStream out = socket.getOutputStream();
+            out.write(binaryRequest("/echo", "a request body longer than sixteen bytes"));
+            out.flush();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertTrue(readBinaryResponse(in).startsWith("413|"));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void unavailable() throws IOException {
+        server = new ChainServer(new InetSocketAddress("127.0.0.1", 0)).route("/echo", new EchoManage())
+                .workers(command -> {
+                    throw new RejectedExecutionException("busy");
+                }).start();
+        try (Socket socket = connect()) {
+            OutputStream out = socket.getOutputStream();
+            out.write(httpRequest("/echo", "first").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            assertEquals("503|", readHttpResponse(in));
+
+            // 拒绝之后连接仍然可用
+            out.write(httpRequest("/echo", "second").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            assertEquals("503|", readHttpResponse(in));
+        }
+        assertEquals(2, server.getStats().getFailedRequests());
+    }
+
+    @Test
+    public void errorAnswersServerError() throws IOException {
+        server = new ChainServer(new InetSocketAddress("127.0.0.1", 0)).route("/echo", new EchoManage()).start();
+        try (Socket socket = connect()) {
+            OutputStream out = socket.getOutputStream();
+            out.write((httpRequest("/echo", "error") + httpRequest("/echo", "after")).getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            assertEquals("500|", readHttpResponse(in));
+            assertEquals("200|000000:AFTER", readHttpResponse(in));
+        }
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket("127.0.0.1", server.getPort());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    private static String httpRequest(String path, String body) {
+        return "POST " + path + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Content-Length: " + body.getBytes(StandardCharsets.UTF_8).length + "\r\n\r\n"
+                + body;
+    }
+
+    private static byte[] binaryRequest(String path, String body) throws IOException {
+        byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+        byte[] bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(2 + pathBytes.length + bodyBytes.length);
+        out.writeShort(pathBytes.length);
+        out.write(pathBytes);
+        out.write(bodyBytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 读取一个HTTP响应
+     *
+     * @return 状态码|响应体
+     */
+    private static String readHttpResponse(InputStream in) throws IOException {
+        StringBuilder header = new StringBuilder();
+        while (header.length() < 4 || !"\r\n\r\n".equals(header.substring(header.length() - 4))) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("connection closed before the response header");
+            }
+            header.append((char) b);
+        }
+        String[] lines = header.toString().split("\r\n");
+        int contentLength = 0;
+        for (String line : lines) {
+            if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                contentLength = Integer.parseInt(line.substring(15).trim());
+            }
+        }
+        byte[] body = new byte[contentLength];
+        new DataInputStream(in).readFully(body);
+        return lines[0].split(" ")[1] + "|" + new String(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 读取一个长度前缀协议的响应
+     *
+     * @return 状态码|响应体
+     */
+    private static String readBinaryResponse(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        int status = in.readShort();
+        byte[] body = new byte[length - 2];
+        in.readFully(body);
+        return status + "|" + new String(body, StandardCharsets.UTF_8);
+    }
+
+    public static class EchoRequest {
+        private final String text;
+
+        EchoRequest(String text) {
+            this.text = text;
+        }
+    }
+
+    public static class EchoManage extends AbstractManage<EchoRequest, String> {
+
+        EchoManage() {
+            register(new EchoHandler());
+            codec(new EchoCodec());
+        }
+
+        @Override
+        protected String systemErrorCode() {
+            return "999999";
+        }
+
+        @Override
+        protected String systemErrorMsg() {
+            return "system error";
+        }
+
+        @Override
+        protected String successCode() {
+            return "000000";
+        }
+
+        @Override
+        protected String successMsg() {
+            return "success";
+        }
+    }
+
+    public static class EchoHandler implements ProcessHandler<EchoRequest> {
+        @Override
+        public boolean duplicated(EchoRequest request) {
+            return false;
+        }
+
+        @Override
+        public void process(EchoRequest request) {
+            ChainContext.current().injectData(request.text.toUpperCase());
+        }
+    }
+
+    /**
+     * 请求体是文本；响应体是"响应码:数据"，请求体为error时模拟解码时抛出Error
+     */
+    public static class EchoCodec implements ChainCodec<EchoRequest, String> {
+        @Override
+        public EchoRequest decode(ByteBuffer source) {
+            String text = StandardCharsets.UTF_8.decode(source).toString();
+            if ("error".equals(text)) {
+                throw new NoClassDefFoundError("simulated");
+            }
+            return new EchoRequest(text);
+        }
+
+        @Override
+        public boolean encode(BaseResponse<String> response, ByteBuffer target) {
+            byte[] bytes = (response.getResponseCode() + ":" + response.getData()).getBytes(StandardCharsets.UTF_8);
+            if (target.remaining() < bytes.length) {
+                return false;
+            }
+            target.put(bytes);
+            return true;
+        }
+    }
+}
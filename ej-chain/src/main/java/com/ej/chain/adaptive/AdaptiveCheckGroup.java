@@ -0,0 +1,311 @@
+package com.ej.chain.adaptive;
+
+import com.ej.chain.annotation.Commutative;
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.exception.ChainForcedInterruptException;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.CheckHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+import com.ej.chain.metrics.HandlerMetrics;
+import com.ej.chain.metrics.Phase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按运行时统计调整执行顺序的一组校验Handler，组内的Handler都标记了{@link Commutative}<br/>
+ * 抽样统计每个Handler的平均耗时和拒绝率(执行到该Handler时被拒绝的比例)，定期按 耗时/拒绝率 从小到大重新排序，
+ * 耗时低、拒绝多的校验先执行，不合法的请求用最少的时间被拒绝<br/>
+ * 当前顺序以不可变快照发布，执行时只读取一次快照，排序由一个线程完成，不影响正在执行的请求<br/>
+ * 开启指标统计或Handler阶段JFR事件时组内每个Handler单独记录指标和事件，见{@link #memberMetrics(HandlerMetrics[])}，都未开启时不记录
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 00:40
+ */
+public class AdaptiveCheckGroup<Request> implements CheckHandler<Request> {
+
+    /**
+     * 平均每8次执行抽样统计1次
+     */
+    private static final int SAMPLE_MASK = 7;
+    /**
+     * 平均每抽样128次(执行约1024次)重新排序1次
+     */
+    private static final int REORDER_SAMPLES = 128;
+    /**
+     * 每次排序时历史统计保留的权重，近期的统计影响更大
+     */
+    private static final double DECAY = 0.5;
+
+    private final List<Member<Request>> members;
+    private volatile Order<Request> order;
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    private final LongAdder reorders = new LongAdder();
+    /**
+     * 组内每个Handler的指标，与members一一对应，为null时只做抽样统计
+     */
+    private volatile HandlerMetrics[] memberMetrics;
+
+    /**
+     * @param handlers 校验Handler，初始按该顺序执行
+     */
+    public AdaptiveCheckGroup(List<? extends CheckHandler<Request>> handlers) {
+        List<Member<Request>> list = new ArrayList<>(handlers.size());
+        for (CheckHandler<Request> handler : handlers) {
+            list.add(new Member<>(handler, list.size()));
+        }
+        this.members = Collections.unmodifiableList(list);
+        this.order = new Order<>(list.toArray(new Member[0]));
+    }
+
+    /**
+     * 把责任链中连续的、标记了{@link Commutative}的校验Handler合并为一组，已有的组与相邻的校验Handler重新合并
+     *
+     * @param chain 责任链
+     * @return java.util.List<com.ej.chain.handlers.BaseHandler<Request>> 合并后的责任链
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 00:40
+     */
+    public static <Request> List<BaseHandler<Request>> group(List<BaseHandler<Request>> chain) {
+        List<BaseHandler<Request>> grouped = new LinkedList<>();
+        List<CheckHandler<Request>> run = new ArrayList<>();
+        for (BaseHandler<Request> handler : chain) {
+            if (handler instanceof AdaptiveCheckGroup) {
+                run.addAll(((AdaptiveCheckGroup<Request>) handler).getHandlers());
+            } else if (isCommutative(handler)) {
+                run.add((CheckHandler<Request>) handler);
+            } else {
+                flush(run, grouped);
+                grouped.add(handler);
+            }
+        }
+        flush(run, grouped);
+        return grouped;
+    }
+
+    private static <Request> void flush(List<CheckHandler<Request>> run, List<BaseHandler<Request>> grouped) {
+        if (run.size() == 1) {
+            grouped.add(run.get(0));
+        } else if (run.size() > 1) {
+            grouped.add(new AdaptiveCheckGroup<>(run));
+        }
+        run.clear();
+    }
+
+    private static boolean isCommutative(BaseHandler<?> handler) {
+        return handler instanceof CheckHandler && DelegatingHandler.unwrap(handler).getClass().isAnnotationPresent(Commutative.class);
+    }
+
+    /**
+     * 设置组内每个Handler的指标，由责任链管理类生成执行器时按指标和JFR事件配置调用，之后执行的请求生效
+     *
+     * @param memberMetrics 与{@link #getHandlers()}一一对应，为null时不记录组内Handler的指标
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 09:50
+     */
+    public void memberMetrics(HandlerMetrics[] memberMetrics) {
+        if (memberMetrics != null && memberMetrics.length != members.size()) {
+            throw new IllegalArgumentException("expected " + members.size() + " member metrics, but was " + memberMetrics.length);
+        }
+        this.memberMetrics = memberMetrics;
+    }
+
+    @Override
+    public void checkParams(Request request) {
+        ChainContext.Context context = ChainContext.current();
+        Member<Request>[] current = order.members;
+        HandlerMetrics[] metrics = memberMetrics;
+        boolean sampled = (ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) == 0;
+        if (!sampled && metrics == null) {
+            for (Member<Request> member : current) {
+                member.handler.checkParams(request);
+                if (context.isInterrupted()) {
+                    return;
+                }
+            }
+            return;
+        }
+        try {
+            for (Member<Request> member : current) {
+                if (!check(member, metrics == null ? null : metrics[member.index], sampled, request, context)) {
+                    return;
+                }
+            }
+        } finally {
+            if (sampled && ThreadLocalRandom.current().nextInt(REORDER_SAMPLES) == 0) {
+                reorder();
+            }
+        }
+    }
+
+    /**
+     * 执行组内的一个校验Handler，抽样时记录排序用的统计，有指标时记录该Handler的指标
+     *
+     * @return boolean 请求被拒绝时返回false
+     */
+    private boolean check(Member<Request> member, HandlerMetrics metrics, boolean sampled, Request request, ChainContext.Context context) {
+        long metricsStart = metrics == null ? 0L : metrics.start();
+        Object event = metrics == null ? null : metrics.event();
+        long start = sampled ? System.nanoTime() : 0L;
+        try {
+            member.handler.checkParams(request);
+        } catch (Throwable e) {
+            if (sampled && e instanceof ChainForcedInterruptException) {
+                member.record(System.nanoTime() - start, true);
+            }
+            if (metrics != null) {
+                metrics.recordFailure(Phase.CHECK_PARAMS, metricsStart, event, e);
+            }
+            throw e;
+        }
+        boolean rejected = context.isInterrupted();
+        if (sampled) {
+            member.record(System.nanoTime() - start, rejected);
+        }
+        if (metrics != null) {
+            metrics.record(Phase.CHECK_PARAMS, metricsStart, event, context);
+        }
+        return !rejected;
+    }
+
+    /**
+     * 按最近的统计重新排序，顺序变化时发布新的快照；同一时刻只有一个线程排序，其他线程直接返回
+     *
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 00:40
+     */
+    public void reorder() {
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (Member<Request> member : members) {
+                member.decay();
+            }
+            Member<Request>[] sorted = order.members.clone();
+            Arrays.sort(sorted, Comparator.comparingDouble(Member::rank));
+            if (!Arrays.equals(sorted, order.members)) {
+                order = new Order<>(sorted);
+                reorders.increment();
+            }
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    /**
+     * 当前的执行顺序
+     *
+     * @return java.util.List<com.ej.chain.handlers.CheckHandler<Request>> 不可变快照
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 00:40
+     */
+    public List<CheckHandler<Request>> getOrder() {
+        return order.handlers;
+    }
+
+    /**
+     * 组内的校验Handler，按注册顺序
+     */
+    public List<CheckHandler<Request>> getHandlers() {
+        List<CheckHandler<Request>> handlers = new ArrayList<>(members.size());
+        for (Member<Request> member : members) {
+            handlers.add(member.handler);
+        }
+        return Collections.unmodifiableList(handlers);
+    }
+
+    /**
+     * 执行顺序变化的次数
+     */
+    public long getReorders() {
+        return reorders.sum();
+    }
+
+    /**
+     * 执行顺序的不可变快照
+     */
+    private static final class Order<Request> {
+
+        final Member<Request>[] members;
+        final List<CheckHandler<Request>> handlers;
+
+        Order(Member<Request>[] members) {
+            this.members = members;
+            List<CheckHandler<Request>> list = new ArrayList<>(members.length);
+            for (Member<Request> member : members) {
+                list.add(member.handler);
+            }
+            this.handlers = Collections.unmodifiableList(list);
+        }
+    }
+
+    /**
+     * 组内一个校验Handler的统计，抽样的计数并发累加，衰减后的统计只由排序线程读写
+     */
+    private static final class Member<Request> {
+
+        final CheckHandler<Request> handler;
+        /**
+         * 注册顺序中的下标
+         */
+        final int index;
+        final LongAdder calls = new LongAdder();
+        final LongAdder rejections = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        private long lastCalls;
+        private long lastRejections;
+        private long lastNanos;
+        private double decayedCalls;
+        private double decayedRejections;
+        private double decayedNanos;
+        private double rank;
+
+        Member(CheckHandler<Request> handler, int index) {
+            this.handler = handler;
+            this.index = index;
+        }
+
+        void record(long elapsed, boolean rejected) {
+            calls.increment();
+            nanos.add(elapsed);
+            if (rejected) {
+                rejections.increment();
+            }
+        }
+
+        /**
+         * 把上次排序以来的计数并入衰减后的统计，重新计算排序值：平均耗时/拒绝率，拒绝率做平滑，没有统计的Handler排在最前面
+         */
+        void decay() {
+            long totalCalls = calls.sum();
+            long totalRejections = rejections.sum();
+            long totalNanos = nanos.sum();
+            decayedCalls = decayedCalls * DECAY + (totalCalls - lastCalls);
+            decayedRejections = decayedRejections * DECAY + (totalRejections - lastRejections);
+            decayedNanos = decayedNanos * DECAY + (totalNanos - lastNanos);
+            lastCalls = totalCalls;
+            lastRejections = totalRejections;
+            lastNanos = totalNanos;
+            if (decayedCalls < 1) {
+                rank = 0;
+                return;
+            }
+            double cost = decayedNanos / decayedCalls;
+            double rejectionRate = (decayedRejections + 0.5) / (decayedCalls + 1);
+            rank = cost / rejectionRate;
+        }
+
+        double rank() {
+            return rank;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ej.chain.annotation;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 限制业务Handler的并发执行数，用在Handler类上<br/>
+ * 注册到{@link com.ej.chain.manages.AbstractManage}时包装为{@link com.ej.chain.resilience.BulkheadProcessHandler}，
+ * 并发数已满时不等待，直接中断责任链并返回提示信息
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:35
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface Bulkhead {
+
+    /**
+     * 最大并发执行数
+     */
+    int value();
+
+    /**
+     * 并发数已满时的返回码，为空时使用{@link com.ej.chain.manages.AbstractManage}的rejectedCode
+     */
+    String code() default "";
+
+    /**
+     * 并发数已满时的返回描述，为空时使用{@link com.ej.chain.manages.AbstractManage}的rejectedMsg
+     */
+    String msg() default "";
+}
@@ -0,0 +1,68 @@
+package com.ej.chain.annotation;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 业务Handler的熔断，用在Handler类上<br/>
+ * 注册到{@link com.ej.chain.manages.AbstractManage}时包装为{@link com.ej.chain.resilience.CircuitBreakerProcessHandler}，
+ * 统计窗口内的失败率或慢调用率达到阈值后熔断，熔断期间不调用Handler，直接中断责任链并返回提示信息；
+ * 熔断时间结束后放行少量调用试探，全部成功后恢复
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:35
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface CircuitBreaker {
+
+    /**
+     * 失败率阈值，百分比，抛出异常(业务拒绝除外)和超时记为失败
+     */
+    int failureRate() default 50;
+
+    /**
+     * 慢调用率阈值，百分比，大于100时不按慢调用熔断
+     */
+    int slowCallRate() default 101;
+
+    /**
+     * 耗时达到该值的调用记为慢调用，毫秒
+     */
+    long slowCallMillis() default 1000L;
+
+    /**
+     * 统计窗口，毫秒
+     */
+    long windowMillis() default 10000L;
+
+    /**
+     * 统计窗口内调用次数达到该值才计算失败率和慢调用率
+     */
+    int minimumCalls() default 20;
+
+    /**
+     * 熔断时间，毫秒
+     */
+    long openMillis() default 5000L;
+
+    /**
+     * 熔断时间结束后放行试探的调用次数
+     */
+    int halfOpenCalls() default 5;
+
+    /**
+     * 熔断时的返回码，为空时使用{@link com.ej.chain.manages.AbstractManage}的rejectedCode
+     */
+    String code() default "";
+
+    /**
+     * 熔断时的返回描述，为空时使用{@link com.ej.chain.manages.AbstractManage}的rejectedMsg
+     */
+    String msg() default "";
+}
@@ -0,0 +1,22 @@
+package com.ej.chain.annotation;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记校验Handler与其他标记了该注解的校验Handler之间没有依赖，执行顺序不影响结果，用在Handler类上<br/>
+ * 开启{@link com.ej.chain.manages.AbstractManage#adaptiveCheckOrder()}后，连续注册的此类校验Handler合并为
+ * {@link com.ej.chain.adaptive.AdaptiveCheckGroup}，按运行时统计的耗时和拒绝率调整执行顺序
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 00:40
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface Commutative {
+}
@@ -5,10 +5,23 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * 标识Handler类，由{@link com.ej.chain.registry.HandlerRegistry}扫描
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 21:10
+ */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Handler {
+
+    /**
+     * Handler名称，为空时使用首字母小写的类名
+     */
     String value() default "";
 
+    /**
+     * 是否单例，抽象Handler的单例与{@link com.ej.chain.proxy.ProxyHandlerFactory}共用
+     */
     boolean singleton() default true;
 }
@@ -0,0 +1,21 @@
+package com.ej.chain.annotation;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记业务Handler的process可以重复执行，重复执行不会产生额外的业务影响，用在Handler类上<br/>
+ * 只有标记了该注解的Handler才能使用{@link com.ej.chain.hedge.HedgedProcessHandler}对冲执行；注解可以被子类(如代理类)继承
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:15
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface Idempotent {
+}
@@ -0,0 +1,22 @@
+package com.ej.chain.annotation;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记业务Handler除了通过{@link FromContext}、{@link ToContext}声明的key读写上下文之外没有其他副作用(不调用下游、不写库等)，用在Handler类上<br/>
+ * 开启{@link com.ej.chain.manages.AbstractManage#parallel()}后，只有校验Handler和标记了该注解的业务Handler可以与其他Handler并行执行；
+ * 未标记的业务Handler按顺序执行，前面的Handler中断时不会执行
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 11:00
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface SideEffectFree {
+}
@@ -0,0 +1,237 @@
+package com.ej.chain.batch;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.BatchProcessHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 跨线程攒批的业务Handler，把不同线程上同时执行的单个请求合并为一批，调用一次{@link BatchProcessHandler}的批量方法<br/>
+ * 没有正在攒的批次时，当前线程开启一个批次并等待攒批时间(不超过自己的截止时间)或批次满，然后在当前线程执行整批；
+ * 其他线程加入批次后等待批次执行完成。每个请求的结果通过对应下标的上下文写入自己的上下文，调用方不需要改动<br/>
+ * 重复判断与业务处理在同一批次中完成，{@link #duplicated(Object)}始终返回false；批次中的一个请求被判定为重复或已中断时只跳过该请求<br/>
+ * 批量执行责任链时已经是一批请求，批量方法直接调用被包装Handler的批量方法，不再攒批
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:58
+ */
+public class MicroBatchProcessHandler<Request> implements BatchProcessHandler<Request>, DelegatingHandler<Request> {
+
+    private final BatchProcessHandler<Request> delegate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Object lock = new Object();
+    /**
+     * 正在攒的批次，由lock保护
+     */
+    private Batch<Request> open;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedRequests = new LongAdder();
+
+    /**
+     * @param delegate     批量业务Handler
+     * @param maxBatchSize 批次的最大请求数，达到后立即执行
+     * @param maxDelay     开启批次的线程最多等待的攒批时间
+     * @param unit         时间单位
+     */
+    public MicroBatchProcessHandler(BatchProcessHandler<Request> delegate, int maxBatchSize, long maxDelay, TimeUnit unit) {
+        if (maxBatchSize <= 0 || maxDelay < 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive and maxDelay can't be negative, but were " + maxBatchSize + " and " + maxDelay);
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+    }
+
+    /**
+     * 包装批量业务Handler
+     *
+     * @param delegate     批量业务Handler
+     * @param maxBatchSize 批次的最大请求数
+     * @param maxDelay     最多等待的攒批时间，通常为下游单次调用耗时的一小部分
+     * @param unit         时间单位
+     * @return com.ej.chain.batch.MicroBatchProcessHandler<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:58
+     */
+    public static <Request> MicroBatchProcessHandler<Request> of(BatchProcessHandler<Request> delegate, int maxBatchSize, long maxDelay, TimeUnit unit) {
+        return new MicroBatchProcessHandler<>(delegate, maxBatchSize, maxDelay, unit);
+    }
+
+    @Override
+    public boolean duplicated(Request request) {
+        return false;
+    }
+
+    @Override
+    public boolean[] duplicated(List<Request> requests, List<ChainContext.Context> contexts) {
+        return delegate.duplicated(requests, contexts);
+    }
+
+    @Override
+    public void process(List<Request> requests, List<ChainContext.Context> contexts) {
+        delegate.process(requests, contexts);
+    }
+
+    @Override
+    public void process(Request request) {
+        ChainContext.Context context = ChainContext.current();
+        Batch<Request> batch;
+        int index;
+        boolean leader = false;
+        synchronized (lock) {
+            if (open == null) {
+                open = new Batch<>(maxBatchSize);
+                leader = true;
+            }
+            batch = open;
+            index = batch.requests.size();
+            batch.requests.add(request);
+            batch.contexts.add(context);
+            if (batch.requests.size() >= maxBatchSize) {
+                open = null;
+                lock.notifyAll();
+            }
+        }
+        if (leader) {
+            collect(batch, Math.min(maxDelayNanos, context.remainingNanos()));
+            execute(batch);
+        } else {
+            batch.await();
+        }
+        Throwable failure = batch.failures[index];
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+    }
+
+    /**
+     * 等待其他线程加入批次，批次满或到达攒批时间后关闭批次
+     */
+    private void collect(Batch<Request> batch, long delayNanos) {
+        long deadline = System.nanoTime() + delayNanos;
+        boolean interrupted = false;
+        synchronized (lock) {
+            long remaining;
+            while (open == batch && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    break;
+                }
+            }
+            if (open == batch) {
+                open = null;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 与批量执行责任链相同，批量判断是否重复，对未中断且不重复的请求批量处理；批量方法抛出异常时批次中的请求都按该异常处理
+     */
+    private void execute(Batch<Request> batch) {
+        List<Request> requests = batch.requests;
+        List<ChainContext.Context> contexts = batch.contexts;
+        batch.failures = new Throwable[requests.size()];
+        batches.increment();
+        batchedRequests.add(requests.size());
+        try {
+            boolean[] duplicated = delegate.duplicated(requests, contexts);
+            if (duplicated.length != requests.size()) {
+                throw new IllegalStateException(delegate.getClass().getName() + " returned " + duplicated.length + " duplicated flags for " + requests.size() + " requests");
+            }
+            List<Request> processing = new ArrayList<>(requests.size());
+            List<ChainContext.Context> processingContexts = new ArrayList<>(requests.size());
+            List<Integer> indexes = new ArrayList<>(requests.size());
+            for (int idx = 0; idx < duplicated.length; idx++) {
+                if (!duplicated[idx] && !contexts.get(idx).isInterrupted()) {
+                    processing.add(requests.get(idx));
+                    processingContexts.add(contexts.get(idx));
+                    indexes.add(idx);
+                }
+            }
+            if (!processing.isEmpty()) {
+                try {
+                    delegate.process(processing, processingContexts);
+                } catch (Throwable e) {
+                    for (int idx : indexes) {
+                        batch.failures[idx] = e;
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            for (int idx = 0; idx < requests.size(); idx++) {
+                batch.failures[idx] = e;
+            }
+        } finally {
+            batch.done.countDown();
+        }
+    }
+
+    /**
+     * 执行过的批次数
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * 通过批次执行的请求数，除以批次数为平均批次大小
+     */
+    public long getBatchedRequests() {
+        return batchedRequests.sum();
+    }
+
+    @Override
+    public BaseHandler<Request> delegate() {
+        return delegate;
+    }
+
+    private static final class Batch<Request> {
+
+        final List<Request> requests;
+        final List<ChainContext.Context> contexts;
+        /**
+         * 执行批次时创建，执行完成后读取
+         */
+        Throwable[] failures;
+        final CountDownLatch done = new CountDownLatch(1);
+
+        Batch(int maxBatchSize) {
+            this.requests = new ArrayList<>(Math.min(maxBatchSize, 64));
+            this.contexts = new ArrayList<>(Math.min(maxBatchSize, 64));
+        }
+
+        /**
+         * 批次执行时会写入上下文，必须等到执行完成才能返回，中断不提前返回
+         */
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.ej.chain.cache;
+
+import com.ej.chain.dto.BaseResponse;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 责任链返回值缓存，通过{@link com.ej.chain.manages.AbstractManage#cache(java.util.function.Function, ResultCache)}设置<br/>
+ * 按最近访问时间近似淘汰(采样LRU)：命中时不加锁，只记录访问时间；超过条数上限或占用内存上限时从表中依次采样若干条记录，
+ * 淘汰其中最久未访问的，超过有效时间的记录不再返回；
+ * 同一个key同时只有一次执行，其他调用等待该次执行的返回值(single-flight)；该次执行异常结束时等待的调用自己执行，
+ * 执行过程中同一线程重入查询同一个key时直接执行，不等待自己<br/>
+ * 每次返回的都是新的BaseResponse对象，业务数据对象是共享的，调用方不能修改
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:55
+ */
+public class ResultCache<Data> {
+
+    /**
+     * 每条记录除提示信息和业务数据外的估算内存：ConcurrentHashMap节点、记录对象和BaseResponse
+     */
+    private static final long ENTRY_OVERHEAD = 112L;
+    /**
+     * 每淘汰一条记录采样的记录数
+     */
+    private static final int EVICTION_SAMPLES = 8;
+    /**
+     * 访问时间的精度，同一条记录在该时间内的多次命中只更新一次访问时间，热点记录的命中不反复写同一个缓存行
+     */
+    private static final long ACCESS_GRANULARITY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final ToLongFunction<BaseResponse<Data>> weigher;
+    private final ConcurrentHashMap<Object, Entry<Data>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, Flight<Data>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong weight = new AtomicLong();
+    /**
+     * 时钟，返回System.nanoTime()的值
+     */
+    private final LongSupplier clock;
+    /**
+     * 淘汰采样的位置，依次遍历整个表，到结尾后从头开始；只在淘汰时持有锁访问
+     */
+    private Iterator<Map.Entry<Object, Entry<Data>>> evictionHand;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 只限制条数，按提示信息长度估算占用内存
+     *
+     * @param maxEntries 最多保存的记录数
+     * @param ttl        记录的有效时间，小于等于0时不过期
+     * @param unit       时间单位
+     */
+    public ResultCache(int maxEntries, long ttl, TimeUnit unit) {
+        this(maxEntries, Long.MAX_VALUE, response -> 0L, ttl, unit);
+    }
+
+    /**
+     * @param maxEntries 最多保存的记录数
+     * @param maxWeight  最多占用的内存，字节
+     * @param weigher    估算一个返回值中业务数据占用的内存，字节
+     * @param ttl        记录的有效时间，小于等于0时不过期
+     * @param unit       时间单位
+     */
+    public ResultCache(int maxEntries, long maxWeight, ToLongFunction<BaseResponse<Data>> weigher, long ttl, TimeUnit unit) {
+        this(maxEntries, maxWeight, weigher, ttl, unit, System::nanoTime);
+    }
+
+    /**
+     * 使用指定时钟的缓存，测试时用来控制时间
+     *
+     * @param clock 返回纳秒时间，与System.nanoTime()语义相同
+     */
+    ResultCache(int maxEntries, long maxWeight, ToLongFunction<BaseResponse<Data>> weigher, long ttl, TimeUnit unit, LongSupplier clock) {
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("maxEntries and maxWeight must be positive, but were " + maxEntries + " and " + maxWeight);
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.ttlNanos = ttl <= 0 ? 0L : unit.toNanos(ttl);
+        this.clock = clock;
+    }
+
+    /**
+     * 查询缓存，没有时执行loader；同一个key正在执行时等待该次执行的返回值，该次执行异常结束或由当前线程重入时直接执行loader
+     *
+     * @param key       请求的key
+     * @param loader    执行责任链
+     * @param cacheable 返回值是否可以缓存
+     * @return com.ej.chain.dto.BaseResponse<Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:55
+     */
+    public BaseResponse<Data> get(Object key, Supplier<BaseResponse<Data>> loader, Predicate<BaseResponse<Data>> cacheable) {
+        BaseResponse<Data> cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        Flight<Data> flight = new Flight<>();
+        Flight<Data> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return await(leader, loader);
+        }
+        cached = lookupAfterClaim(key, flight);
+        if (cached != null) {
+            return cached;
+        }
+        misses.increment();
+        flight.loader = Thread.currentThread();
+        try {
+            BaseResponse<Data> response = loader.get();
+            if (cacheable.test(response)) {
+                put(key, response);
+            }
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flight.loader = null;
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 等待同一个key正在进行的执行<br/>
+     * 当前线程就是执行者(loader中重入查询同一个key)时等待会死锁，直接执行；执行者异常结束时异常不传给等待方，等待方自己执行
+     */
+    private BaseResponse<Data> await(Flight<Data> leader, Supplier<BaseResponse<Data>> loader) {
+        if (leader.loader == Thread.currentThread()) {
+            misses.increment();
+            return loader.get();
+        }
+        BaseResponse<Data> response;
+        try {
+            response = leader.join();
+        } catch (CompletionException | CancellationException e) {
+            misses.increment();
+            return loader.get();
+        }
+        coalesced.increment();
+        return copyOf(response);
+    }
+
+    /**
+     * 异步查询缓存，没有时执行loader；同一个key正在执行时返回该次执行的返回值，该次执行异常结束时执行loader
+     *
+     * @param key       请求的key
+     * @param loader    异步执行责任链
+     * @param cacheable 返回值是否可以缓存
+     * @return java.util.concurrent.CompletableFuture<com.ej.chain.dto.BaseResponse<Data>>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:55
+     */
+    public CompletableFuture<BaseResponse<Data>> getAsync(Object key, Supplier<CompletableFuture<BaseResponse<Data>>> loader, Predicate<BaseResponse<Data>> cacheable) {
+        BaseResponse<Data> cached = getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        Flight<Data> flight = new Flight<>();
+        Flight<Data> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return leader.handle((response, e) -> {
+                if (e != null) {
+                    misses.increment();
+                    return loader.get();
+                }
+                coalesced.increment();
+                return CompletableFuture.completedFuture(copyOf(response));
+            }).thenCompose(future -> future);
+        }
+        cached = lookupAfterClaim(key, flight);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        misses.increment();
+        CompletableFuture<BaseResponse<Data>> load;
+        flight.loader = Thread.currentThread();
+        try {
+            load = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flight.loader = null;
+        }
+        return load.whenComplete((response, e) -> {
+            if (e == null && cacheable.test(response)) {
+                put(key, response);
+            }
+            inFlight.remove(key, flight);
+            if (e == null) {
+                flight.complete(response);
+            } else {
+                flight.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * 查询未过期的缓存
+     *
+     * @param key 请求的key
+     * @return com.ej.chain.dto.BaseResponse<Data> 没有时返回null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:55
+     */
+    public BaseResponse<Data> getIfPresent(Object key) {
+        BaseResponse<Data> cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * 成为执行者之前，上一次执行可能刚写入缓存并结束，需要再查询一次
+     */
+    private BaseResponse<Data> lookupAfterClaim(Object key, Flight<Data> flight) {
+        BaseResponse<Data> cached = getIfPresent(key);
+        if (cached != null) {
+            inFlight.remove(key, flight);
+            flight.complete(cached);
+        }
+        return cached;
+    }
+
+    private BaseResponse<Data> lookup(Object key) {
+        Entry<Data> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        if (ttlNanos > 0 && now - entry.expireAt >= 0) {
+            remove(key, entry);
+            return null;
+        }
+        if (now - entry.accessedAt > ACCESS_GRANULARITY_NANOS) {
+            entry.accessedAt = now;
+        }
+        return copyOf(entry.response);
+    }
+
+    /**
+     * 保存返回值，保存的是副本，调用方之后修改返回值不影响缓存
+     *
+     * @param key      请求的key
+     * @param response 返回值
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:55
+     */
+    public void put(Object key, BaseResponse<Data> response) {
+        long now = clock.getAsLong();
+        Entry<Data> entry = new Entry<>(copyOf(response), now + ttlNanos, weightOf(response), now);
+        Entry<Data> replaced = entries.put(key, entry);
+        weight.addAndGet(replaced == null ? entry.weight : entry.weight - replaced.weight);
+        if (entries.size() > maxEntries || weight.get() > maxWeight) {
+            evict();
+        }
+    }
+
+    /**
+     * 淘汰记录直到不超过上限：每次采样若干条记录，淘汰其中最久未访问的
+     *
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:20
+     */
+    private synchronized void evict() {
+        while (entries.size() > maxEntries || weight.get() > maxWeight) {
+            Object victimKey = null;
+            Entry<Data> victim = null;
+            for (int sample = 0; sample < EVICTION_SAMPLES; sample++) {
+                if (evictionHand == null || !evictionHand.hasNext()) {
+                    evictionHand = entries.entrySet().iterator();
+                    if (!evictionHand.hasNext()) {
+                        break;
+                    }
+                }
+                Map.Entry<Object, Entry<Data>> candidate = evictionHand.next();
+                if (victim == null || candidate.getValue().accessedAt - victim.accessedAt < 0) {
+                    victimKey = candidate.getKey();
+                    victim = candidate.getValue();
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            if (remove(victimKey, victim)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 删除缓存，业务数据变化后调用
+     *
+     * @param key 请求的key
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:55
+     */
+    public void invalidate(Object key) {
+        Entry<Data> removed = entries.remove(key);
+        if (removed != null) {
+            weight.addAndGet(-removed.weight);
+        }
+    }
+
+    public void clear() {
+        for (Object key : entries.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    /**
+     * 只删除指定的记录，记录已经被替换或删除时不做处理
+     */
+    private boolean remove(Object key, Entry<Data> entry) {
+        if (entries.remove(key, entry)) {
+            weight.addAndGet(-entry.weight);
+            return true;
+        }
+        return false;
+    }
+
+    private long weightOf(BaseResponse<Data> response) {
+        return ENTRY_OVERHEAD + lengthOf(response.getResponseCode()) + lengthOf(response.getResponseMsg()) + weigher.applyAsLong(response);
+    }
+
+    private static long lengthOf(String value) {
+        return value == null ? 0L : 40L + 2L * value.length();
+    }
+
+    private static <Data> BaseResponse<Data> copyOf(BaseResponse<Data> response) {
+        BaseResponse<Data> copy = new BaseResponse<>();
+        copy.setResponseCode(response.getResponseCode());
+        copy.setResponseMsg(response.getResponseMsg());
+        copy.setData(response.getData());
+        return copy;
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * 估算的占用内存，字节
+     */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 等待同一个key正在进行的执行而没有重复执行的次数
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * 一个key正在进行的执行
+     */
+    private static final class Flight<Data> extends CompletableFuture<BaseResponse<Data>> {
+
+        /**
+         * 正在同步执行loader的线程，用于识别重入
+         */
+        volatile Thread loader;
+    }
+
+    private static final class Entry<Data> {
+
+        final BaseResponse<Data> response;
+        final long expireAt;
+        final long weight;
+        /**
+         * 最近访问时间，只用于近似淘汰，不要求与其他字段同步可见
+         */
+        volatile long accessedAt;
+
+        Entry(BaseResponse<Data> response, long expireAt, long weight, long accessedAt) {
+            this.response = response;
+            this.expireAt = expireAt;
+            this.weight = weight;
+            this.accessedAt = accessedAt;
+        }
+    }
+}
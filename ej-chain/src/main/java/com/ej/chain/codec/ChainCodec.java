@@ -0,0 +1,38 @@
+package com.ej.chain.codec;
+
+import com.ej.chain.dto.BaseResponse;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 请求与返回值的字节编解码，通过{@link com.ej.chain.manages.AbstractManage#codec(ChainCodec)}设置<br/>
+ * 直接从ByteBuffer解析请求、把返回值直接写入ByteBuffer，不经过String，ByteBuffer可以是堆外内存
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:20
+ */
+public interface ChainCodec<Request, Data> {
+
+    /**
+     * 从buffer的position到limit之间解析请求，解析后position移到已读取的位置
+     *
+     * @param buffer 请求数据，不能在返回后继续持有
+     * @return Request
+     * @throws Exception 数据不合法时，抛出{@link com.ej.chain.exception.ChainForcedInterruptException}时按业务拒绝返回
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:20
+     */
+    Request decode(ByteBuffer buffer) throws Exception;
+
+    /**
+     * 把返回值从target的position开始写入，写入后position移到写入结束的位置
+     *
+     * @param response 返回值
+     * @param target   调用方提供的ByteBuffer
+     * @return boolean 剩余空间不够时返回false，此时target的position不变
+     * @throws Exception 返回值无法编码时
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:20
+     */
+    boolean encode(BaseResponse<Data> response, ByteBuffer target) throws Exception;
+}
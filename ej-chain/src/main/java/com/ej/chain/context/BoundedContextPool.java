@@ -0,0 +1,53 @@
+package com.ej.chain.context;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 有容量上限的共享上下文池，获取和归还都是对数组槽位的CAS，不分配对象<br/>
+ * 从随机位置开始查找，线程之间很少争用同一个槽位；池空时创建新的上下文，池满时丢弃归还的上下文
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 21:20
+ */
+public class BoundedContextPool implements ContextPool {
+
+    private final AtomicReferenceArray<ChainContext.Context> slots;
+
+    /**
+     * @param capacity 最多缓存的上下文数量，一般与并发执行数相当
+     */
+    public BoundedContextPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public ChainContext.Context acquire() {
+        int length = slots.length();
+        int start = ThreadLocalRandom.current().nextInt(length);
+        for (int idx = 0; idx < length; idx++) {
+            int slot = (start + idx) % length;
+            ChainContext.Context context = slots.get(slot);
+            if (context != null && slots.compareAndSet(slot, context, null)) {
+                return context;
+            }
+        }
+        return ChainContext.newContext();
+    }
+
+    @Override
+    public void release(ChainContext.Context context) {
+        context.reset();
+        int length = slots.length();
+        int start = ThreadLocalRandom.current().nextInt(length);
+        for (int idx = 0; idx < length; idx++) {
+            int slot = (start + idx) % length;
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, context)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,888 @@
+package com.ej.chain.context;
+
+import com.ej.chain.dto.BaseResponse;
+import com.ej.chain.dto.Signal;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 责任链上下文
+ *
+ * @author: Evan·Jiang
+ * @date: 2020/4/14 15:19
+ */
+public class ChainContext {
+
+    /**
+     * 线程上下文映射，默认的上下文存储方式，也用于在责任链之外通过{@link #bind(Context)}直接使用上下文的场景
+     */
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+    /**
+     * 默认的上下文存储，同步执行时绑定当前线程，异步执行时由执行器在每一步绑定到执行该步的线程
+     */
+    private static final ContextStorage THREAD_LOCAL_STORAGE = new ContextStorage() {
+        @Override
+        public Context get() {
+            return CONTEXT.get();
+        }
+
+        @Override
+        public void runWith(Context context, Runnable action) {
+            Context previous = CONTEXT.get();
+            CONTEXT.set(context);
+            try {
+                action.run();
+            } finally {
+                //恢复为null时不remove，保留ThreadLocalMap中的Entry，下一次绑定不再分配
+                CONTEXT.set(previous);
+            }
+        }
+    };
+
+    /**
+     * 当前使用的上下文存储
+     */
+    private static volatile ContextStorage storage = THREAD_LOCAL_STORAGE;
+
+    /**
+     * 临时变量key与槽位的映射，key在生成代理类时确定槽位，之后按槽位下标直接访问
+     */
+    private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+
+    /**
+     * 已分配的槽位数量
+     */
+    private static volatile int slotCount;
+
+    /**
+     * 上下文封装类，封装临时变量、中断信号、返回值等等<br/>
+     * 异步执行时上下文随执行传递，异步回调中通过上下文对象本身的方法读写，不依赖当前线程
+     *
+     * @author: Evan·Jiang
+     * @date: 2020/4/14 15:21
+     */
+    public static final class Context {
+        private BaseResponse baseResponse = new BaseResponse();
+        private Object[] temporaryArgs = new Object[slotCount];
+        /**
+         * 基本类型临时变量，与temporaryArgs按槽位对应，temporaryArgs中对应槽位为{@link PrimitiveMark}时有效；第一次保存基本类型时分配
+         */
+        private long[] primitiveArgs;
+        /**
+         * 通过{@link #fork()}创建时的临时变量快照，合并时据此判断分支改变过的临时变量；
+         * 通过{@link #branch()}创建的分支在共享数组容量不够、改用私有副本时记录副本的快照
+         */
+        private Object[] forkedArgs;
+        private long[] forkedPrimitiveArgs;
+        /**
+         * 是否通过{@link #branch()}创建
+         */
+        private boolean branched;
+        private boolean interrupted = Boolean.FALSE;
+        /**
+         * 截止时间，System.nanoTime()的值，hasDeadline为false时无效
+         */
+        private long deadline;
+        private boolean hasDeadline;
+        private boolean timedOut;
+
+        private Context() {
+        }
+
+        /**
+         * 判断责任链是否要终止，供执行器在同一次执行中直接读取，避免重复查找ThreadLocal<br/>
+         * 设置了截止时间且已超时时，按超时提示信息中断
+         *
+         * @return boolean
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 10:12
+         */
+        public boolean isInterrupted() {
+            if (!interrupted && hasDeadline && System.nanoTime() - deadline >= 0) {
+                timeout();
+            }
+            return interrupted;
+        }
+
+        /**
+         * 设置截止时间，执行器在每个Handler执行前后检查，超时后不再执行后续Handler
+         *
+         * @param deadline 截止时间，System.nanoTime()的值
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 22:55
+         */
+        public void deadline(long deadline) {
+            this.deadline = deadline;
+            this.hasDeadline = true;
+        }
+
+        /**
+         * 清除截止时间
+         *
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 22:55
+         */
+        public void clearDeadline() {
+            this.hasDeadline = false;
+        }
+
+        public boolean hasDeadline() {
+            return hasDeadline;
+        }
+
+        /**
+         * 获取截止时间，没有截止时间时无意义
+         *
+         * @return long System.nanoTime()的值
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 22:55
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * 获取剩余时间，Handler可以据此设置下游调用的超时时间
+         *
+         * @return long 纳秒，已超时时小于等于0，没有截止时间时为Long.MAX_VALUE
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 22:55
+         */
+        public long remainingNanos() {
+            return hasDeadline ? deadline - System.nanoTime() : Long.MAX_VALUE;
+        }
+
+        /**
+         * 按超时中断责任链，已经中断时不改变返回值；超时提示信息由{@link com.ej.chain.manages.AbstractManage}在组装返回值时设置
+         *
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 22:55
+         */
+        public void timeout() {
+            if (interrupted) {
+                return;
+            }
+            timedOut = true;
+            injectTips(null, null);
+        }
+
+        /**
+         * 判断责任链是否因超时中断
+         *
+         * @return boolean
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 22:55
+         */
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        /**
+         * 按Handler返回的信号设置中断标识和返回值
+         *
+         * @param signal Handler返回的信号
+         * @return boolean 是否中断
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 18:45
+         */
+        public boolean apply(Signal signal) {
+            switch (signal.getType()) {
+                case CONTINUE:
+                    return interrupted;
+                case SKIP:
+                    interrupted = Boolean.TRUE;
+                    return true;
+                case TIPS:
+                    injectTips(signal.getResponseCode(), signal.getResponseMsg());
+                    return true;
+                default:
+                    injectData(signal.getData());
+                    return true;
+            }
+        }
+
+        /**
+         * 创建与当前上下文共享临时变量的分支上下文，供并行执行的Handler使用<br/>
+         * 分支各自记录中断信号和返回值，执行结束后通过{@link #merge(Context)}合并；
+         * 分支写入创建分支之后才分配的槽位时，共享数组容量不够，分支改用私有副本，合并时写回副本中改变过的临时变量
+         *
+         * @return com.ej.chain.context.ChainContext.Context
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 16:10
+         */
+        public Context branch() {
+            if (temporaryArgs.length < slotCount) {
+                temporaryArgs = Arrays.copyOf(temporaryArgs, slotCount);
+            }
+            if (primitiveArgs == null || primitiveArgs.length < temporaryArgs.length) {
+                primitiveArgs = primitiveArgs == null ? new long[temporaryArgs.length] : Arrays.copyOf(primitiveArgs, temporaryArgs.length);
+            }
+            Context branch = new Context();
+            branch.temporaryArgs = temporaryArgs;
+            branch.primitiveArgs = primitiveArgs;
+            branch.branched = true;
+            branch.deadline = deadline;
+            branch.hasDeadline = hasDeadline;
+            return branch;
+        }
+
+        /**
+         * 合并分支上下文的中断信号和返回值，分支未中断时不做处理；分支改用了私有副本时先写回分支改变过的临时变量
+         *
+         * @param branch 通过{@link #branch()}创建的分支上下文
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 16:10
+         */
+        public void merge(Context branch) {
+            if (branch.branched && branch.forkedArgs != null) {
+                writeBack(branch);
+            }
+            if (!branch.interrupted) {
+                return;
+            }
+            interrupted = Boolean.TRUE;
+            timedOut = branch.timedOut;
+            baseResponse.setData(branch.baseResponse.getData());
+            baseResponse.setResponseMsg(branch.baseResponse.getResponseMsg());
+            baseResponse.setResponseCode(branch.baseResponse.getResponseCode());
+        }
+
+        /**
+         * 创建与当前上下文隔离的分支上下文，复制当前的临时变量，之后的读写互不影响<br/>
+         * 分支的结果通过{@link #join(Context)}合并，不合并时分支的写入全部丢弃
+         *
+         * @return com.ej.chain.context.ChainContext.Context
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 23:15
+         */
+        public Context fork() {
+            Context fork = new Context();
+            Object[] args = temporaryArgs.length < slotCount ? Arrays.copyOf(temporaryArgs, slotCount) : temporaryArgs.clone();
+            fork.forkedArgs = args;
+            fork.temporaryArgs = args.clone();
+            if (primitiveArgs != null) {
+                fork.forkedPrimitiveArgs = Arrays.copyOf(primitiveArgs, args.length);
+                fork.primitiveArgs = fork.forkedPrimitiveArgs.clone();
+            }
+            fork.deadline = deadline;
+            fork.hasDeadline = hasDeadline;
+            return fork;
+        }
+
+        /**
+         * 合并通过{@link #fork()}创建的分支上下文：只写回分支中改变过的临时变量，再按{@link #merge(Context)}合并中断信号和返回值
+         *
+         * @param fork 通过{@link #fork()}创建的分支上下文
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 23:15
+         */
+        public void join(Context fork) {
+            writeBack(fork);
+            merge(fork);
+        }
+
+        /**
+         * 写回分支中与快照相比改变过的临时变量
+         */
+        private void writeBack(Context fork) {
+            Object[] args = fork.temporaryArgs;
+            Object[] forkedArgs = fork.forkedArgs;
+            long[] primitives = fork.primitiveArgs;
+            long[] forkedPrimitives = fork.forkedPrimitiveArgs;
+            for (int slot = 0; slot < args.length; slot++) {
+                Object arg = args[slot];
+                boolean forked = slot < forkedArgs.length;
+                if (arg instanceof PrimitiveMark) {
+                    long bits = primitives[slot];
+                    if (!forked || arg != forkedArgs[slot] || forkedPrimitives == null || bits != forkedPrimitives[slot]) {
+                        injectPrimitive(slot, (PrimitiveMark) arg, bits);
+                    }
+                } else if (!forked || arg != forkedArgs[slot]) {
+                    injectTemporaryArgs(slot, arg);
+                }
+            }
+        }
+
+        /**
+         * 重置上下文以便复用：清空临时变量和中断标识，返回值换成新对象，已经返回给调用方的返回值不受影响
+         *
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 21:20
+         */
+        void reset() {
+            Arrays.fill(temporaryArgs, null);
+            interrupted = Boolean.FALSE;
+            hasDeadline = false;
+            timedOut = false;
+            baseResponse = new BaseResponse();
+        }
+
+        /**
+         * 获取上下文中的返回值
+         *
+         * @return com.ej.chain.dto.BaseResponse
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 14:02
+         */
+        public BaseResponse baseResponse() {
+            return baseResponse;
+        }
+
+        /**
+         * 保存某个临时变量到上下文中
+         *
+         * @param key 临时变量名称
+         * @param arg 临时变量值
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 14:02
+         */
+        public void injectTemporaryArgs(String key, Object arg) {
+            injectTemporaryArgs(slotOf(key), arg);
+        }
+
+        /**
+         * 按槽位保存某个临时变量到上下文中
+         *
+         * @param slot 临时变量槽位
+         * @param arg  临时变量值
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 14:02
+         */
+        public void injectTemporaryArgs(int slot, Object arg) {
+            if (slot >= temporaryArgs.length) {
+                grow(slot);
+            }
+            temporaryArgs[slot] = arg;
+        }
+
+        /**
+         * 从上下文中获取某个临时变量
+         *
+         * @param key 临时变量名称
+         * @return java.lang.Object
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 14:02
+         */
+        public Object extractTemporaryArgs(String key) {
+            Integer slot = SLOTS.get(key);
+            return slot == null ? null : extractTemporaryArgs(slot.intValue());
+        }
+
+        /**
+         * 按槽位从上下文中获取某个临时变量
+         *
+         * @param slot 临时变量槽位
+         * @return java.lang.Object
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 14:02
+         */
+        public Object extractTemporaryArgs(int slot) {
+            Object[] args = temporaryArgs;
+            Object arg = slot < args.length ? args[slot] : null;
+            return arg instanceof PrimitiveMark ? ((PrimitiveMark) arg).box(primitiveArgs[slot]) : arg;
+        }
+
+        /**
+         * 按槽位保存long类型的临时变量，不装箱
+         *
+         * @param slot 临时变量槽位
+         * @param arg  临时变量值
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 21:35
+         */
+        public void injectLong(int slot, long arg) {
+            injectPrimitive(slot, PrimitiveMark.LONG, arg);
+        }
+
+        /**
+         * 按槽位保存int类型的临时变量，不装箱
+         *
+         * @param slot 临时变量槽位
+         * @param arg  临时变量值
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 21:35
+         */
+        public void injectInt(int slot, int arg) {
+            injectPrimitive(slot, PrimitiveMark.INT, arg);
+        }
+
+        /**
+         * 按槽位保存double类型的临时变量，不装箱
+         *
+         * @param slot 临时变量槽位
+         * @param arg  临时变量值
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 21:35
+         */
+        public void injectDouble(int slot, double arg) {
+            injectPrimitive(slot, PrimitiveMark.DOUBLE, Double.doubleToRawLongBits(arg));
+        }
+
+        /**
+         * 按槽位保存boolean类型的临时变量，不装箱
+         *
+         * @param slot 临时变量槽位
+         * @param arg  临时变量值
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 21:35
+         */
+        public void injectBoolean(int slot, boolean arg) {
+            injectPrimitive(slot, PrimitiveMark.BOOLEAN, arg ? 1L : 0L);
+        }
+
+        /**
+         * 按槽位获取long类型的临时变量，以对象保存的数值会转换
+         *
+         * @param slot 临时变量槽位
+         * @return long
+         * @throws NullPointerException 没有保存该临时变量时
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 21:35
+         */
+        public long extractLong(int slot) {
+            Object arg = primitiveOrObject(slot);
+            if (arg instanceof PrimitiveMark) {
+                long bits = primitiveArgs[slot];
+                return arg == PrimitiveMark.DOUBLE ? (long) Double.longBitsToDouble(bits) : bits;
+            }
+            return ((Number) arg).longValue();
+        }
+
+        /**
+         * 按槽位获取int类型的临时变量，以对象保存的数值会转换
+         *
+         * @param slot 临时变量槽位
+         * @return int
+         * @throws NullPointerException 没有保存该临时变量时
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 21:35
+         */
+        public int extractInt(int slot) {
+            return (int) extractLong(slot);
+        }
+
+        /**
+         * 按槽位获取double类型的临时变量，以对象保存的数值会转换
+         *
+         * @param slot 临时变量槽位
+         * @return double
+         * @throws NullPointerException 没有保存该临时变量时
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 21:35
+         */
+        public double extractDouble(int slot) {
+            Object arg = primitiveOrObject(slot);
+            if (arg instanceof PrimitiveMark) {
+                long bits = primitiveArgs[slot];
+                return arg == PrimitiveMark.DOUBLE ? Double.longBitsToDouble(bits) : (double) bits;
+            }
+            return ((Number) arg).doubleValue();
+        }
+
+        /**
+         * 按槽位获取boolean类型的临时变量
+         *
+         * @param slot 临时变量槽位
+         * @return boolean
+         * @throws NullPointerException 没有保存该临时变量时
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 21:35
+         */
+        public boolean extractBoolean(int slot) {
+            Object arg = primitiveOrObject(slot);
+            if (arg instanceof PrimitiveMark) {
+                return primitiveArgs[slot] != 0L;
+            }
+            return (Boolean) arg;
+        }
+
+        private void injectPrimitive(int slot, PrimitiveMark mark, long bits) {
+            if (slot >= temporaryArgs.length) {
+                grow(slot);
+            }
+            if (primitiveArgs == null || slot >= primitiveArgs.length) {
+                primitiveArgs = primitiveArgs == null ? new long[temporaryArgs.length] : Arrays.copyOf(primitiveArgs, temporaryArgs.length);
+            }
+            primitiveArgs[slot] = bits;
+            temporaryArgs[slot] = mark;
+        }
+
+        /**
+         * 扩容临时变量数组；分支第一次扩容时不再与父上下文共享，记录私有副本的快照，合并时据此写回
+         */
+        private void grow(int slot) {
+            int length = Math.max(slot + 1, slotCount);
+            if (branched && forkedArgs == null) {
+                forkedArgs = Arrays.copyOf(temporaryArgs, length);
+                temporaryArgs = forkedArgs.clone();
+                if (primitiveArgs != null) {
+                    forkedPrimitiveArgs = Arrays.copyOf(primitiveArgs, length);
+                    primitiveArgs = forkedPrimitiveArgs.clone();
+                }
+                return;
+            }
+            temporaryArgs = Arrays.copyOf(temporaryArgs, length);
+        }
+
+        private Object primitiveOrObject(int slot) {
+            Object[] args = temporaryArgs;
+            return slot < args.length ? args[slot] : null;
+        }
+
+        /**
+         * 将提示信息组装返回值设置到上下文中，并设置为中断(后续handler不再执行)
+         *
+         * @param responseCode 提示编码
+         * @param responseMsg  提示描述
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 14:02
+         */
+        public void injectTips(String responseCode, String responseMsg) {
+            interrupted = Boolean.TRUE;
+            baseResponse.setData(null);
+            baseResponse.setResponseMsg(responseMsg);
+            baseResponse.setResponseCode(responseCode);
+        }
+
+        /**
+         * 将业务信息组装返回值设置到上下文中，并设置为中断(后续handler不再执行)
+         *
+         * @param data 业务信息数据
+         * @auther: Evan·Jiang
+         * @date: 2026/10/18 14:02
+         */
+        public void injectData(Object data) {
+            interrupted = Boolean.TRUE;
+            baseResponse.setData(data);
+            baseResponse.setResponseMsg(null);
+            baseResponse.setResponseCode(null);
+        }
+    }
+
+    /**
+     * 基本类型临时变量的标记，保存在temporaryArgs中，表示该槽位的值在primitiveArgs中，按对象读取时再装箱
+     *
+     * @author: Evan·Jiang
+     * @date: 2026/10/18 21:35
+     */
+    private static final class PrimitiveMark {
+
+        private static final PrimitiveMark LONG = new PrimitiveMark();
+        private static final PrimitiveMark INT = new PrimitiveMark();
+        private static final PrimitiveMark DOUBLE = new PrimitiveMark();
+        private static final PrimitiveMark BOOLEAN = new PrimitiveMark();
+
+        private Object box(long bits) {
+            if (this == INT) {
+                return (int) bits;
+            } else if (this == DOUBLE) {
+                return Double.longBitsToDouble(bits);
+            } else if (this == BOOLEAN) {
+                return bits != 0L;
+            }
+            return bits;
+        }
+    }
+
+    /**
+     * 获取临时变量key对应的槽位，不存在时分配新槽位
+     *
+     * @param key 临时变量名称
+     * @return int
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 11:05
+     */
+    public static int slotOf(String key) {
+        Integer slot = SLOTS.get(key);
+        if (slot != null) {
+            return slot;
+        }
+        synchronized (SLOTS) {
+            slot = SLOTS.get(key);
+            if (slot == null) {
+                slot = slotCount;
+                SLOTS.put(key, slot);
+                slotCount = slot + 1;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * 创建一个新的上下文，不绑定任何线程，需要通过{@link #runWith(Context, Runnable)}绑定
+     *
+     * @return com.ej.chain.context.ChainContext.Context
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:05
+     */
+    public static Context newContext() {
+        return new Context();
+    }
+
+    /**
+     * 获取当前的上下文<br/>
+     * 没有绑定时抛出异常，不再自动创建：替换存储方式后在绑定范围之外访问，自动创建的ThreadLocal上下文与责任链使用的不是同一个
+     *
+     * @return com.ej.chain.context.ChainContext.Context
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 10:12
+     */
+    public static Context current() {
+        Context context = storage.get();
+        if (context == null) {
+            throw new IllegalStateException("No chain context bound to " + Thread.currentThread().getName() + ", run the chain through AbstractManage or ChainContext.runWith");
+        }
+        return context;
+    }
+
+    /**
+     * 将上下文绑定到当前线程，直到调用{@link #clear()}，用于在责任链之外直接通过静态方法访问上下文的场景<br/>
+     * 只支持默认的ThreadLocal存储，其他存储方式只能通过{@link #runWith(Context, Runnable)}绑定
+     *
+     * @param context 需要绑定的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 11:40
+     */
+    public static void bind(Context context) {
+        if (storage != THREAD_LOCAL_STORAGE) {
+            throw new IllegalStateException("ChainContext.bind only supports the thread local storage, use ChainContext.runWith instead");
+        }
+        CONTEXT.set(context);
+    }
+
+    /**
+     * 绑定上下文后执行，执行期间Handler通过静态方法访问的都是该上下文，执行结束后恢复
+     *
+     * @param context 需要绑定的上下文
+     * @param action  绑定期间执行的逻辑
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 15:12
+     */
+    public static void runWith(Context context, Runnable action) {
+        storage.runWith(context, action);
+    }
+
+    /**
+     * 替换上下文存储方式，需要在任何责任链执行之前设置
+     *
+     * @param contextStorage 上下文存储，为null时恢复为ThreadLocal
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 15:12
+     */
+    public static void setStorage(ContextStorage contextStorage) {
+        storage = contextStorage == null ? THREAD_LOCAL_STORAGE : contextStorage;
+    }
+
+    /**
+     * 获取上下文中的返回值
+     *
+     * @return com.ej.chain.dto.BaseResponse
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 15:51
+     */
+    public static BaseResponse baseResponse() {
+        return current().baseResponse;
+    }
+
+    /**
+     * 判断线程是否要终止
+     *
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 15:51
+     */
+    public static boolean isInterrupted() {
+        return current().isInterrupted();
+    }
+
+    /**
+     * 获取当前责任链的剩余时间
+     *
+     * @return long 纳秒，已超时时小于等于0，没有截止时间时为Long.MAX_VALUE
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    public static long remainingNanos() {
+        return current().remainingNanos();
+    }
+
+    /**
+     * 保存某个临时变量到上下文中
+     *
+     * @param key 临时变量名称
+     * @param arg 临时变量值
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 15:52
+     */
+    public static void injectTemporaryArgs(String key, Object arg) {
+        current().injectTemporaryArgs(key, arg);
+    }
+
+    /**
+     * 按槽位保存某个临时变量到上下文中，槽位通过{@link #slotOf(String)}获取
+     *
+     * @param slot 临时变量槽位
+     * @param arg  临时变量值
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 11:05
+     */
+    public static void injectTemporaryArgs(int slot, Object arg) {
+        current().injectTemporaryArgs(slot, arg);
+    }
+
+    /**
+     * 从上下文中获取某个临时变量
+     *
+     * @param key 临时变量名称
+     * @return java.lang.Object
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 15:53
+     */
+    public static Object extractTemporaryArgs(String key) {
+        return current().extractTemporaryArgs(key);
+    }
+
+    /**
+     * 按槽位从上下文中获取某个临时变量，槽位通过{@link #slotOf(String)}获取
+     *
+     * @param slot 临时变量槽位
+     * @return java.lang.Object
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 11:05
+     */
+    public static Object extractTemporaryArgs(int slot) {
+        return current().extractTemporaryArgs(slot);
+    }
+
+    /**
+     * 按槽位保存long类型的临时变量到上下文中，不装箱
+     *
+     * @param slot 临时变量槽位
+     * @param arg  临时变量值
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:35
+     */
+    public static void injectLong(int slot, long arg) {
+        current().injectLong(slot, arg);
+    }
+
+    /**
+     * 按槽位保存int类型的临时变量到上下文中，不装箱
+     *
+     * @param slot 临时变量槽位
+     * @param arg  临时变量值
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:35
+     */
+    public static void injectInt(int slot, int arg) {
+        current().injectInt(slot, arg);
+    }
+
+    /**
+     * 按槽位保存double类型的临时变量到上下文中，不装箱
+     *
+     * @param slot 临时变量槽位
+     * @param arg  临时变量值
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:35
+     */
+    public static void injectDouble(int slot, double arg) {
+        current().injectDouble(slot, arg);
+    }
+
+    /**
+     * 按槽位保存boolean类型的临时变量到上下文中，不装箱
+     *
+     * @param slot 临时变量槽位
+     * @param arg  临时变量值
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:35
+     */
+    public static void injectBoolean(int slot, boolean arg) {
+        current().injectBoolean(slot, arg);
+    }
+
+    /**
+     * 按槽位从上下文中获取long类型的临时变量
+     *
+     * @param slot 临时变量槽位
+     * @return long
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:35
+     */
+    public static long extractLong(int slot) {
+        return current().extractLong(slot);
+    }
+
+    /**
+     * 按槽位从上下文中获取int类型的临时变量
+     *
+     * @param slot 临时变量槽位
+     * @return int
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:35
+     */
+    public static int extractInt(int slot) {
+        return current().extractInt(slot);
+    }
+
+    /**
+     * 按槽位从上下文中获取double类型的临时变量
+     *
+     * @param slot 临时变量槽位
+     * @return double
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:35
+     */
+    public static double extractDouble(int slot) {
+        return current().extractDouble(slot);
+    }
+
+    /**
+     * 按槽位从上下文中获取boolean类型的临时变量
+     *
+     * @param slot 临时变量槽位
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:35
+     */
+    public static boolean extractBoolean(int slot) {
+        return current().extractBoolean(slot);
+    }
+
+    /**
+     * 将提示信息组装返回值设置到上行文中，并设置为中断(后续handler不再执行)
+     *
+     * @param responseCode 提示编码
+     * @param responseMsg  提示描述
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 15:55
+     */
+    public static void injectTips(String responseCode, String responseMsg) {
+        current().injectTips(responseCode, responseMsg);
+    }
+
+    /**
+     * 将业务信息组装返回值设置倒数上下文中，并设置为中断(后续handler不再执行)
+     *
+     * @param data 业务信息数据
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 15:55
+     */
+    public static void injectData(Object data) {
+        current().injectData(data);
+    }
+
+    /**
+     * 解除当前线程通过{@link #bind(Context)}绑定的上下文
+     *
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 15:59
+     */
+    public static void clear() {
+        CONTEXT.remove();
+    }
+}
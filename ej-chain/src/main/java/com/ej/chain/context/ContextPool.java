@@ -0,0 +1,30 @@
+package com.ej.chain.context;
+
+/**
+ * 上下文池，复用上下文对象，减少每次执行分配的上下文和临时变量数组<br/>
+ * 通过{@link com.ej.chain.manages.AbstractManage#contextPool(ContextPool)}开启，归还时重置上下文，
+ * 返回值每次执行都是新对象，调用方可以一直持有
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 21:20
+ */
+public interface ContextPool {
+
+    /**
+     * 获取一个已重置的上下文，池中没有时创建新的上下文
+     *
+     * @return com.ej.chain.context.ChainContext.Context
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:20
+     */
+    ChainContext.Context acquire();
+
+    /**
+     * 归还上下文，归还后不能再使用该上下文；池已满时丢弃
+     *
+     * @param context 通过{@link #acquire()}获取的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:20
+     */
+    void release(ChainContext.Context context);
+}
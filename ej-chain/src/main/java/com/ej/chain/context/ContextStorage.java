@@ -0,0 +1,30 @@
+package com.ej.chain.context;
+
+/**
+ * 上下文存储方式，决定Handler中通过{@link ChainContext}的静态方法访问到的是哪个上下文<br/>
+ * 默认使用ThreadLocal，可以通过{@link ChainContext#setStorage(ContextStorage)}替换
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 15:10
+ */
+public interface ContextStorage {
+
+    /**
+     * 获取当前绑定的上下文
+     *
+     * @return com.ej.chain.context.ChainContext.Context 没有绑定时返回null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 15:10
+     */
+    ChainContext.Context get();
+
+    /**
+     * 绑定上下文后执行，执行结束后恢复为原来绑定的上下文
+     *
+     * @param context 需要绑定的上下文
+     * @param action  绑定期间执行的逻辑
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 15:10
+     */
+    void runWith(ChainContext.Context context, Runnable action);
+}
@@ -0,0 +1,29 @@
+package com.ej.chain.context;
+
+/**
+ * 每个线程缓存一个上下文，适合固定线程池；每个请求使用新线程(如虚拟线程)时使用{@link BoundedContextPool}<br/>
+ * 异步执行时上下文归还到结束执行的线程
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 21:20
+ */
+public class ThreadLocalContextPool implements ContextPool {
+
+    private final ThreadLocal<ChainContext.Context> idle = new ThreadLocal<>();
+
+    @Override
+    public ChainContext.Context acquire() {
+        ChainContext.Context context = idle.get();
+        if (context == null) {
+            return ChainContext.newContext();
+        }
+        idle.set(null);
+        return context;
+    }
+
+    @Override
+    public void release(ChainContext.Context context) {
+        context.reset();
+        idle.set(context);
+    }
+}
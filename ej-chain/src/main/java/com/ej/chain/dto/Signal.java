@@ -0,0 +1,90 @@
+package com.ej.chain.dto;
+
+/**
+ * Handler的执行结果信号，{@link com.ej.chain.handlers.SignalHandler}通过返回值告诉责任链如何继续，
+ * 不需要抛出异常，也不需要读写线程上下文中的中断标识<br/>
+ * 信号不可变，提示信息类的信号可以预先创建好重复返回
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 18:35
+ */
+public final class Signal {
+
+    /**
+     * 信号类型
+     */
+    public enum Type {
+        /**
+         * 继续执行后续Handler
+         */
+        CONTINUE,
+        /**
+         * 跳过后续Handler，返回值保持不变
+         */
+        SKIP,
+        /**
+         * 设置提示信息并中断
+         */
+        TIPS,
+        /**
+         * 设置业务数据并中断
+         */
+        DATA
+    }
+
+    public static final Signal CONTINUE = new Signal(Type.CONTINUE, null, null, null);
+    public static final Signal SKIP = new Signal(Type.SKIP, null, null, null);
+
+    private final Type type;
+    private final String responseCode;
+    private final String responseMsg;
+    private final Object data;
+
+    private Signal(Type type, String responseCode, String responseMsg, Object data) {
+        this.type = type;
+        this.responseCode = responseCode;
+        this.responseMsg = responseMsg;
+        this.data = data;
+    }
+
+    /**
+     * 设置提示信息并中断
+     *
+     * @param responseCode 提示编码
+     * @param responseMsg  提示描述
+     * @return com.ej.chain.dto.Signal
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:35
+     */
+    public static Signal tips(String responseCode, String responseMsg) {
+        return new Signal(Type.TIPS, responseCode, responseMsg, null);
+    }
+
+    /**
+     * 设置业务数据并中断
+     *
+     * @param data 业务信息数据
+     * @return com.ej.chain.dto.Signal
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:35
+     */
+    public static Signal data(Object data) {
+        return new Signal(Type.DATA, null, null, data);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getResponseCode() {
+        return responseCode;
+    }
+
+    public String getResponseMsg() {
+        return responseMsg;
+    }
+
+    public Object getData() {
+        return data;
+    }
+}
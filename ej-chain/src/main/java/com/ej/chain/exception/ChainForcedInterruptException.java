@@ -0,0 +1,60 @@
+package com.ej.chain.exception;
+
+
+/**
+ * 责任链强制中断异常，业务可以继承使用，以抛出此异常类其子类的方式中断责任链<br/>
+ * 业务拒绝较多时可以使用不记录堆栈的异常，不记录堆栈的异常没有可变状态，可以预先创建好重复抛出
+ *
+ * @author: Evan·Jiang
+ * @date: 2020/4/14 16:13
+ */
+public class ChainForcedInterruptException extends RuntimeException {
+
+    static final long serialVersionUID = -1L;
+    /**
+     * 异常错误码
+     */
+    private String errorCode;
+    /**
+     * 异常错误描述
+     */
+    private String errorMsg;
+
+    public ChainForcedInterruptException(String errorCode, String errorMsg) {
+        super(errorMsg);
+        this.errorCode = errorCode;
+        this.errorMsg = errorMsg;
+    }
+
+    /**
+     * @param errorCode          异常错误码
+     * @param errorMsg           异常错误描述
+     * @param writableStackTrace 是否记录堆栈，为false时不遍历线程栈，也不记录被抑制的异常
+     */
+    public ChainForcedInterruptException(String errorCode, String errorMsg, boolean writableStackTrace) {
+        super(errorMsg, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+        this.errorMsg = errorMsg;
+    }
+
+    /**
+     * 创建不记录堆栈的强制中断异常
+     *
+     * @param errorCode 异常错误码
+     * @param errorMsg  异常错误描述
+     * @return com.ej.chain.exception.ChainForcedInterruptException
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:30
+     */
+    public static ChainForcedInterruptException stackless(String errorCode, String errorMsg) {
+        return new ChainForcedInterruptException(errorCode, errorMsg, false);
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getErrorMsg() {
+        return errorMsg;
+    }
+}
@@ -0,0 +1,204 @@
+package com.ej.chain.executor;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.AsyncProcessHandler;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.metrics.HandlerMetrics;
+import com.ej.chain.metrics.Phase;
+import com.ej.chain.timeout.Deadlines;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 异步责任链执行器<br/>
+ * 遇到{@link AsyncProcessHandler}时不等待其结果，在异步结果完成的线程上继续执行后续Handler，
+ * 上下文随执行传递，每一步执行前绑定到执行该步的线程，执行后解除绑定
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 14:30
+ */
+public class AsyncChainExecutor<Request> {
+
+    private final BaseHandler<Request>[] handlers;
+    private final byte[] kinds;
+    private final HandlerMetrics[] metrics;
+
+    public AsyncChainExecutor(List<BaseHandler<Request>> chain) {
+        this(chain, null);
+    }
+
+    /**
+     * @param chain   责任链
+     * @param metrics 与责任链一一对应的Handler指标，为null时不统计也不提交JFR事件
+     */
+    public AsyncChainExecutor(List<BaseHandler<Request>> chain, HandlerMetrics[] metrics) {
+        int size = chain == null ? 0 : chain.size();
+        this.handlers = new BaseHandler[size];
+        this.kinds = new byte[size];
+        for (int idx = 0; idx < size; idx++) {
+            handlers[idx] = chain.get(idx);
+            kinds[idx] = InterpretedChainExecutor.kindOf(handlers[idx]);
+        }
+        this.metrics = metrics;
+    }
+
+    /**
+     * 异步执行责任链
+     *
+     * @param request 请求参数
+     * @param context 本次执行的上下文
+     * @return java.util.concurrent.CompletableFuture<java.lang.Void> 责任链执行结束时完成，Handler抛出异常时异常完成
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:30
+     */
+    public CompletableFuture<Void> execute(Request request, ChainContext.Context context) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        proceed(request, context, 0, future);
+        return future;
+    }
+
+    /**
+     * 从指定位置继续执行责任链
+     *
+     * @param request
+     * @param context
+     * @param from    开始执行的Handler下标
+     * @param future  责任链执行结果
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:30
+     */
+    private void proceed(Request request, ChainContext.Context context, int from, CompletableFuture<Void> future) {
+        ChainContext.runWith(context, () -> proceedBound(request, context, from, future));
+    }
+
+    /**
+     * 在已绑定上下文的情况下从指定位置继续执行责任链
+     *
+     * @param request
+     * @param context
+     * @param from    开始执行的Handler下标
+     * @param future  责任链执行结果
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 15:20
+     */
+    private void proceedBound(Request request, ChainContext.Context context, int from, CompletableFuture<Void> future) {
+        try {
+            for (int idx = from; idx < handlers.length; idx++) {
+                HandlerMetrics handlerMetrics = metrics == null ? null : metrics[idx];
+                if (kinds[idx] != InterpretedChainExecutor.ASYNC_PROCESS) {
+                    InterpretedChainExecutor.invoke(handlers[idx], kinds[idx], request, context, handlerMetrics);
+                } else {
+                    AsyncProcessHandler<Request> asyncHandler = (AsyncProcessHandler<Request>) handlers[idx];
+                    long start = handlerMetrics == null ? 0L : handlerMetrics.start();
+                    Object event = handlerMetrics == null ? null : handlerMetrics.event();
+                    boolean asyncDuplicated;
+                    try {
+                        asyncDuplicated = asyncHandler.duplicated(request);
+                    } catch (RuntimeException e) {
+                        if (handlerMetrics != null) {
+                            handlerMetrics.recordFailure(Phase.DUPLICATED, start, event, e);
+                        }
+                        throw e;
+                    }
+                    if (handlerMetrics != null) {
+                        handlerMetrics.recordDuplicated(start, event, asyncDuplicated, context);
+                    }
+                    if (context.isInterrupted()) {
+                        future.complete(null);
+                        return;
+                    }
+                    if (asyncDuplicated) {
+                        continue;
+                    }
+                    int next = idx + 1;
+                    long processStart = handlerMetrics == null ? 0L : handlerMetrics.start();
+                    Object processEvent = handlerMetrics == null ? null : handlerMetrics.event();
+                    Deadlines.within(asyncHandler.process(request, context), context).whenComplete((result, e) -> {
+                        if (e == null) {
+                            Deadlines.expire(result, context);
+                        }
+                        if (handlerMetrics != null) {
+                            if (e != null) {
+                                handlerMetrics.recordFailure(Phase.PROCESS, processStart, processEvent, unwrap(e));
+                            } else {
+                                handlerMetrics.record(Phase.PROCESS, processStart, processEvent, context);
+                            }
+                        }
+                        if (e != null) {
+                            future.completeExceptionally(unwrap(e));
+                        } else if (context.isInterrupted()) {
+                            future.complete(null);
+                        } else {
+                            proceed(request, context, next, future);
+                        }
+                    });
+                    return;
+                }
+                if (context.isInterrupted()) {
+                    break;
+                }
+            }
+            future.complete(null);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 同步等待异步Handler的结果，供同步执行的责任链使用，异常完成时抛出原始异常
+     *
+     * @param stage
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:32
+     */
+    public static void await(CompletionStage<?> stage) {
+        try {
+            stage.toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 在上下文的截止时间内同步等待异步Handler的结果，超时时取消异步结果并按超时中断上下文
+     *
+     * @param stage
+     * @param context 本次执行的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    public static void await(CompletionStage<?> stage, ChainContext.Context context) {
+        CompletableFuture<?> result = Deadlines.within(stage, context);
+        await(result);
+        Deadlines.expire(result.join(), context);
+    }
+
+    /**
+     * 获取异步异常的原始异常
+     *
+     * @param e
+     * @return java.lang.Throwable
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:32
+     */
+    public static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+}
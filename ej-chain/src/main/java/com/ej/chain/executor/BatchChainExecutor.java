@@ -0,0 +1,185 @@
+package com.ej.chain.executor;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.BatchCheckHandler;
+import com.ej.chain.handlers.BatchProcessHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+import com.ej.chain.metrics.HandlerMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 批量责任链执行器，整批请求按Handler逐个推进<br/>
+ * {@link BatchCheckHandler}、{@link BatchProcessHandler}对仍在执行的请求一次调用，其他Handler对每个请求分别调用；
+ * 每个请求使用自己的上下文，中断或异常只影响该请求，批量方法抛出异常时该批次的请求都按异常处理<br/>
+ * 包装Handler本身和最内层被包装的Handler都支持批量时才批量调用，只有被包装的Handler支持批量时逐个请求调用包装Handler，不绕过包装
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 17:10
+ */
+public class BatchChainExecutor<Request> {
+
+    private static final byte BATCH_NONE = 0;
+    private static final byte BATCH_CHECK = 1;
+    private static final byte BATCH_PROCESS = 2;
+
+    private final BaseHandler<Request>[] handlers;
+    private final byte[] kinds;
+    /**
+     * 批量调用的方式，见{@link #batchKindOf(BaseHandler)}
+     */
+    private final byte[] batchKinds;
+    private final HandlerMetrics[] metrics;
+
+    public BatchChainExecutor(List<BaseHandler<Request>> chain) {
+        this(chain, null);
+    }
+
+    /**
+     * @param chain   责任链
+     * @param metrics 与责任链一一对应的Handler指标，为null时不统计也不提交JFR事件；批量方法的调用不统计
+     */
+    public BatchChainExecutor(List<BaseHandler<Request>> chain, HandlerMetrics[] metrics) {
+        int size = chain == null ? 0 : chain.size();
+        this.handlers = new BaseHandler[size];
+        this.kinds = new byte[size];
+        this.batchKinds = new byte[size];
+        for (int idx = 0; idx < size; idx++) {
+            handlers[idx] = chain.get(idx);
+            kinds[idx] = InterpretedChainExecutor.kindOf(handlers[idx]);
+            batchKinds[idx] = batchKindOf(handlers[idx]);
+        }
+        this.metrics = metrics;
+    }
+
+    /**
+     * 批量执行责任链
+     *
+     * @param requests 请求参数
+     * @param contexts 与请求下标一一对应的上下文
+     * @return java.lang.Throwable[] 与请求下标一一对应，执行过程中抛出的异常，没有异常时为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:10
+     */
+    public Throwable[] execute(List<Request> requests, List<ChainContext.Context> contexts) {
+        Throwable[] failures = new Throwable[requests.size()];
+        List<Integer> active = new ArrayList<>(requests.size());
+        for (int idx = 0; idx < requests.size(); idx++) {
+            active.add(idx);
+        }
+        for (int step = 0; step < handlers.length && !active.isEmpty(); step++) {
+            BaseHandler<Request> handler = handlers[step];
+            byte kind = kinds[step];
+            HandlerMetrics handlerMetrics = metrics == null ? null : metrics[step];
+            if (batchKinds[step] == BATCH_CHECK) {
+                invokeBatchCheck((BatchCheckHandler<Request>) handler, active, requests, contexts, failures);
+            } else if (batchKinds[step] == BATCH_PROCESS) {
+                invokeBatchProcess((BatchProcessHandler<Request>) handler, active, requests, contexts, failures);
+            } else {
+                for (int idx : active) {
+                    Request request = requests.get(idx);
+                    ChainContext.Context context = contexts.get(idx);
+                    try {
+                        ChainContext.runWith(context, () -> InterpretedChainExecutor.invoke(handler, kind, request, context, handlerMetrics));
+                    } catch (Throwable e) {
+                        failures[idx] = e;
+                    }
+                }
+            }
+            active.removeIf(idx -> failures[idx] != null || contexts.get(idx).isInterrupted());
+        }
+        return failures;
+    }
+
+    /**
+     * 判断Handler的批量调用方式，包装Handler以最内层被包装的Handler为准，包装Handler本身也要实现对应的批量接口
+     *
+     * @param handler
+     * @return byte
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 09:30
+     */
+    static byte batchKindOf(BaseHandler<?> handler) {
+        BaseHandler<?> target = DelegatingHandler.unwrap(handler);
+        if (handler instanceof BatchCheckHandler && target instanceof BatchCheckHandler) {
+            return BATCH_CHECK;
+        }
+        if (handler instanceof BatchProcessHandler && target instanceof BatchProcessHandler) {
+            return BATCH_PROCESS;
+        }
+        return BATCH_NONE;
+    }
+
+    /**
+     * 批量参数校验
+     *
+     * @param handler
+     * @param active   仍在执行的请求下标
+     * @param requests
+     * @param contexts
+     * @param failures
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:10
+     */
+    private void invokeBatchCheck(BatchCheckHandler<Request> handler, List<Integer> active, List<Request> requests, List<ChainContext.Context> contexts, Throwable[] failures) {
+        try {
+            handler.checkParams(select(requests, active), select(contexts, active));
+        } catch (Throwable e) {
+            fail(active, failures, e);
+        }
+    }
+
+    /**
+     * 批量判断是否重复，对未中断且不重复的请求批量处理
+     *
+     * @param handler
+     * @param active   仍在执行的请求下标
+     * @param requests
+     * @param contexts
+     * @param failures
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:10
+     */
+    private void invokeBatchProcess(BatchProcessHandler<Request> handler, List<Integer> active, List<Request> requests, List<ChainContext.Context> contexts, Throwable[] failures) {
+        List<Integer> processing;
+        try {
+            boolean[] duplicated = handler.duplicated(select(requests, active), select(contexts, active));
+            if (duplicated.length != active.size()) {
+                throw new IllegalStateException(handler.getClass().getName() + " returned " + duplicated.length + " duplicated flags for " + active.size() + " requests");
+            }
+            processing = new ArrayList<>(active.size());
+            for (int idx = 0; idx < duplicated.length; idx++) {
+                if (!duplicated[idx] && !contexts.get(active.get(idx)).isInterrupted()) {
+                    processing.add(active.get(idx));
+                }
+            }
+        } catch (Throwable e) {
+            fail(active, failures, e);
+            return;
+        }
+        if (processing.isEmpty()) {
+            return;
+        }
+        try {
+            handler.process(select(requests, processing), select(contexts, processing));
+        } catch (Throwable e) {
+            fail(processing, failures, e);
+        }
+    }
+
+    private static <T> List<T> select(List<T> source, List<Integer> indexes) {
+        List<T> selected = new ArrayList<>(indexes.size());
+        for (int idx : indexes) {
+            selected.add(source.get(idx));
+        }
+        return selected;
+    }
+
+    private static void fail(List<Integer> indexes, Throwable[] failures, Throwable e) {
+        for (int idx : indexes) {
+            failures[idx] = e;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.ej.chain.executor;
+
+import com.ej.chain.adaptive.AdaptiveCheckGroup;
+import com.ej.chain.annotation.FromContext;
+import com.ej.chain.annotation.SideEffectFree;
+import com.ej.chain.annotation.ToContext;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.CheckHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 责任链的依赖关系，根据Handler上{@link FromContext}、{@link ToContext}的key计算<br/>
+ * 后面的Handler读取、覆盖前面Handler写入的key，或写入前面Handler读取的key时，依赖前面的Handler；另外：
+ * <ul>
+ * <li>业务Handler依赖其前面所有的校验Handler，校验不通过时不执行业务</li>
+ * <li>{@link AdaptiveCheckGroup}读写的key为组内所有校验Handler读写的key，组内有Handler没有声明任何key时按没有声明key处理</li>
+ * <li>以下Handler作为屏障，依赖其前面所有Handler，其后面所有Handler也依赖它：
+ * 没有声明任何key的Handler(可能直接通过{@link com.ej.chain.context.ChainContext}读写临时变量)、所有完成Handler、
+ * 没有标记{@link SideEffectFree}的业务Handler(并行执行时前面的Handler中断也无法撤销它的副作用)</li>
+ * </ul>
+ * 按依赖关系将Handler分层，同一层的Handler之间没有依赖，可以并行执行，同一层中只会有校验Handler和标记了{@link SideEffectFree}的业务Handler
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 16:15
+ */
+public class ChainDependencyGraph {
+
+    /**
+     * 计算责任链的分层，每层内按注册顺序排列
+     *
+     * @param chain 责任链
+     * @return java.util.List<int[]> 每层Handler在责任链中的下标
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 16:15
+     */
+    public static List<int[]> levels(List<? extends BaseHandler<?>> chain) {
+        if (chain == null || chain.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int size = chain.size();
+        List<Set<String>> reads = new ArrayList<>(size);
+        List<Set<String>> writes = new ArrayList<>(size);
+        boolean[] barriers = new boolean[size];
+        int[] levelOf = new int[size];
+        int levelCount = 0;
+        for (int idx = 0; idx < size; idx++) {
+            BaseHandler<?> handler = chain.get(idx);
+            Set<String> read = new HashSet<>();
+            Set<String> write = new HashSet<>();
+            boolean declared = true;
+            if (handler instanceof AdaptiveCheckGroup) {
+                for (BaseHandler<?> member : ((AdaptiveCheckGroup<?>) handler).getHandlers()) {
+                    declared &= collectKeys(DelegatingHandler.unwrap(member).getClass(), read, write);
+                }
+            } else {
+                declared = collectKeys(DelegatingHandler.unwrap(handler).getClass(), read, write);
+            }
+            reads.add(read);
+            writes.add(write);
+            byte kind = InterpretedChainExecutor.kindOf(handler);
+            barriers[idx] = !declared || kind == InterpretedChainExecutor.COMPLETED || kind == 0
+                    || (kind != InterpretedChainExecutor.CHECK && !DelegatingHandler.unwrap(handler).getClass().isAnnotationPresent(SideEffectFree.class));
+            int level = 0;
+            for (int before = 0; before < idx; before++) {
+                if (dependsOn(idx, before, kind, chain.get(before), barriers, reads, writes)) {
+                    level = Math.max(level, levelOf[before] + 1);
+                }
+            }
+            levelOf[idx] = level;
+            levelCount = Math.max(levelCount, level + 1);
+        }
+        List<int[]> levels = new ArrayList<>(levelCount);
+        for (int level = 0; level < levelCount; level++) {
+            int count = 0;
+            for (int idx = 0; idx < size; idx++) {
+                if (levelOf[idx] == level) {
+                    count++;
+                }
+            }
+            int[] members = new int[count];
+            count = 0;
+            for (int idx = 0; idx < size; idx++) {
+                if (levelOf[idx] == level) {
+                    members[count++] = idx;
+                }
+            }
+            levels.add(members);
+        }
+        return levels;
+    }
+
+    /**
+     * 判断后面的Handler是否依赖前面的Handler
+     *
+     * @param idx    后面的Handler下标
+     * @param before 前面的Handler下标
+     * @param kind   后面的Handler类型
+     * @param beforeHandler
+     * @param barriers
+     * @param reads
+     * @param writes
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 16:15
+     */
+    private static boolean dependsOn(int idx, int before, byte kind, BaseHandler<?> beforeHandler, boolean[] barriers, List<Set<String>> reads, List<Set<String>> writes) {
+        if (barriers[idx] || barriers[before]) {
+            return true;
+        }
+        if (kind != InterpretedChainExecutor.CHECK && beforeHandler instanceof CheckHandler) {
+            return true;
+        }
+        return !Collections.disjoint(reads.get(idx), writes.get(before))
+                || !Collections.disjoint(writes.get(idx), reads.get(before))
+                || !Collections.disjoint(writes.get(idx), writes.get(before));
+    }
+
+    /**
+     * 收集Handler类及其父类中{@link FromContext}、{@link ToContext}的key
+     *
+     * @param clazz
+     * @param read
+     * @param write
+     * @return boolean 是否声明了至少一个key
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 16:15
+     */
+    private static boolean collectKeys(Class<?> clazz, Set<String> read, Set<String> write) {
+        boolean declared = false;
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                FromContext fromContext = method.getAnnotation(FromContext.class);
+                if (fromContext != null) {
+                    read.add(fromContext.value());
+                    declared = true;
+                }
+                ToContext toContext = method.getAnnotation(ToContext.class);
+                if (toContext != null) {
+                    write.add(toContext.value());
+                    declared = true;
+                }
+            }
+        }
+        return declared;
+    }
+}
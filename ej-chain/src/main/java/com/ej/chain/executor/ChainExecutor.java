@@ -0,0 +1,22 @@
+package com.ej.chain.executor;
+
+import com.ej.chain.context.ChainContext;
+
+/**
+ * 责任链执行器，按注册顺序依次执行各Handler
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 10:15
+ */
+public interface ChainExecutor<Request> {
+
+    /**
+     * 执行责任链，中断信号从传入的上下文中读取
+     *
+     * @param request 请求参数
+     * @param context 当前执行的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 10:15
+     */
+    void execute(Request request, ChainContext.Context context);
+}
@@ -0,0 +1,237 @@
+package com.ej.chain.executor;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.AsyncProcessHandler;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.CheckHandler;
+import com.ej.chain.handlers.CompletedHandler;
+import com.ej.chain.handlers.ProcessHandler;
+import com.ej.chain.handlers.SignalHandler;
+import com.ej.chain.metrics.HandlerMetrics;
+import com.ej.chain.metrics.Phase;
+import javassist.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 责任链执行器工厂<br/>
+ * 将注册完成的责任链生成为一个执行器类：每个Handler对应一个字段和一处直接调用，中断判断按Handler展开，
+ * 每个调用点只会看到一个实现类，JIT可以内联
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 10:25
+ */
+public class ChainExecutorFactory {
+
+    public static final Logger LOGGER = LoggerFactory.getLogger(ChainExecutorFactory.class);
+
+    private static final String CLASS_NAME_PREFIX = ChainExecutor.class.getName() + "_";
+    private static final String CONTEXT_CLASS_NAME = ChainContext.Context.class.getName();
+    private static final String FIELD_TEMPLATE = "private final %s h%d;";
+    private static final String ASSIGN_TEMPLATE = "this.h%d = (%s) handlers[%d];";
+    private static final String CHECK_TEMPLATE = "h%d.checkParams(request);";
+    private static final String PROCESS_TEMPLATE = "if (!h%d.duplicated(request)) {if (context.isInterrupted()) {return;} h%d.process(request);}";
+    private static final String ASYNC_PROCESS_TEMPLATE = "if (!h%d.duplicated(request)) {if (context.isInterrupted()) {return;} " + AsyncChainExecutor.class.getName() + ".await(h%d.process(request, context), context);}";
+    private static final String SIGNAL_TEMPLATE = "if (context.apply(h%d.handle(request))) {return;}";
+    private static final String COMPLETED_TEMPLATE = "h%d.completed(request);";
+    private static final String INTERRUPTED_CHECK = "if (context.isInterrupted()) {return;}";
+
+    /**
+     * 开启统计或支持JFR时每个Handler多一个指标字段，各阶段前后记录耗时、提交JFR事件，异常时记录后原样抛出
+     */
+    private static final String PHASE_CLASS_NAME = Phase.class.getName();
+    private static final String METRICS_FIELD_TEMPLATE = "private final " + HandlerMetrics.class.getName() + " m%d;";
+    private static final String METRICS_ASSIGN_TEMPLATE = "this.m%d = metrics[%d];";
+    private static final String METRICS_LOCALS = "long t; Object ev; boolean d;";
+    private static final String METERED_TEMPLATE = "t = m%d.start(); ev = m%d.event(); try {%s} catch (RuntimeException e) {m%d.recordFailure(" + PHASE_CLASS_NAME + ".%s, t, ev, e); throw e;} m%d.record(" + PHASE_CLASS_NAME + ".%s, t, ev, context);";
+    private static final String METERED_DUPLICATED_TEMPLATE = "t = m%d.start(); ev = m%d.event(); try {d = h%d.duplicated(request);} catch (RuntimeException e) {m%d.recordFailure(" + PHASE_CLASS_NAME + ".DUPLICATED, t, ev, e); throw e;} m%d.recordDuplicated(t, ev, d, context);";
+    private static final String METERED_PROCESS_TEMPLATE = "if (!d) {if (context.isInterrupted()) {return;} %s}";
+    private static final String METERED_SIGNAL_TEMPLATE = "t = m%d.start(); ev = m%d.event(); try {d = context.apply(h%d.handle(request));} catch (RuntimeException e) {m%d.recordFailure(" + PHASE_CLASS_NAME + ".HANDLE, t, ev, e); throw e;} m%d.record(" + PHASE_CLASS_NAME + ".HANDLE, t, ev, context); if (d) {return;}";
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    /**
+     * 编译责任链，生成失败时退回到解释执行
+     *
+     * @param manageClass 责任链管理类，用于生成执行器类名
+     * @param chain       责任链
+     * @return com.ej.chain.executor.ChainExecutor<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 10:25
+     */
+    public static <Request> ChainExecutor<Request> compile(Class<?> manageClass, List<BaseHandler<Request>> chain) {
+        return compile(manageClass, chain, null);
+    }
+
+    /**
+     * 编译责任链，传入Handler指标时生成的代码中记录各阶段耗时、提交JFR事件，生成失败时退回到解释执行
+     *
+     * @param manageClass 责任链管理类，用于生成执行器类名
+     * @param chain       责任链
+     * @param metrics     与责任链一一对应的Handler指标，为null时不统计也不提交JFR事件
+     * @return com.ej.chain.executor.ChainExecutor<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:40
+     */
+    public static <Request> ChainExecutor<Request> compile(Class<?> manageClass, List<BaseHandler<Request>> chain, HandlerMetrics[] metrics) {
+        if (chain == null || chain.isEmpty()) {
+            return new InterpretedChainExecutor<>(chain, metrics);
+        }
+        try {
+            Class<?> executorClass = buildExecutorClass(CLASS_NAME_PREFIX + manageClass.getSimpleName() + "_" + SEQUENCE.incrementAndGet(), chain, metrics != null);
+            BaseHandler[] handlers = chain.toArray(new BaseHandler[0]);
+            if (metrics == null) {
+                return (ChainExecutor<Request>) executorClass.getConstructor(BaseHandler[].class).newInstance(new Object[]{handlers});
+            }
+            return (ChainExecutor<Request>) executorClass.getConstructor(BaseHandler[].class, HandlerMetrics[].class).newInstance(handlers, metrics);
+        } catch (Throwable e) {
+            LOGGER.warn("{} compile chain failed, fall back to interpreted executor -> ", manageClass.getName(), e);
+            return new InterpretedChainExecutor<>(chain, metrics);
+        }
+    }
+
+    /**
+     * 生成执行器类
+     *
+     * @param className
+     * @param chain
+     * @param metered   是否记录各阶段耗时
+     * @return java.lang.Class<?>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 10:27
+     */
+    private static Class<?> buildExecutorClass(String className, List<? extends BaseHandler<?>> chain, boolean metered) throws Exception {
+        //每次编译使用独立的ClassPool，生成完成后不再持有CtClass
+        ClassPool cp = new ClassPool(true);
+        cp.insertClassPath(new ClassClassPath(ChainExecutor.class));
+        CtClass cc = cp.makeClass(className);
+        cc.addInterface(cp.get(ChainExecutor.class.getName()));
+        StringBuilder constructor = new StringBuilder("public ").append(cc.getSimpleName()).append("(").append(BaseHandler.class.getName()).append("[] handlers");
+        if (metered) {
+            constructor.append(", ").append(HandlerMetrics.class.getName()).append("[] metrics");
+        }
+        constructor.append("){");
+        StringBuilder execute = new StringBuilder("public void execute(Object request, ").append(CONTEXT_CLASS_NAME).append(" context){");
+        if (metered) {
+            execute.append(METRICS_LOCALS);
+        }
+        for (int idx = 0; idx < chain.size(); idx++) {
+            Class<?> type = handlerType(chain.get(idx));
+            cc.addField(CtField.make(String.format(FIELD_TEMPLATE, type.getName(), idx), cc));
+            constructor.append(String.format(ASSIGN_TEMPLATE, idx, type.getName(), idx));
+            if (metered) {
+                cc.addField(CtField.make(String.format(METRICS_FIELD_TEMPLATE, idx), cc));
+                constructor.append(String.format(METRICS_ASSIGN_TEMPLATE, idx, idx));
+                if (!appendMetered(execute, type, idx)) {
+                    continue;
+                }
+            } else if (type == CheckHandler.class) {
+                execute.append(String.format(CHECK_TEMPLATE, idx));
+            } else if (type == ProcessHandler.class) {
+                execute.append(String.format(PROCESS_TEMPLATE, idx, idx));
+            } else if (type == CompletedHandler.class) {
+                execute.append(String.format(COMPLETED_TEMPLATE, idx));
+            } else if (type == AsyncProcessHandler.class) {
+                execute.append(String.format(ASYNC_PROCESS_TEMPLATE, idx, idx));
+            } else if (type == SignalHandler.class) {
+                //信号直接决定是否中断，不再读取中断标识
+                execute.append(String.format(SIGNAL_TEMPLATE, idx));
+                continue;
+            } else {
+                continue;
+            }
+            if (idx < chain.size() - 1) {
+                execute.append(INTERRUPTED_CHECK);
+            }
+        }
+        cc.addConstructor(CtNewConstructor.make(constructor.append("}").toString(), cc));
+        cc.addMethod(CtNewMethod.make(execute.append("}").toString(), cc));
+        try {
+            return defineClass(cc);
+        } finally {
+            cc.detach();
+        }
+    }
+
+    /**
+     * 生成记录耗时的Handler调用代码
+     *
+     * @param execute 执行方法的代码
+     * @param type    Handler生成字段时使用的类型
+     * @param idx     Handler下标
+     * @return boolean 调用后是否需要判断中断
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:40
+     */
+    private static boolean appendMetered(StringBuilder execute, Class<?> type, int idx) {
+        if (type == CheckHandler.class) {
+            execute.append(metered("h" + idx + ".checkParams(request);", idx, Phase.CHECK_PARAMS));
+        } else if (type == ProcessHandler.class) {
+            execute.append(String.format(METERED_DUPLICATED_TEMPLATE, idx, idx, idx, idx, idx));
+            execute.append(String.format(METERED_PROCESS_TEMPLATE, metered("h" + idx + ".process(request);", idx, Phase.PROCESS)));
+        } else if (type == CompletedHandler.class) {
+            execute.append(metered("h" + idx + ".completed(request);", idx, Phase.COMPLETED));
+        } else if (type == AsyncProcessHandler.class) {
+            execute.append(String.format(METERED_DUPLICATED_TEMPLATE, idx, idx, idx, idx, idx));
+            execute.append(String.format(METERED_PROCESS_TEMPLATE, metered(AsyncChainExecutor.class.getName() + ".await(h" + idx + ".process(request, context), context);", idx, Phase.PROCESS)));
+        } else if (type == SignalHandler.class) {
+            execute.append(String.format(METERED_SIGNAL_TEMPLATE, idx, idx, idx, idx, idx));
+            return false;
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static String metered(String invocation, int idx, Phase phase) {
+        return String.format(METERED_TEMPLATE, idx, idx, invocation, idx, phase.name(), idx, phase.name());
+    }
+
+    /**
+     * 获取Handler生成字段时使用的类型，与原责任链的判断顺序保持一致
+     *
+     * @param handler
+     * @return java.lang.Class<?>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 10:28
+     */
+    private static Class<?> handlerType(BaseHandler<?> handler) {
+        switch (InterpretedChainExecutor.kindOf(handler)) {
+            case InterpretedChainExecutor.CHECK:
+                return CheckHandler.class;
+            case InterpretedChainExecutor.PROCESS:
+                return ProcessHandler.class;
+            case InterpretedChainExecutor.COMPLETED:
+                return CompletedHandler.class;
+            case InterpretedChainExecutor.ASYNC_PROCESS:
+                return AsyncProcessHandler.class;
+            case InterpretedChainExecutor.SIGNAL:
+                return SignalHandler.class;
+            default:
+                return BaseHandler.class;
+        }
+    }
+
+    /**
+     * 加载执行器类，JDK9及以上使用Lookup.defineClass，JDK8使用JAVASSIST
+     *
+     * @param cc
+     * @return java.lang.Class<?>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 10:30
+     */
+    private static Class<?> defineClass(CtClass cc) throws Exception {
+        Method lookupDefineClass;
+        try {
+            lookupDefineClass = MethodHandles.Lookup.class.getMethod("defineClass", byte[].class);
+        } catch (NoSuchMethodException e) {
+            return cc.toClass(ChainExecutor.class.getClassLoader(), ChainExecutor.class.getProtectionDomain());
+        }
+        return (Class<?>) lookupDefineClass.invoke(MethodHandles.lookup(), (Object) cc.toBytecode());
+    }
+}
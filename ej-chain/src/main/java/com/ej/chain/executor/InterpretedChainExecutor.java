@@ -0,0 +1,222 @@
+package com.ej.chain.executor;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.AsyncProcessHandler;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.CheckHandler;
+import com.ej.chain.handlers.CompletedHandler;
+import com.ej.chain.handlers.ProcessHandler;
+import com.ej.chain.handlers.SignalHandler;
+import com.ej.chain.metrics.HandlerMetrics;
+import com.ej.chain.metrics.Phase;
+
+import java.util.List;
+
+/**
+ * 解释执行的责任链执行器，责任链未编译或编译失败时使用<br/>
+ * Handler的类型在构造时就确定好，执行时不再做instanceof判断
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 10:18
+ */
+public class InterpretedChainExecutor<Request> implements ChainExecutor<Request> {
+
+    static final byte CHECK = 1;
+    static final byte PROCESS = 2;
+    static final byte COMPLETED = 3;
+    static final byte ASYNC_PROCESS = 4;
+    static final byte SIGNAL = 5;
+
+    private final BaseHandler<Request>[] handlers;
+    private final byte[] kinds;
+    private final HandlerMetrics[] metrics;
+
+    public InterpretedChainExecutor(List<BaseHandler<Request>> chain) {
+        this(chain, null);
+    }
+
+    /**
+     * @param chain   责任链
+     * @param metrics 与责任链一一对应的Handler指标，为null时不统计也不提交JFR事件
+     */
+    public InterpretedChainExecutor(List<BaseHandler<Request>> chain, HandlerMetrics[] metrics) {
+        int size = chain == null ? 0 : chain.size();
+        this.handlers = new BaseHandler[size];
+        this.kinds = new byte[size];
+        this.metrics = metrics;
+        for (int idx = 0; idx < size; idx++) {
+            handlers[idx] = chain.get(idx);
+            kinds[idx] = kindOf(handlers[idx]);
+        }
+    }
+
+    @Override
+    public void execute(Request request, ChainContext.Context context) {
+        for (int idx = 0; idx < handlers.length; idx++) {
+            invoke(handlers[idx], kinds[idx], request, context, metrics == null ? null : metrics[idx]);
+            if (context.isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 执行单个Handler，业务Handler判定为重复时不执行process
+     *
+     * @param handler
+     * @param kind    Handler的类型
+     * @param request
+     * @param context
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 16:05
+     */
+    static <Request> void invoke(BaseHandler<Request> handler, byte kind, Request request, ChainContext.Context context) {
+        switch (kind) {
+            case CHECK:
+                ((CheckHandler<Request>) handler).checkParams(request);
+                break;
+            case PROCESS:
+                ProcessHandler<Request> processHandler = (ProcessHandler<Request>) handler;
+                if (!processHandler.duplicated(request) && !context.isInterrupted()) {
+                    processHandler.process(request);
+                }
+                break;
+            case ASYNC_PROCESS:
+                AsyncProcessHandler<Request> asyncHandler = (AsyncProcessHandler<Request>) handler;
+                if (!asyncHandler.duplicated(request) && !context.isInterrupted()) {
+                    AsyncChainExecutor.await(asyncHandler.process(request, context), context);
+                }
+                break;
+            case COMPLETED:
+                ((CompletedHandler<Request>) handler).completed(request);
+                break;
+            case SIGNAL:
+                context.apply(((SignalHandler<Request>) handler).handle(request));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 执行单个Handler并统计各阶段耗时、提交各阶段的JFR事件
+     *
+     * @param handler
+     * @param kind    Handler的类型
+     * @param request
+     * @param context
+     * @param metrics Handler指标，为null时不统计也不提交JFR事件
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:35
+     */
+    static <Request> void invoke(BaseHandler<Request> handler, byte kind, Request request, ChainContext.Context context, HandlerMetrics metrics) {
+        if (metrics == null) {
+            invoke(handler, kind, request, context);
+            return;
+        }
+        long start = metrics.start();
+        Object event = metrics.event();
+        switch (kind) {
+            case CHECK:
+                try {
+                    ((CheckHandler<Request>) handler).checkParams(request);
+                } catch (RuntimeException e) {
+                    metrics.recordFailure(Phase.CHECK_PARAMS, start, event, e);
+                    throw e;
+                }
+                metrics.record(Phase.CHECK_PARAMS, start, event, context);
+                break;
+            case PROCESS:
+                ProcessHandler<Request> processHandler = (ProcessHandler<Request>) handler;
+                if (!duplicated(processHandler, request, context, metrics, start, event) && !context.isInterrupted()) {
+                    start = metrics.start();
+                    event = metrics.event();
+                    try {
+                        processHandler.process(request);
+                    } catch (RuntimeException e) {
+                        metrics.recordFailure(Phase.PROCESS, start, event, e);
+                        throw e;
+                    }
+                    metrics.record(Phase.PROCESS, start, event, context);
+                }
+                break;
+            case ASYNC_PROCESS:
+                AsyncProcessHandler<Request> asyncHandler = (AsyncProcessHandler<Request>) handler;
+                boolean duplicated;
+                try {
+                    duplicated = asyncHandler.duplicated(request);
+                } catch (RuntimeException e) {
+                    metrics.recordFailure(Phase.DUPLICATED, start, event, e);
+                    throw e;
+                }
+                metrics.recordDuplicated(start, event, duplicated, context);
+                if (!duplicated && !context.isInterrupted()) {
+                    start = metrics.start();
+                    event = metrics.event();
+                    try {
+                        AsyncChainExecutor.await(asyncHandler.process(request, context), context);
+                    } catch (RuntimeException e) {
+                        metrics.recordFailure(Phase.PROCESS, start, event, e);
+                        throw e;
+                    }
+                    metrics.record(Phase.PROCESS, start, event, context);
+                }
+                break;
+            case COMPLETED:
+                try {
+                    ((CompletedHandler<Request>) handler).completed(request);
+                } catch (RuntimeException e) {
+                    metrics.recordFailure(Phase.COMPLETED, start, event, e);
+                    throw e;
+                }
+                metrics.record(Phase.COMPLETED, start, event, context);
+                break;
+            case SIGNAL:
+                try {
+                    context.apply(((SignalHandler<Request>) handler).handle(request));
+                } catch (RuntimeException e) {
+                    metrics.recordFailure(Phase.HANDLE, start, event, e);
+                    throw e;
+                }
+                metrics.record(Phase.HANDLE, start, event, context);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static <Request> boolean duplicated(ProcessHandler<Request> handler, Request request, ChainContext.Context context, HandlerMetrics metrics, long start, Object event) {
+        boolean duplicated;
+        try {
+            duplicated = handler.duplicated(request);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Phase.DUPLICATED, start, event, e);
+            throw e;
+        }
+        metrics.recordDuplicated(start, event, duplicated, context);
+        return duplicated;
+    }
+
+    /**
+     * 获取Handler的类型，与原责任链的判断顺序保持一致
+     *
+     * @param handler
+     * @return byte
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 10:20
+     */
+    static byte kindOf(BaseHandler<?> handler) {
+        if (handler instanceof CheckHandler) {
+            return CHECK;
+        } else if (handler instanceof ProcessHandler) {
+            return PROCESS;
+        } else if (handler instanceof CompletedHandler) {
+            return COMPLETED;
+        } else if (handler instanceof AsyncProcessHandler) {
+            return ASYNC_PROCESS;
+        } else if (handler instanceof SignalHandler) {
+            return SIGNAL;
+        }
+        return 0;
+    }
+}
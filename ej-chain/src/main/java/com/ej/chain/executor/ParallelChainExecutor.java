@@ -0,0 +1,137 @@
+package com.ej.chain.executor;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.metrics.HandlerMetrics;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 并行责任链执行器，按{@link ChainDependencyGraph}的分层逐层执行，同一层的Handler在ForkJoinPool中并行执行<br/>
+ * 同一层的Handler各自使用分支上下文，全部结束后按注册顺序合并：排在最前面的异常或中断决定本次执行的结果，
+ * 与顺序执行时最先发生的异常或中断一致，有中断时不再执行后续层；同一层中已经开始执行的Handler不会被取消，
+ * 因此同一层中只有没有副作用的校验Handler和标记了{@link com.ej.chain.annotation.SideEffectFree}的业务Handler，
+ * 其他业务Handler单独成层，前面的Handler中断或抛出异常时不会执行
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 16:25
+ */
+public class ParallelChainExecutor<Request> implements ChainExecutor<Request> {
+
+    private final BaseHandler<Request>[] handlers;
+    private final byte[] kinds;
+    private final int[][] levels;
+    private final ForkJoinPool pool;
+    private final HandlerMetrics[] metrics;
+
+    public ParallelChainExecutor(List<BaseHandler<Request>> chain, ForkJoinPool pool) {
+        this(chain, pool, null);
+    }
+
+    /**
+     * @param chain   责任链
+     * @param pool    并行执行使用的线程池
+     * @param metrics 与责任链一一对应的Handler指标，为null时不统计也不提交JFR事件
+     */
+    public ParallelChainExecutor(List<BaseHandler<Request>> chain, ForkJoinPool pool, HandlerMetrics[] metrics) {
+        int size = chain == null ? 0 : chain.size();
+        this.handlers = new BaseHandler[size];
+        this.kinds = new byte[size];
+        for (int idx = 0; idx < size; idx++) {
+            handlers[idx] = chain.get(idx);
+            kinds[idx] = InterpretedChainExecutor.kindOf(handlers[idx]);
+        }
+        this.levels = ChainDependencyGraph.levels(chain).toArray(new int[0][]);
+        this.pool = pool;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void execute(Request request, ChainContext.Context context) {
+        for (int[] level : levels) {
+            if (level.length == 1) {
+                InterpretedChainExecutor.invoke(handlers[level[0]], kinds[level[0]], request, context, metricsOf(level[0]));
+            } else {
+                executeLevel(level, request, context);
+            }
+            if (context.isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 并行执行同一层的Handler，当前线程执行第一个，其余提交到ForkJoinPool
+     *
+     * @param level
+     * @param request
+     * @param context
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 16:25
+     */
+    private void executeLevel(int[] level, Request request, ChainContext.Context context) {
+        HandlerTask<Request>[] tasks = new HandlerTask[level.length];
+        for (int idx = 0; idx < level.length; idx++) {
+            tasks[idx] = new HandlerTask<>(handlers[level[idx]], kinds[level[idx]], metricsOf(level[idx]), request, context.branch());
+        }
+        for (int idx = 1; idx < tasks.length; idx++) {
+            pool.execute(tasks[idx]);
+        }
+        tasks[0].invoke();
+        for (int idx = 1; idx < tasks.length; idx++) {
+            tasks[idx].join();
+        }
+        for (HandlerTask<Request> task : tasks) {
+            if (task.failure instanceof RuntimeException) {
+                throw (RuntimeException) task.failure;
+            } else if (task.failure instanceof Error) {
+                throw (Error) task.failure;
+            } else if (task.failure != null) {
+                throw new IllegalStateException(task.failure);
+            }
+            context.merge(task.branch);
+            if (context.isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    private HandlerMetrics metricsOf(int idx) {
+        return metrics == null ? null : metrics[idx];
+    }
+
+    /**
+     * 在分支上下文中执行单个Handler，异常记录下来由调用方按注册顺序处理
+     *
+     * @author: Evan·Jiang
+     * @date: 2026/10/18 16:25
+     */
+    private static final class HandlerTask<Request> extends RecursiveAction {
+
+        private final BaseHandler<Request> handler;
+        private final byte kind;
+        private final HandlerMetrics metrics;
+        private final Request request;
+        private final ChainContext.Context branch;
+        private Throwable failure;
+
+        private HandlerTask(BaseHandler<Request> handler, byte kind, HandlerMetrics metrics, Request request, ChainContext.Context branch) {
+            this.handler = handler;
+            this.kind = kind;
+            this.metrics = metrics;
+            this.request = request;
+            this.branch = branch;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                ChainContext.runWith(branch, () -> InterpretedChainExecutor.invoke(handler, kind, request, branch, metrics));
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+    }
+}
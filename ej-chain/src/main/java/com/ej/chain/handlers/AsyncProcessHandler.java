@@ -0,0 +1,46 @@
+package com.ej.chain.handlers;
+
+import com.ej.chain.context.ChainContext;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 异步业务处理Handler，process返回异步结果，等待远程调用时不占用执行线程<br/>
+ * 异步回调可能在其他线程执行，回调中需要通过传入的上下文对象读写临时变量、设置返回值
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 14:20
+ */
+public interface AsyncProcessHandler<Request> extends BaseHandler<Request> {
+    /**
+     * 是否重复
+     * @param request
+     * @return boolean <br/>true:不再执行{@link AsyncProcessHandler#process(Object, ChainContext.Context)}
+     * <br/>false:继续执行{@link AsyncProcessHandler#process(Object, ChainContext.Context)}
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:20
+     */
+    boolean duplicated(Request request);
+
+    /**
+     * 异步业务处理，返回的异步结果完成后才执行后续Handler，异常完成时按同步抛出异常处理
+     * @param request
+     * @param context 当前执行的上下文
+     * @return java.util.concurrent.CompletionStage<?>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:20
+     */
+    CompletionStage<?> process(Request request, ChainContext.Context context);
+
+    /**
+     * 将提示信息组装返回值设置到上行文中，并设置为中断，只能在process的同步部分调用
+     *
+     * @param responseCode
+     * @param responseMsg
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:20
+     */
+    default void injectTips(String responseCode, String responseMsg) {
+        ChainContext.injectTips(responseCode, responseMsg);
+    }
+}
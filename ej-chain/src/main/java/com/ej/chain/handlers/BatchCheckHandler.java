@@ -0,0 +1,36 @@
+package com.ej.chain.handlers;
+
+import com.ej.chain.context.ChainContext;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批量参数校验Handler，批量执行责任链时一次校验整批请求<br/>
+ * 批量方法中需要通过对应下标的上下文设置提示信息，只中断该请求
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 17:00
+ */
+public interface BatchCheckHandler<Request> extends CheckHandler<Request> {
+
+    /**
+     * 批量参数校验
+     * @param requests 未中断的请求
+     * @param contexts 与请求下标一一对应的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:00
+     */
+    void checkParams(List<Request> requests, List<ChainContext.Context> contexts);
+
+    /**
+     * 单个请求执行责任链时按只有一个请求的批次校验
+     * @param request
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:00
+     */
+    @Override
+    default void checkParams(Request request) {
+        checkParams(Collections.singletonList(request), Collections.singletonList(ChainContext.current()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.ej.chain.handlers;
+
+import com.ej.chain.context.ChainContext;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批量业务处理Handler，批量执行责任链时一次判断整批请求是否重复、一次处理整批请求，例如用一次批量查询代替逐条查询<br/>
+ * 批量方法中需要通过对应下标的上下文读写临时变量、设置提示信息，只中断该请求
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 17:00
+ */
+public interface BatchProcessHandler<Request> extends ProcessHandler<Request> {
+
+    /**
+     * 批量判断是否重复
+     * @param requests 未中断的请求
+     * @param contexts 与请求下标一一对应的上下文
+     * @return boolean[] 与请求下标一一对应，true:该请求不再执行process
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:00
+     */
+    boolean[] duplicated(List<Request> requests, List<ChainContext.Context> contexts);
+
+    /**
+     * 批量业务处理
+     * @param requests 未中断且不重复的请求
+     * @param contexts 与请求下标一一对应的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:00
+     */
+    void process(List<Request> requests, List<ChainContext.Context> contexts);
+
+    /**
+     * 单个请求执行责任链时按只有一个请求的批次判断
+     * @param request
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:00
+     */
+    @Override
+    default boolean duplicated(Request request) {
+        return duplicated(Collections.singletonList(request), Collections.singletonList(ChainContext.current()))[0];
+    }
+
+    /**
+     * 单个请求执行责任链时按只有一个请求的批次处理
+     * @param request
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:00
+     */
+    @Override
+    default void process(Request request) {
+        process(Collections.singletonList(request), Collections.singletonList(ChainContext.current()));
+    }
+
+    /**
+     * 批量判断是否重复，供包装业务Handler的Handler使用：被包装的Handler支持批量时批量判断，否则在各请求的上下文中逐个判断
+     *
+     * @param handler  被包装的业务Handler
+     * @param requests 请求
+     * @param contexts 与请求下标一一对应的上下文
+     * @return boolean[] 与请求下标一一对应
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 09:30
+     */
+    static <Request> boolean[] batchDuplicated(ProcessHandler<Request> handler, List<Request> requests, List<ChainContext.Context> contexts) {
+        if (handler instanceof BatchProcessHandler) {
+            return ((BatchProcessHandler<Request>) handler).duplicated(requests, contexts);
+        }
+        boolean[] duplicated = new boolean[requests.size()];
+        for (int idx = 0; idx < duplicated.length; idx++) {
+            int current = idx;
+            ChainContext.runWith(contexts.get(idx), () -> duplicated[current] = handler.duplicated(requests.get(current)));
+        }
+        return duplicated;
+    }
+
+    /**
+     * 批量业务处理，供包装业务Handler的Handler使用：被包装的Handler支持批量时批量处理，否则在各请求的上下文中逐个处理
+     *
+     * @param handler  被包装的业务Handler
+     * @param requests 请求
+     * @param contexts 与请求下标一一对应的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 09:30
+     */
+    static <Request> void batchProcess(ProcessHandler<Request> handler, List<Request> requests, List<ChainContext.Context> contexts) {
+        if (handler instanceof BatchProcessHandler) {
+            ((BatchProcessHandler<Request>) handler).process(requests, contexts);
+            return;
+        }
+        for (int idx = 0; idx < requests.size(); idx++) {
+            Request request = requests.get(idx);
+            ChainContext.runWith(contexts.get(idx), () -> handler.process(request));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ej.chain.handlers;
+
+/**
+ * 包装其他Handler的Handler，框架需要读取Handler上的注解等信息时以被包装的Handler为准
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 17:40
+ */
+public interface DelegatingHandler<Request> extends BaseHandler<Request> {
+
+    /**
+     * 获取被包装的Handler
+     *
+     * @return com.ej.chain.handlers.BaseHandler<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:40
+     */
+    BaseHandler<Request> delegate();
+
+    /**
+     * 获取最内层被包装的Handler
+     *
+     * @param handler
+     * @return com.ej.chain.handlers.BaseHandler<?>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:40
+     */
+    static BaseHandler<?> unwrap(BaseHandler<?> handler) {
+        while (handler instanceof DelegatingHandler) {
+            handler = ((DelegatingHandler<?>) handler).delegate();
+        }
+        return handler;
+    }
+}
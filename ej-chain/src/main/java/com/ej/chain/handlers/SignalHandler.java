@@ -0,0 +1,18 @@
+package com.ej.chain.handlers;
+
+import com.ej.chain.dto.Signal;
+
+public interface SignalHandler<Request> extends BaseHandler<Request> {
+    /**
+     * 业务处理，通过返回的信号决定责任链是否继续
+     * @param request
+     * @return com.ej.chain.dto.Signal 不能为null
+     * <br/>{@link Signal#CONTINUE}:继续执行后续Handler
+     * <br/>{@link Signal#SKIP}:不再执行后续Handler，返回值保持不变
+     * <br/>{@link Signal#tips(String, String)}:设置提示信息并中断
+     * <br/>{@link Signal#data(Object)}:设置业务数据并中断
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:40
+     */
+    Signal handle(Request request);
+}
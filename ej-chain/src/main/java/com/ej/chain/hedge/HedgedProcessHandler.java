@@ -0,0 +1,201 @@
+package com.ej.chain.hedge;
+
+import com.ej.chain.annotation.Idempotent;
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.executor.AsyncChainExecutor;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+import com.ej.chain.handlers.ProcessHandler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 对冲执行的业务Handler，用于调用多副本下游服务、标记了{@link Idempotent}的业务Handler<br/>
+ * process在线程池中执行，超过该Handler最近耗时的指定分位数还没有完成时，再发起一次process，先成功的结果生效，另一次被取消(中断线程)；
+ * 每次执行使用{@link ChainContext.Context#fork()}隔离的上下文，只有生效的一次写入的临时变量和返回值合并回责任链上下文；
+ * 每次执行无论成功、失败还是被取消都记录耗时，被取消的执行记录到取消时为止的耗时，避免慢请求被丢弃导致分位数偏低
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:15
+ */
+public class HedgedProcessHandler<Request> implements ProcessHandler<Request>, DelegatingHandler<Request> {
+
+    /**
+     * 计算分位数的最近耗时个数
+     */
+    private static final int WINDOW = 1024;
+    /**
+     * 最近耗时少于该个数时不对冲
+     */
+    private static final int MIN_SAMPLES = 100;
+
+    private final ProcessHandler<Request> delegate;
+    private final Executor executor;
+    private final RecentLatencies latencies;
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * @param delegate 标记了{@link Idempotent}的业务Handler
+     * @param quantile 触发对冲的耗时分位数，如0.95
+     * @param executor 执行process的线程池，对冲时同一请求占用两个线程
+     */
+    public HedgedProcessHandler(ProcessHandler<Request> delegate, double quantile, Executor executor) {
+        if (DelegatingHandler.unwrap(delegate).getClass().getAnnotation(Idempotent.class) == null) {
+            throw new IllegalArgumentException(DelegatingHandler.unwrap(delegate).getClass().getName() + " must be annotated with " + Idempotent.class.getName() + " to be hedged");
+        }
+        if (quantile <= 0 || quantile >= 1) {
+            throw new IllegalArgumentException("quantile must be between 0 and 1, but was " + quantile);
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+        this.latencies = new RecentLatencies(WINDOW, quantile, MIN_SAMPLES);
+    }
+
+    /**
+     * 包装业务Handler
+     *
+     * @param delegate 标记了{@link Idempotent}的业务Handler
+     * @param quantile 触发对冲的耗时分位数，如0.95
+     * @param executor 执行process的线程池
+     * @return com.ej.chain.hedge.HedgedProcessHandler<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:15
+     */
+    public static <Request> HedgedProcessHandler<Request> of(ProcessHandler<Request> delegate, double quantile, Executor executor) {
+        return new HedgedProcessHandler<>(delegate, quantile, executor);
+    }
+
+    @Override
+    public boolean duplicated(Request request) {
+        return delegate.duplicated(request);
+    }
+
+    @Override
+    public void process(Request request) {
+        ChainContext.Context context = ChainContext.current();
+        CompletableFuture<ChainContext.Context> winner = new CompletableFuture<>();
+        AtomicInteger running = new AtomicInteger(1);
+        Attempt primary = attempt(request, context.fork(), winner, running, false);
+        Attempt hedge = null;
+        try {
+            long delay = Math.min(latencies.percentile(), context.remainingNanos());
+            ChainContext.Context result;
+            try {
+                result = winner.get(delay, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (context.remainingNanos() <= 0) {
+                    context.timeout();
+                    return;
+                }
+                if (running.getAndIncrement() > 0) {
+                    hedges.increment();
+                    hedge = attempt(request, context.fork(), winner, running, true);
+                }
+                result = winner.get(context.remainingNanos(), TimeUnit.NANOSECONDS);
+            }
+            context.join(result);
+        } catch (TimeoutException e) {
+            context.timeout();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = AsyncChainExecutor.unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            primary.cancel();
+            if (hedge != null) {
+                hedge.cancel();
+            }
+        }
+    }
+
+    /**
+     * 在线程池中执行一次process，成功时以该次的上下文完成winner，所有已发起的执行都失败时以最后一次的异常完成
+     */
+    private Attempt attempt(Request request, ChainContext.Context fork, CompletableFuture<ChainContext.Context> winner, AtomicInteger running, boolean hedged) {
+        Attempt attempt = new Attempt();
+        attempt.task = new FutureTask<>(() -> {
+            attempt.start = System.nanoTime();
+            try {
+                ChainContext.runWith(fork, () -> delegate.process(request));
+            } catch (Throwable e) {
+                attempt.sample();
+                if (running.decrementAndGet() == 0) {
+                    winner.completeExceptionally(e);
+                }
+                return null;
+            }
+            attempt.sample();
+            if (winner.complete(fork) && hedged) {
+                hedgeWins.increment();
+            }
+            return null;
+        });
+        executor.execute(attempt.task);
+        return attempt;
+    }
+
+    /**
+     * 一次执行，耗时只记录一次：执行结束时记录实际耗时，先被取消时记录到取消时为止的耗时
+     */
+    private final class Attempt {
+
+        private final AtomicBoolean sampled = new AtomicBoolean();
+        private volatile long start;
+        private FutureTask<?> task;
+
+        /**
+         * 记录耗时，还没有开始执行的不记录
+         */
+        void sample() {
+            long begin = start;
+            if (begin != 0L && sampled.compareAndSet(false, true)) {
+                latencies.record(System.nanoTime() - begin);
+            }
+        }
+
+        /**
+         * 取消执行(中断线程)，还在执行时记录到此时为止的耗时
+         */
+        void cancel() {
+            if (task.cancel(true)) {
+                sample();
+            }
+        }
+    }
+
+    /**
+     * 发起对冲的次数
+     */
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * 对冲执行先完成并生效的次数
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    @Override
+    public BaseHandler<Request> delegate() {
+        return delegate;
+    }
+}
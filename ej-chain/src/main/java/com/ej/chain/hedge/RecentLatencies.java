@@ -0,0 +1,58 @@
+package com.ej.chain.hedge;
+
+import java.util.Arrays;
+
+/**
+ * 最近若干次耗时的滑动窗口，用于计算对冲的等待时间<br/>
+ * 记录只写环形数组；分位数每记录窗口的1/8次后重新排序计算一次，其余时间直接读取缓存值
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:15
+ */
+class RecentLatencies {
+
+    private final long[] samples;
+    private final double quantile;
+    private final int minSamples;
+    private final int refreshInterval;
+    private int next;
+    private int count;
+    private int sinceRefresh;
+    private volatile long cachedPercentile = Long.MAX_VALUE;
+
+    /**
+     * @param window     窗口大小
+     * @param quantile   分位数，0到1之间
+     * @param minSamples 样本数少于该值时分位数为Long.MAX_VALUE，即不对冲
+     */
+    RecentLatencies(int window, double quantile, int minSamples) {
+        this.samples = new long[window];
+        this.quantile = quantile;
+        this.minSamples = Math.min(minSamples, window);
+        this.refreshInterval = Math.max(1, window / 8);
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (count >= minSamples && (++sinceRefresh >= refreshInterval || cachedPercentile == Long.MAX_VALUE)) {
+            sinceRefresh = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = Math.max(0, Math.min(count - 1, (int) Math.ceil(quantile * count) - 1));
+            cachedPercentile = sorted[rank];
+        }
+    }
+
+    /**
+     * 获取最近耗时的分位数
+     *
+     * @return long 纳秒，样本不足时为Long.MAX_VALUE
+     */
+    long percentile() {
+        return cachedPercentile;
+    }
+}
@@ -0,0 +1,147 @@
+package com.ej.chain.idempotent;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.BatchProcessHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+import com.ej.chain.handlers.ProcessHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 使用幂等记录存储判断重复的业务Handler<br/>
+ * 业务key已经记录过时判定为重复，不再调用被包装Handler的duplicated和process；
+ * 调用process前通过{@link IdempotentStore#claim(String)}占用业务key，同一个key并发执行时只有占用成功的一次调用被包装Handler的process，
+ * 其他的按重复处理(跳过process，继续执行后续Handler)；process正常结束且没有设置提示信息时记录业务key，抛出异常或设置了提示信息时释放，之后的重试可以再执行<br/>
+ * 批量执行责任链时被包装的Handler支持批量则批量调用
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 17:50
+ */
+public class IdempotentProcessHandler<Request> implements BatchProcessHandler<Request>, DelegatingHandler<Request> {
+
+    private final ProcessHandler<Request> delegate;
+    private final Function<Request, String> keyExtractor;
+    private final IdempotentStore store;
+
+    public IdempotentProcessHandler(ProcessHandler<Request> delegate, Function<Request, String> keyExtractor, IdempotentStore store) {
+        this.delegate = delegate;
+        this.keyExtractor = keyExtractor;
+        this.store = store;
+    }
+
+    /**
+     * 包装业务Handler
+     *
+     * @param delegate     被包装的业务Handler
+     * @param keyExtractor 从请求中获取业务key，例如申请单号
+     * @param store        幂等记录存储
+     * @return com.ej.chain.idempotent.IdempotentProcessHandler<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:50
+     */
+    public static <Request> IdempotentProcessHandler<Request> of(ProcessHandler<Request> delegate, Function<Request, String> keyExtractor, IdempotentStore store) {
+        return new IdempotentProcessHandler<>(delegate, keyExtractor, store);
+    }
+
+    @Override
+    public boolean duplicated(Request request) {
+        String key = keyExtractor.apply(request);
+        return (key != null && store.contains(key)) || delegate.duplicated(request);
+    }
+
+    @Override
+    public void process(Request request) {
+        String key = keyExtractor.apply(request);
+        if (key == null) {
+            delegate.process(request);
+            return;
+        }
+        if (!store.claim(key)) {
+            return;
+        }
+        try {
+            delegate.process(request);
+        } catch (RuntimeException | Error e) {
+            store.release(key);
+            throw e;
+        }
+        settle(key, ChainContext.current());
+    }
+
+    @Override
+    public boolean[] duplicated(List<Request> requests, List<ChainContext.Context> contexts) {
+        boolean[] duplicated = new boolean[requests.size()];
+        List<Request> pending = new ArrayList<>(requests.size());
+        List<ChainContext.Context> pendingContexts = new ArrayList<>(requests.size());
+        List<Integer> indexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String key = keyExtractor.apply(requests.get(i));
+            if (key != null && store.contains(key)) {
+                duplicated[i] = true;
+            } else {
+                pending.add(requests.get(i));
+                pendingContexts.add(contexts.get(i));
+                indexes.add(i);
+            }
+        }
+        if (!pending.isEmpty()) {
+            boolean[] delegated = BatchProcessHandler.batchDuplicated(delegate, pending, pendingContexts);
+            for (int i = 0; i < delegated.length; i++) {
+                duplicated[indexes.get(i)] = delegated[i];
+            }
+        }
+        return duplicated;
+    }
+
+    @Override
+    public void process(List<Request> requests, List<ChainContext.Context> contexts) {
+        List<Request> claimedRequests = new ArrayList<>(requests.size());
+        List<ChainContext.Context> claimedContexts = new ArrayList<>(requests.size());
+        List<String> keys = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String key = keyExtractor.apply(requests.get(i));
+            if (key == null || store.claim(key)) {
+                claimedRequests.add(requests.get(i));
+                claimedContexts.add(contexts.get(i));
+                keys.add(key);
+            }
+        }
+        if (claimedRequests.isEmpty()) {
+            return;
+        }
+        try {
+            BatchProcessHandler.batchProcess(delegate, claimedRequests, claimedContexts);
+        } catch (RuntimeException | Error e) {
+            for (String key : keys) {
+                if (key != null) {
+                    store.release(key);
+                }
+            }
+            throw e;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i) != null) {
+                settle(keys.get(i), claimedContexts.get(i));
+            }
+        }
+    }
+
+    /**
+     * process结束后处理占用的业务key：设置了提示信息时释放，否则记录为处理完成
+     */
+    private void settle(String key, ChainContext.Context context) {
+        if (context.isInterrupted() && context.baseResponse().getResponseCode() != null) {
+            store.release(key);
+        } else {
+            store.record(key);
+        }
+    }
+
+    @Override
+    public BaseHandler<Request> delegate() {
+        return delegate;
+    }
+}
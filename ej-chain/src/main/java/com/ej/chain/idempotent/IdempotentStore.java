@@ -0,0 +1,52 @@
+package com.ej.chain.idempotent;
+
+/**
+ * 幂等记录存储，记录已经处理完成的业务key
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 17:45
+ */
+public interface IdempotentStore {
+
+    /**
+     * 业务key是否已经处理完成
+     *
+     * @param key 业务key
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:45
+     */
+    boolean contains(String key);
+
+    /**
+     * 记录业务key已经处理完成
+     *
+     * @param key 业务key
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:45
+     */
+    void record(String key);
+
+    /**
+     * 占用业务key，占用成功的调用方处理完成后调用{@link #record(String)}，处理失败时调用{@link #release(String)}<br/>
+     * 业务key已经处理完成或正在被其他调用方处理时占用失败；默认实现只判断是否处理完成，不是原子操作，需要并发去重的存储应覆盖
+     *
+     * @param key 业务key
+     * @return boolean 是否占用成功
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:30
+     */
+    default boolean claim(String key) {
+        return !contains(key);
+    }
+
+    /**
+     * 释放{@link #claim(String)}占用的业务key，之后的调用可以重新处理
+     *
+     * @param key 业务key
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:30
+     */
+    default void release(String key) {
+    }
+}
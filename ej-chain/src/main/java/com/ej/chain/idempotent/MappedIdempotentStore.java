@@ -0,0 +1,294 @@
+package com.ej.chain.idempotent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 基于内存映射文件的幂等记录存储<br/>
+ * 内存中保存有容量上限、带过期时间的并发索引，查询和占用只访问内存、不加锁；每条记录同时追加写入内存映射文件，重启后回放文件恢复索引<br/>
+ * 只有追加记录和重写文件持有锁，文件写满时只保留未过期的记录重写文件；记录写入映射内存即返回，进程退出不丢失，操作系统崩溃时可能丢失最近的记录<br/>
+ * 正在处理的业务key只保存在内存中，同一个key同时只能被占用一次，进程重启后占用失效
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 18:00
+ */
+public class MappedIdempotentStore implements IdempotentStore, Closeable {
+
+    /**
+     * 文件头标识
+     */
+    private static final int MAGIC = 0x454A4944;
+    private static final int HEADER_LENGTH = 4;
+    /**
+     * 每条记录：key长度(int) + key(UTF-8) + 过期时间(long)，key长度最后写入，为0表示后面没有记录
+     */
+    private static final int RECORD_OVERHEAD = 12;
+    private static final String COMPACT_SUFFIX = ".compact";
+
+    private final Path file;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final int initialCapacity;
+    /**
+     * 业务key -> 最近一次记录
+     */
+    private final ConcurrentHashMap<String, Entry> index = new ConcurrentHashMap<>();
+    /**
+     * 按记录顺序保存的记录，超过容量时淘汰最早的记录；只在持有锁时访问，重复记录的key留下的旧记录已不在索引中，淘汰时跳过
+     */
+    private final ArrayDeque<Entry> order = new ArrayDeque<>();
+    /**
+     * 已占用、还没有处理完成的业务key
+     */
+    private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+    /**
+     * 时钟，返回System.currentTimeMillis()的值
+     */
+    private final LongSupplier clock;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    /**
+     * @param file            记录文件
+     * @param maxEntries      内存中最多保存的记录数，超过时淘汰最早的记录
+     * @param ttlMillis       记录的有效时间，毫秒
+     * @param initialCapacity 记录文件的初始大小，字节
+     */
+    public MappedIdempotentStore(Path file, int maxEntries, long ttlMillis, int initialCapacity) {
+        this(file, maxEntries, ttlMillis, initialCapacity, System::currentTimeMillis);
+    }
+
+    /**
+     * 使用指定时钟的存储，测试时用来控制时间
+     *
+     * @param clock 返回毫秒时间，与System.currentTimeMillis()语义相同
+     */
+    MappedIdempotentStore(Path file, int maxEntries, long ttlMillis, int initialCapacity, LongSupplier clock) {
+        this.file = file;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.initialCapacity = Math.max(initialCapacity, HEADER_LENGTH + RECORD_OVERHEAD);
+        this.clock = clock;
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public MappedIdempotentStore(String file, int maxEntries, long ttlMillis) {
+        this(Paths.get(file), maxEntries, ttlMillis, 16 * 1024 * 1024);
+    }
+
+    @Override
+    public boolean contains(String key) {
+        Entry entry = index.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.expireAt < clock.getAsLong()) {
+            index.remove(key, entry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 占用成功后再确认一次：{@link #record(String)}先写索引再释放占用，
+     * 占用成功时如果刚好有其他调用方处理完成并释放，此时一定能查到它的记录
+     */
+    @Override
+    public boolean claim(String key) {
+        if (contains(key) || !claimed.add(key)) {
+            return false;
+        }
+        if (contains(key)) {
+            claimed.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void release(String key) {
+        claimed.remove(key);
+    }
+
+    @Override
+    public void record(String key) {
+        long expireAt = clock.getAsLong() + ttlMillis;
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        synchronized (this) {
+            try {
+                if (buffer.remaining() < bytes.length + RECORD_OVERHEAD + 4) {
+                    compact(bytes.length + RECORD_OVERHEAD);
+                }
+                append(buffer, bytes, expireAt);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            index(key, expireAt);
+        }
+        claimed.remove(key);
+    }
+
+    /**
+     * 写入索引，超过容量时按记录顺序淘汰最早的记录，持有锁时调用
+     *
+     * @param key
+     * @param expireAt
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 11:30
+     */
+    private void index(String key, long expireAt) {
+        Entry entry = new Entry(key, expireAt);
+        index.put(key, entry);
+        order.addLast(entry);
+        while (index.size() > maxEntries && !order.isEmpty()) {
+            Entry eldest = order.pollFirst();
+            index.remove(eldest.key, eldest);
+        }
+        if (order.size() > Math.max(16, maxEntries * 2)) {
+            order.removeIf(this::stale);
+        }
+    }
+
+    private boolean stale(Entry entry) {
+        return index.get(entry.key) != entry;
+    }
+
+    /**
+     * 将已写入的记录刷到磁盘
+     *
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:00
+     */
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * 打开记录文件并回放未过期的记录
+     *
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:00
+     */
+    private void open() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(channel.size(), initialCapacity);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+        }
+        buffer.position(HEADER_LENGTH);
+        long now = clock.getAsLong();
+        while (buffer.remaining() >= RECORD_OVERHEAD + 4) {
+            int length = buffer.getInt(buffer.position());
+            if (length <= 0 || length > buffer.remaining() - RECORD_OVERHEAD) {
+                break;
+            }
+            byte[] bytes = new byte[length];
+            buffer.position(buffer.position() + 4);
+            buffer.get(bytes);
+            long expireAt = buffer.getLong();
+            if (expireAt >= now) {
+                index(new String(bytes, StandardCharsets.UTF_8), expireAt);
+            }
+        }
+    }
+
+    /**
+     * 文件写满时按记录顺序只保留内存中未过期的记录，写入新文件后替换原文件
+     *
+     * @param required 需要追加的记录长度
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:00
+     */
+    private void compact(int required) throws IOException {
+        long now = clock.getAsLong();
+        List<Entry> live = new ArrayList<>(index.size());
+        long liveLength = HEADER_LENGTH;
+        for (Entry entry : order) {
+            if (entry.expireAt >= now && !stale(entry)) {
+                live.add(entry);
+                liveLength += entry.key.getBytes(StandardCharsets.UTF_8).length + RECORD_OVERHEAD;
+            }
+        }
+        long capacity = Math.max(initialCapacity, (liveLength + required) * 2 + 4);
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException(file + " is too large to compact, live length:" + liveLength);
+        }
+        Path compactFile = file.resolveSibling(file.getFileName() + COMPACT_SUFFIX);
+        try (FileChannel compactChannel = FileChannel.open(compactFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer compactBuffer = compactChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            compactBuffer.putInt(MAGIC);
+            for (Entry entry : live) {
+                append(compactBuffer, entry.key.getBytes(StandardCharsets.UTF_8), entry.expireAt);
+            }
+            compactBuffer.force();
+        }
+        channel.close();
+        Files.move(compactFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        index.values().removeIf(entry -> entry.expireAt < now);
+        order.clear();
+        order.addAll(live);
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        buffer.position((int) liveLength);
+    }
+
+    /**
+     * 追加一条记录，key长度最后写入，写入中途退出时回放会停在这条记录之前
+     *
+     * @param target
+     * @param bytes
+     * @param expireAt
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:00
+     */
+    private static void append(MappedByteBuffer target, byte[] bytes, long expireAt) {
+        int start = target.position();
+        target.position(start + 4);
+        target.put(bytes);
+        target.putLong(expireAt);
+        target.putInt(start, bytes.length);
+    }
+
+    /**
+     * 一次记录，按对象判等，重复记录同一个key时旧记录不会误删新记录
+     */
+    private static final class Entry {
+        private final String key;
+        private final long expireAt;
+
+        private Entry(String key, long expireAt) {
+            this.key = key;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.ej.chain.jfr;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.exception.ChainForcedInterruptException;
+import jdk.jfr.EventType;
+
+/**
+ * 提交责任链和Handler的JFR事件，由执行器和责任链管理类在执行前后调用<br/>
+ * 责任链执行事件始终提交；Handler阶段事件只在开启指标统计或{@link com.ej.chain.manages.AbstractManage#handlerEvents()}时提交，否则执行器不为Handler做任何记录<br/>
+ * 运行环境没有jdk.jfr模块时不加载任何JFR类，所有方法都不做任何事；没有开启记录时begin方法只读取事件类型是否开启并返回null，不创建事件对象<br/>
+ * 事件在执行开始时begin、结束时end，JFR时长就是执行耗时，threshold配置和JMC的时长视图都按实际耗时生效
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 00:20
+ */
+public final class ChainEvents {
+
+    public static final String OUTCOME_CONTINUE = "continue";
+    public static final String OUTCOME_DUPLICATED = "duplicated";
+    public static final String OUTCOME_INTERRUPTED = "interrupted";
+    public static final String OUTCOME_TIMEOUT = "timeout";
+    public static final String OUTCOME_EXCEPTION = "exception";
+
+    private static final boolean AVAILABLE = available();
+
+    private ChainEvents() {
+    }
+
+    private static boolean available() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+            return Types.CHAIN != null && Types.HANDLER != null;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * 运行环境是否支持JFR事件，不支持时执行器不需要为事件做任何准备
+     *
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * 开始一次责任链执行事件
+     *
+     * @return java.lang.Object 事件，没有JFR记录开启该事件时为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    public static Object beginChain() {
+        return AVAILABLE && Types.CHAIN.isEnabled() ? Types.beginChain() : null;
+    }
+
+    /**
+     * 结束并提交责任链执行事件，返回值组装完成后调用
+     *
+     * @param event        {@link #beginChain()}返回的事件，为null时不做任何事
+     * @param manage       责任链管理类
+     * @param context      本次执行的上下文
+     * @param e            执行过程中抛出的异常，没有异常时为null
+     * @param responseCode 返回码
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    public static void endChain(Object event, String manage, ChainContext.Context context, Throwable e, String responseCode) {
+        if (event != null) {
+            Types.endChain(event, manage, outcome(context, e), responseCode);
+        }
+    }
+
+    /**
+     * 开始一次Handler阶段事件
+     *
+     * @return java.lang.Object 事件，没有JFR记录开启该事件时为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    public static Object beginHandler() {
+        return AVAILABLE && Types.HANDLER.isEnabled() ? Types.beginHandler() : null;
+    }
+
+    /**
+     * 结束并提交Handler阶段事件
+     *
+     * @param event        {@link #beginHandler()}返回的事件，为null时不做任何事
+     * @param manage       责任链管理类
+     * @param handler      Handler类，代理类和包装类以被代理、被包装的Handler为准
+     * @param phase        执行阶段
+     * @param outcome      执行结果
+     * @param responseCode 阶段结束后的返回码，没有中断时为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    public static void endHandler(Object event, String manage, String handler, String phase, String outcome, String responseCode) {
+        if (event != null) {
+            Types.endHandler(event, manage, handler, phase, outcome, responseCode);
+        }
+    }
+
+    /**
+     * 获取一次责任链执行的结果
+     *
+     * @param context 本次执行的上下文
+     * @param e       执行过程中抛出的异常，没有异常时为null
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    public static String outcome(ChainContext.Context context, Throwable e) {
+        if (e instanceof ChainForcedInterruptException) {
+            return OUTCOME_INTERRUPTED;
+        } else if (e != null) {
+            return OUTCOME_EXCEPTION;
+        } else if (context.isInterrupted()) {
+            return context.isTimedOut() ? OUTCOME_TIMEOUT : OUTCOME_INTERRUPTED;
+        }
+        return OUTCOME_CONTINUE;
+    }
+
+    /**
+     * 引用JFR类的代码都在这里，只有jdk.jfr存在时才会加载
+     */
+    private static final class Types {
+
+        static final EventType CHAIN = EventType.getEventType(ChainExecutionEvent.class);
+        static final EventType HANDLER = EventType.getEventType(HandlerPhaseEvent.class);
+
+        static Object beginChain() {
+            ChainExecutionEvent event = new ChainExecutionEvent();
+            event.begin();
+            return event;
+        }
+
+        static void endChain(Object begun, String manage, String outcome, String responseCode) {
+            ChainExecutionEvent event = (ChainExecutionEvent) begun;
+            event.end();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            event.manage = manage;
+            event.outcome = outcome;
+            event.responseCode = responseCode;
+            event.commit();
+        }
+
+        static Object beginHandler() {
+            HandlerPhaseEvent event = new HandlerPhaseEvent();
+            event.begin();
+            return event;
+        }
+
+        static void endHandler(Object begun, String manage, String handler, String phase, String outcome, String responseCode) {
+            HandlerPhaseEvent event = (HandlerPhaseEvent) begun;
+            event.end();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            event.manage = manage;
+            event.handler = handler;
+            event.phase = phase;
+            event.outcome = outcome;
+            event.responseCode = responseCode;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ej.chain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 一次责任链执行的JFR事件，执行开始时begin、结束时提交，事件时长为执行耗时
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 00:20
+ */
+@Name("com.ej.chain.ChainExecution")
+@Label("Chain Execution")
+@Category("EJ Chain")
+@Description("One execution of a manage's handler chain")
+@StackTrace(false)
+class ChainExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Manage")
+    String manage;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Response Code")
+    String responseCode;
+}
@@ -0,0 +1,36 @@
+package com.ej.chain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Handler一个执行阶段的JFR事件，阶段开始时begin、结束时提交，事件时长为阶段耗时
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 00:20
+ */
+@Name("com.ej.chain.HandlerPhase")
+@Label("Handler Phase")
+@Category("EJ Chain")
+@Description("One phase of a handler in a chain execution")
+@StackTrace(false)
+class HandlerPhaseEvent extends jdk.jfr.Event {
+
+    @Label("Manage")
+    String manage;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Response Code")
+    String responseCode;
+}
@@ -0,0 +1,1010 @@
+package com.ej.chain.manages;
+
+import com.ej.chain.adaptive.AdaptiveCheckGroup;
+import com.ej.chain.annotation.Bulkhead;
+import com.ej.chain.cache.ResultCache;
+import com.ej.chain.codec.ChainCodec;
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.context.ContextPool;
+import com.ej.chain.dto.BaseResponse;
+import com.ej.chain.exception.ChainForcedInterruptException;
+import com.ej.chain.executor.AsyncChainExecutor;
+import com.ej.chain.executor.BatchChainExecutor;
+import com.ej.chain.executor.ChainExecutor;
+import com.ej.chain.executor.ChainExecutorFactory;
+import com.ej.chain.executor.InterpretedChainExecutor;
+import com.ej.chain.executor.ParallelChainExecutor;
+import com.ej.chain.handlers.AsyncProcessHandler;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.BatchCheckHandler;
+import com.ej.chain.handlers.BatchProcessHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+import com.ej.chain.handlers.ProcessHandler;
+import com.ej.chain.jfr.ChainEvents;
+import com.ej.chain.metrics.ChainMetrics;
+import com.ej.chain.metrics.HandlerMetrics;
+import com.ej.chain.resilience.BulkheadProcessHandler;
+import com.ej.chain.resilience.CircuitBreaker;
+import com.ej.chain.resilience.CircuitBreakerProcessHandler;
+import com.ej.chain.stream.BackpressureIterator;
+import com.ej.chain.stream.StreamOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * 责任链管理类
+ *
+ * @author: Evan·Jiang
+ * @date: 2020/4/14 16:20
+ */
+public abstract class AbstractManage<Request, Data> {
+
+    public static final Logger LOGGER = LoggerFactory.getLogger(AbstractManage.class);
+
+    /**
+     * 责任链
+     */
+    private List<BaseHandler<Request>> chain;
+
+    /**
+     * 责任链执行器，注册Handler后失效
+     */
+    private volatile ChainExecutor<Request> executor;
+
+    /**
+     * 异步责任链执行器，注册Handler后失效
+     */
+    private volatile AsyncChainExecutor<Request> asyncExecutor;
+
+    /**
+     * 批量责任链执行器，注册Handler后失效
+     */
+    private volatile BatchChainExecutor<Request> batchExecutor;
+
+    /**
+     * 责任链是否已经编译
+     */
+    private volatile boolean compiled;
+
+    /**
+     * 并行执行没有依赖关系的Handler时使用的线程池，为null时顺序执行
+     */
+    private volatile ForkJoinPool parallelPool;
+
+    /**
+     * 业务拒绝(强制中断异常)日志的采样间隔，0:不记录，1:全部记录，N:平均每N次记录一次
+     */
+    private volatile int rejectionLogSampling = 1;
+
+    /**
+     * 责任链指标，为null时不统计
+     */
+    private volatile ChainMetrics metrics;
+
+    /**
+     * 未开启指标统计时是否提交Handler阶段的JFR事件，为false时执行器不为Handler做任何记录
+     */
+    private volatile boolean handlerEvents;
+
+    /**
+     * 上下文池，为null时每次执行创建新的上下文
+     */
+    private volatile ContextPool contextPool;
+
+    /**
+     * 请求与返回值的字节编解码，为null时字节请求按UTF-8转为字符串后调用{@link #convertRequest(String, Class)}
+     */
+    private volatile ChainCodec<Request, Data> codec;
+
+    /**
+     * 每次执行的时间预算，纳秒，为0时不限制
+     */
+    private volatile long timeoutNanos;
+
+    /**
+     * 是否按运行时统计调整{@link com.ej.chain.annotation.Commutative}校验Handler的执行顺序
+     */
+    private volatile boolean adaptiveCheckOrder;
+
+    /**
+     * 返回值缓存和获取key的方法，一起发布，为null时不缓存
+     */
+    private volatile CacheBinding<Request, Data> cacheBinding;
+
+    /**
+     * 将Handler注册到责任链中<br/>
+     * 标记了{@link Bulkhead}、{@link com.ej.chain.annotation.CircuitBreaker}的业务Handler注册时自动包装，见{@link #decorate(BaseHandler)}
+     *
+     * @param handler 业务或校验类Handler
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 16:21
+     */
+    public synchronized AbstractManage<Request, Data> register(BaseHandler<Request> handler) {
+        if (compiled) {
+            throw new IllegalStateException(this.getClass().getName() + " has been compiled, can't register handler any more");
+        }
+        if (chain == null) {
+            chain = new LinkedList<>();
+        }
+        chain.add(decorate(handler));
+        if (adaptiveCheckOrder) {
+            chain = AdaptiveCheckGroup.group(chain);
+        }
+        if (metrics != null) {
+            metrics = metrics.rebuild(chain);
+        }
+        executor = null;
+        asyncExecutor = null;
+        batchExecutor = null;
+        return this;
+    }
+
+    /**
+     * 按Handler类上的{@link Bulkhead}、{@link com.ej.chain.annotation.CircuitBreaker}包装业务Handler，
+     * 外层限制并发数，内层熔断；已经手动包装过的Handler不再包装
+     *
+     * @param handler 业务或校验类Handler
+     * @return com.ej.chain.handlers.BaseHandler<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:35
+     */
+    @SuppressWarnings("unchecked")
+    private BaseHandler<Request> decorate(BaseHandler<Request> handler) {
+        BaseHandler<?> current = handler;
+        while (current instanceof DelegatingHandler) {
+            if (current instanceof BulkheadProcessHandler || current instanceof CircuitBreakerProcessHandler) {
+                return handler;
+            }
+            current = ((DelegatingHandler<?>) current).delegate();
+        }
+        Bulkhead bulkhead = current.getClass().getAnnotation(Bulkhead.class);
+        com.ej.chain.annotation.CircuitBreaker breaker = current.getClass().getAnnotation(com.ej.chain.annotation.CircuitBreaker.class);
+        if (bulkhead == null && breaker == null) {
+            return handler;
+        }
+        if (!(handler instanceof ProcessHandler)) {
+            throw new IllegalArgumentException(current.getClass().getName() + " is annotated with @Bulkhead or @CircuitBreaker, but only ProcessHandler can be decorated");
+        }
+        ProcessHandler<Request> decorated = (ProcessHandler<Request>) handler;
+        if (breaker != null) {
+            decorated = CircuitBreakerProcessHandler.of(decorated, CircuitBreaker.of(breaker),
+                    breaker.code().isEmpty() ? rejectedCode() : breaker.code(), breaker.msg().isEmpty() ? rejectedMsg() : breaker.msg());
+        }
+        if (bulkhead != null) {
+            decorated = BulkheadProcessHandler.of(decorated, bulkhead.value(),
+                    bulkhead.code().isEmpty() ? rejectedCode() : bulkhead.code(), bulkhead.msg().isEmpty() ? rejectedMsg() : bulkhead.msg());
+        }
+        return decorated;
+    }
+
+    /**
+     * 编译责任链，所有Handler注册完成后调用<br/>
+     * 生成直接调用各Handler的执行器类，编译后不能再注册Handler
+     *
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 10:40
+     */
+    public synchronized AbstractManage<Request, Data> compile() {
+        if (!compiled) {
+            executor = parallelPool == null ? ChainExecutorFactory.compile(this.getClass(), chain, handlerMetrics()) : new ParallelChainExecutor<>(chain, parallelPool, handlerMetrics());
+            compiled = true;
+        }
+        return this;
+    }
+
+    /**
+     * 开启校验Handler的自适应排序<br/>
+     * 连续注册的、标记了{@link com.ej.chain.annotation.Commutative}的校验Handler合并为{@link AdaptiveCheckGroup}，
+     * 按运行时统计的耗时和拒绝率调整组内的执行顺序，耗时低、拒绝多的校验先执行；组与组之间、组与其他Handler之间仍按注册顺序执行<br/>
+     * 注册Handler前后调用都可以，编译前调用
+     *
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 00:40
+     */
+    public synchronized AbstractManage<Request, Data> adaptiveCheckOrder() {
+        if (compiled) {
+            throw new IllegalStateException(this.getClass().getName() + " has been compiled, can't change execution mode any more");
+        }
+        adaptiveCheckOrder = true;
+        if (chain != null) {
+            chain = AdaptiveCheckGroup.group(chain);
+            if (metrics != null) {
+                metrics = metrics.rebuild(chain);
+            }
+        }
+        executor = null;
+        asyncExecutor = null;
+        batchExecutor = null;
+        return this;
+    }
+
+    /**
+     * 开启并行执行，使用公共ForkJoinPool
+     *
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @see #parallel(ForkJoinPool)
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 16:35
+     */
+    public AbstractManage<Request, Data> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 开启并行执行，根据Handler上{@link com.ej.chain.annotation.FromContext}、{@link com.ej.chain.annotation.ToContext}的key
+     * 计算依赖关系，没有依赖关系的Handler在线程池中并行执行，有依赖关系的仍按注册顺序执行<br/>
+     * 依赖关系的计算规则见{@link com.ej.chain.executor.ChainDependencyGraph}，只有校验Handler和标记了{@link com.ej.chain.annotation.SideEffectFree}的
+     * 业务Handler会并行执行；Handler中有阻塞调用时应传入单独的线程池；
+     * 只对同步执行生效
+     *
+     * @param pool 并行执行使用的线程池
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 16:35
+     */
+    public synchronized AbstractManage<Request, Data> parallel(ForkJoinPool pool) {
+        if (compiled) {
+            throw new IllegalStateException(this.getClass().getName() + " has been compiled, can't change execution mode any more");
+        }
+        parallelPool = pool;
+        executor = null;
+        return this;
+    }
+
+    /**
+     * 开启指标统计，统计整条责任链和每个Handler各阶段的调用次数、耗时分布以及中断、异常次数，并注册为JMX MBean<br/>
+     * 所有Handler注册完成后、编译前调用；未开启时执行过程中不读取时间<br/>
+     * 开启后有JFR记录时同时提交责任链执行和Handler阶段事件，见{@link com.ej.chain.jfr.ChainEvents}，没有JFR记录时不创建事件对象
+     *
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @see com.ej.chain.metrics.ChainMetrics
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:45
+     */
+    public synchronized AbstractManage<Request, Data> metrics() {
+        if (compiled) {
+            throw new IllegalStateException(this.getClass().getName() + " has been compiled, can't enable metrics any more");
+        }
+        if (metrics != null) {
+            return this;
+        }
+        metrics = new ChainMetrics(this.getClass(), chain).register();
+        executor = null;
+        asyncExecutor = null;
+        batchExecutor = null;
+        return this;
+    }
+
+    /**
+     * 未开启指标统计时也提交Handler阶段的JFR事件<br/>
+     * 默认不提交：执行器需要在每个Handler前后读取事件开关，编译的执行器也不能使用不记录任何内容的代码；
+     * 开启后有JFR记录时提交事件，没有JFR记录时不创建事件对象。开启了指标统计时始终提交，不需要调用本方法；
+     * 责任链执行事件只在执行前后读取一次事件开关，始终提交。所有Handler注册完成后、编译前调用
+     *
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @see com.ej.chain.jfr.ChainEvents
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 11:50
+     */
+    public synchronized AbstractManage<Request, Data> handlerEvents() {
+        if (compiled) {
+            throw new IllegalStateException(this.getClass().getName() + " has been compiled, can't enable handler events any more");
+        }
+        handlerEvents = true;
+        executor = null;
+        asyncExecutor = null;
+        batchExecutor = null;
+        return this;
+    }
+
+    /**
+     * 获取责任链指标
+     *
+     * @return com.ej.chain.metrics.ChainMetrics 未开启指标统计时为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:45
+     */
+    public ChainMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 获取传给执行器的Handler指标，同时为责任链中的{@link AdaptiveCheckGroup}设置组内指标<br/>
+     * 未开启指标统计时，开启了{@link #handlerEvents()}则只处理JFR事件，否则为null，执行器不记录任何内容
+     *
+     * @return com.ej.chain.metrics.HandlerMetrics[] 运行环境不支持JFR时也为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    private HandlerMetrics[] handlerMetrics() {
+        ChainMetrics chainMetrics = metrics;
+        bindMemberMetrics(chainMetrics);
+        if (chainMetrics != null) {
+            return chainMetrics.getHandlerMetrics();
+        }
+        return handlerEvents ? ChainMetrics.events(this.getClass(), chain) : null;
+    }
+
+    /**
+     * 按当前的指标和JFR事件配置设置校验组的组内指标，都未开启时组内不记录，执行时走不记录的分支
+     *
+     * @param chainMetrics 责任链指标，未开启指标统计时为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 11:50
+     */
+    private void bindMemberMetrics(ChainMetrics chainMetrics) {
+        if (chain == null) {
+            return;
+        }
+        int idx = 0;
+        for (BaseHandler<Request> handler : chain) {
+            BaseHandler<?> unwrapped = DelegatingHandler.unwrap(handler);
+            if (unwrapped instanceof AdaptiveCheckGroup) {
+                AdaptiveCheckGroup<?> group = (AdaptiveCheckGroup<?>) unwrapped;
+                group.memberMetrics(chainMetrics != null ? chainMetrics.getMemberMetrics(idx) : handlerEvents ? ChainMetrics.memberEvents(this.getClass(), group) : null);
+            }
+            idx++;
+        }
+    }
+
+    /**
+     * 获取责任链执行器，未编译时使用解释执行
+     *
+     * @return com.ej.chain.executor.ChainExecutor<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 10:40
+     */
+    private ChainExecutor<Request> executor() {
+        ChainExecutor<Request> current = executor;
+        if (current == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = parallelPool == null ? new InterpretedChainExecutor<>(chain, handlerMetrics()) : new ParallelChainExecutor<>(chain, parallelPool, handlerMetrics());
+                }
+                current = executor;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 获取批量责任链执行器
+     *
+     * @return com.ej.chain.executor.BatchChainExecutor<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:20
+     */
+    private BatchChainExecutor<Request> batchExecutor() {
+        BatchChainExecutor<Request> current = batchExecutor;
+        if (current == null) {
+            synchronized (this) {
+                if (batchExecutor == null) {
+                    batchExecutor = new BatchChainExecutor<>(chain, handlerMetrics());
+                }
+                current = batchExecutor;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 获取异步责任链执行器
+     *
+     * @return com.ej.chain.executor.AsyncChainExecutor<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:40
+     */
+    private AsyncChainExecutor<Request> asyncExecutor() {
+        AsyncChainExecutor<Request> current = asyncExecutor;
+        if (current == null) {
+            synchronized (this) {
+                if (asyncExecutor == null) {
+                    asyncExecutor = new AsyncChainExecutor<>(chain, handlerMetrics());
+                }
+                current = asyncExecutor;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 执行责任链
+     *
+     * @param request 字符串参数
+     * @return com.ej.chain.dto.BaseResponse<Data>
+     * @auther: Evan·Jiang
+     * @date: 2020/7/21 17:23
+     */
+    public BaseResponse<Data> execute(String request) {
+        try {
+            Class<Request> requestClass = getRequestClass();
+            Request reqObj = convertRequest(request, requestClass);
+            return execute(reqObj);
+        } catch (Exception e) {
+            return convertFailure(e);
+        }
+    }
+
+    /**
+     * 执行责任链，请求由{@link #codec(ChainCodec)}设置的编解码直接从字节解析
+     *
+     * @param request 请求数据，从position读到limit
+     * @return com.ej.chain.dto.BaseResponse<Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:20
+     */
+    public BaseResponse<Data> execute(ByteBuffer request) {
+        try {
+            ChainCodec<Request, Data> current = codec;
+            Request reqObj = current != null ? current.decode(request) : convertRequest(StandardCharsets.UTF_8.decode(request).toString(), getRequestClass());
+            return execute(reqObj);
+        } catch (Exception e) {
+            return convertFailure(e);
+        }
+    }
+
+    /**
+     * 执行责任链，见{@link #execute(ByteBuffer)}
+     *
+     * @param request 请求数据
+     * @return com.ej.chain.dto.BaseResponse<Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:20
+     */
+    public BaseResponse<Data> execute(byte[] request) {
+        return execute(ByteBuffer.wrap(request));
+    }
+
+    /**
+     * 执行责任链，并把返回值直接写入调用方提供的ByteBuffer
+     *
+     * @param request 请求数据，从position读到limit
+     * @param target  写入返回值的ByteBuffer，可以是堆外内存
+     * @return com.ej.chain.dto.BaseResponse<Data> 剩余空间不够时target不变，可以用返回值调用{@link #encode(BaseResponse, ByteBuffer)}重新写入
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:20
+     */
+    public BaseResponse<Data> execute(ByteBuffer request, ByteBuffer target) {
+        BaseResponse<Data> response = execute(request);
+        encode(response, target);
+        return response;
+    }
+
+    /**
+     * 用{@link #codec(ChainCodec)}设置的编解码把返回值写入ByteBuffer
+     *
+     * @param response 返回值
+     * @param target   写入返回值的ByteBuffer
+     * @return boolean 剩余空间不够时返回false，此时target不变
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:20
+     */
+    public boolean encode(BaseResponse<Data> response, ByteBuffer target) {
+        ChainCodec<Request, Data> current = codec;
+        if (current == null) {
+            throw new IllegalStateException(getClass().getName() + " has no codec to encode the response");
+        }
+        try {
+            return current.encode(response, target);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 请求转换失败时的返回值：强制中断异常按业务拒绝返回，其他异常按系统异常返回
+     *
+     * @param e 转换请求时抛出的异常
+     * @return com.ej.chain.dto.BaseResponse<Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:20
+     */
+    private BaseResponse<Data> convertFailure(Exception e) {
+        BaseResponse baseResponse = new BaseResponse<>();
+        if (e instanceof ChainForcedInterruptException) {
+            ChainForcedInterruptException interrupt = (ChainForcedInterruptException) e;
+            logRejection(interrupt);
+            baseResponse.setResponseCode(interrupt.getErrorCode());
+            baseResponse.setResponseMsg(interrupt.getErrorMsg());
+            return baseResponse;
+        }
+        LOGGER.error("{} -> ", e.getClass().getSimpleName(), e);
+        baseResponse.setResponseCode(systemErrorCode());
+        baseResponse.setResponseMsg(systemErrorMsg());
+        return baseResponse;
+    }
+
+    /**
+     * 执行责任链
+     *
+     * @param request 请求参数
+     * @return com.ej.chain.dto.BaseResponse<Data>
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 16:21
+     */
+    public BaseResponse<Data> execute(Request request) {
+        return execute(request, timeoutNanos);
+    }
+
+    /**
+     * 在指定时间内执行责任链，超时后不再执行后续Handler，返回{@link #timeoutCode()}<br/>
+     * 正在执行的同步Handler不会被强制停止，可以通过{@link ChainContext#remainingNanos()}设置下游调用的超时时间
+     *
+     * @param request 请求参数
+     * @param timeout 时间预算，小于等于0时不限制
+     * @param unit    时间单位
+     * @return com.ej.chain.dto.BaseResponse<Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    public BaseResponse<Data> execute(Request request, long timeout, TimeUnit unit) {
+        return execute(request, unit.toNanos(timeout));
+    }
+
+    private BaseResponse<Data> execute(Request request, long timeoutNanos) {
+        CacheBinding<Request, Data> binding = cacheBinding;
+        Object key = binding == null ? null : binding.keyExtractor.apply(request);
+        if (key != null) {
+            return binding.cache.get(key, () -> executeChain(request, timeoutNanos), this::cacheable);
+        }
+        return executeChain(request, timeoutNanos);
+    }
+
+    private BaseResponse<Data> executeChain(Request request, long timeoutNanos) {
+        ContextPool pool = contextPool;
+        ChainContext.Context context = acquireContext(pool, timeoutNanos);
+        long start = metrics == null ? 0L : System.nanoTime();
+        Object event = ChainEvents.beginChain();
+        try {
+            ChainContext.runWith(context, () -> executor().execute(request, context));
+            return complete(context, null, start, event);
+        } catch (Exception e) {
+            return complete(context, e, start, event);
+        } finally {
+            releaseContext(pool, context);
+        }
+    }
+
+    /**
+     * 异步执行责任链<br/>
+     * 上下文随本次执行传递，不绑定调用线程，{@link AsyncProcessHandler}等待远程结果时不占用线程
+     *
+     * @param request 请求参数
+     * @return java.util.concurrent.CompletableFuture<com.ej.chain.dto.BaseResponse<Data>>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:40
+     */
+    public CompletableFuture<BaseResponse<Data>> executeAsync(Request request) {
+        CacheBinding<Request, Data> binding = cacheBinding;
+        Object key = binding == null ? null : binding.keyExtractor.apply(request);
+        if (key != null) {
+            return binding.cache.getAsync(key, () -> executeChainAsync(request), this::cacheable);
+        }
+        return executeChainAsync(request);
+    }
+
+    private CompletableFuture<BaseResponse<Data>> executeChainAsync(Request request) {
+        ContextPool pool = contextPool;
+        ChainContext.Context context = acquireContext(pool, timeoutNanos);
+        long start = metrics == null ? 0L : System.nanoTime();
+        Object event = ChainEvents.beginChain();
+        return asyncExecutor().execute(request, context).handle((result, e) -> {
+            try {
+                return complete(context, e, start, event);
+            } finally {
+                releaseContext(pool, context);
+            }
+        });
+    }
+
+    /**
+     * 在指定线程池上异步执行责任链，调用线程只负责提交
+     *
+     * @param request  请求参数
+     * @param executor 执行责任链的线程池
+     * @return java.util.concurrent.CompletableFuture<com.ej.chain.dto.BaseResponse<Data>>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:50
+     */
+    public CompletableFuture<BaseResponse<Data>> executeAsync(Request request, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> executeAsync(request), executor).thenCompose(future -> future);
+    }
+
+    /**
+     * 流式执行责任链<br/>
+     * 调用方每取一个返回值才继续读取请求，执行中和已执行完未取走的请求不超过{@link StreamOptions#maxInFlight(int)}，
+     * Handler变慢或调用方消费变慢时不会积压请求
+     *
+     * @param requests 请求来源，只在调用方线程读取，可以是无界的
+     * @param options  流式执行的参数
+     * @return java.util.Iterator<com.ej.chain.dto.BaseResponse<Data>> 返回值迭代器，按参数决定是否与请求顺序一致
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:50
+     */
+    public Iterator<BaseResponse<Data>> executeStream(Iterator<Request> requests, StreamOptions options) {
+        return new BackpressureIterator<>(requests, request -> executeAsync(request, options.getExecutor()), options);
+    }
+
+    /**
+     * 流式执行责任链，见{@link #executeStream(Iterator, StreamOptions)}<br/>
+     * 返回的Stream是惰性的，终止操作时才读取请求；关闭返回的Stream时关闭请求来源
+     *
+     * @param requests 请求来源
+     * @param options  流式执行的参数
+     * @return java.util.stream.Stream<com.ej.chain.dto.BaseResponse<Data>>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:50
+     */
+    public Stream<BaseResponse<Data>> executeStream(Stream<Request> requests, StreamOptions options) {
+        int characteristics = options.isOrdered() ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+        return StreamSupport.stream(() -> Spliterators.spliteratorUnknownSize(executeStream(requests.iterator(), options), characteristics), characteristics, false)
+                .onClose(requests::close);
+    }
+
+    /**
+     * 批量执行责任链<br/>
+     * 每个请求使用自己的上下文，{@link BatchCheckHandler}、{@link BatchProcessHandler}对整批请求调用一次，
+     * 其他Handler逐个请求调用；中断和异常只影响对应的请求
+     *
+     * @param requests 请求参数
+     * @return java.util.List<com.ej.chain.dto.BaseResponse<Data>> 与请求一一对应的返回值
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 17:20
+     */
+    public List<BaseResponse<Data>> executeBatch(List<Request> requests) {
+        ContextPool pool = contextPool;
+        List<ChainContext.Context> contexts = new ArrayList<>(requests.size());
+        long timeout = timeoutNanos;
+        for (int idx = 0; idx < requests.size(); idx++) {
+            contexts.add(acquireContext(pool, timeout));
+        }
+        long start = metrics == null ? 0L : System.nanoTime();
+        Object[] events = new Object[requests.size()];
+        for (int idx = 0; idx < events.length; idx++) {
+            events[idx] = ChainEvents.beginChain();
+        }
+        Throwable[] failures = batchExecutor().execute(requests, contexts);
+        List<BaseResponse<Data>> responses = new ArrayList<>(requests.size());
+        for (int idx = 0; idx < requests.size(); idx++) {
+            responses.add(complete(contexts.get(idx), failures[idx], start, events[idx]));
+        }
+        for (ChainContext.Context context : contexts) {
+            releaseContext(pool, context);
+        }
+        return responses;
+    }
+
+    /**
+     * 获取本次执行的上下文并设置截止时间
+     *
+     * @param pool         上下文池，为null时创建新的上下文
+     * @param timeoutNanos 时间预算，小于等于0时不设置截止时间
+     * @return com.ej.chain.context.ChainContext.Context
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    private static ChainContext.Context acquireContext(ContextPool pool, long timeoutNanos) {
+        ChainContext.Context context = pool == null ? ChainContext.newContext() : pool.acquire();
+        if (timeoutNanos > 0) {
+            context.deadline(System.nanoTime() + timeoutNanos);
+        }
+        return context;
+    }
+
+    /**
+     * 归还上下文，超时的上下文可能还被被取消的异步调用引用，不再复用
+     *
+     * @param pool    上下文池，为null时不处理
+     * @param context 本次执行的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    private static void releaseContext(ContextPool pool, ChainContext.Context context) {
+        if (pool != null && !context.isTimedOut()) {
+            pool.release(context);
+        }
+    }
+
+    /**
+     * 组装责任链的返回值，Handler抛出的异常转换为提示信息；超时时返回新的返回值对象，不再读取上下文中的返回值
+     *
+     * @param context 本次执行的上下文
+     * @param e       执行过程中抛出的异常，没有异常时为null
+     * @param start   执行开始时的System.nanoTime()，未开启指标统计时不使用
+     * @param event   {@link ChainEvents#beginChain()}返回的JFR事件，没有JFR记录时为null
+     * @return com.ej.chain.dto.BaseResponse<Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 14:40
+     */
+    private BaseResponse<Data> complete(ChainContext.Context context, Throwable e, long start, Object event) {
+        e = AsyncChainExecutor.unwrap(e);
+        ChainMetrics chainMetrics = metrics;
+        long end = chainMetrics == null ? 0L : System.nanoTime();
+        if (e instanceof ChainForcedInterruptException) {
+            ChainForcedInterruptException interrupt = (ChainForcedInterruptException) e;
+            logRejection(interrupt);
+            context.injectTips(interrupt.getErrorCode(), interrupt.getErrorMsg());
+        } else if (e != null) {
+            LOGGER.error("{} -> ", e.getClass().getSimpleName(), e);
+            context.injectTips(systemErrorCode(), systemErrorMsg());
+        }
+        BaseResponse baseResponse = context.baseResponse();
+        if (context.isTimedOut()) {
+            //超时后被放弃的异步回调可能还在写上下文，返回不被上下文引用的新对象，迟到的写入只落在被丢弃的上下文上(超时的上下文不回收复用)
+            BaseResponse detached = new BaseResponse();
+            if (e instanceof ChainForcedInterruptException) {
+                detached.setResponseCode(((ChainForcedInterruptException) e).getErrorCode());
+                detached.setResponseMsg(((ChainForcedInterruptException) e).getErrorMsg());
+            } else if (e != null) {
+                detached.setResponseCode(systemErrorCode());
+                detached.setResponseMsg(systemErrorMsg());
+            } else {
+                detached.setResponseCode(timeoutCode());
+                detached.setResponseMsg(timeoutMsg());
+            }
+            baseResponse = detached;
+        }
+        if (baseResponse.getResponseCode() == null) {
+            baseResponse.setResponseCode(successCode());
+        }
+        if (baseResponse.getResponseMsg() == null) {
+            baseResponse.setResponseMsg(successMsg());
+        }
+        if (chainMetrics != null) {
+            chainMetrics.record(start, end, context, e);
+        }
+        ChainEvents.endChain(event, this.getClass().getName(), context, e, baseResponse.getResponseCode());
+        return baseResponse;
+    }
+
+    /**
+     * 记录业务拒绝(强制中断异常)日志，按采样间隔记录
+     *
+     * @param e
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:55
+     */
+    private void logRejection(ChainForcedInterruptException e) {
+        int sampling = rejectionLogSampling;
+        if (sampling <= 0 || (sampling > 1 && ThreadLocalRandom.current().nextInt(sampling) != 0)) {
+            return;
+        }
+        LOGGER.error("{},errorCode:{},errorMsg:{} -> ", e.getClass().getSimpleName(), e.getErrorCode(), e.getErrorMsg(), e);
+    }
+
+    /**
+     * 设置业务拒绝(强制中断异常)日志的采样间隔，业务拒绝较多时减少同步日志输出
+     *
+     * @param sampling 0:不记录，1:全部记录(默认)，N:平均每N次记录一次
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 18:55
+     */
+    public AbstractManage<Request, Data> rejectionLogSampling(int sampling) {
+        this.rejectionLogSampling = sampling;
+        return this;
+    }
+
+    /**
+     * 开启上下文复用，执行结束后上下文重置并归还到池中，返回值每次执行都是新对象<br/>
+     * Handler不能在执行结束后继续持有上下文
+     *
+     * @param pool 上下文池，如{@link com.ej.chain.context.ThreadLocalContextPool}、{@link com.ej.chain.context.BoundedContextPool}，为null时关闭复用
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:25
+     */
+    public AbstractManage<Request, Data> contextPool(ContextPool pool) {
+        this.contextPool = pool;
+        return this;
+    }
+
+    /**
+     * 设置每次执行的时间预算，对execute、executeAsync、executeBatch生效；超时后不再执行后续Handler，返回{@link #timeoutCode()}
+     *
+     * @param timeout 时间预算，小于等于0时不限制
+     * @param unit    时间单位
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    public AbstractManage<Request, Data> timeout(long timeout, TimeUnit unit) {
+        this.timeoutNanos = timeout <= 0 ? 0L : unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * 开启返回值缓存，对execute、executeAsync(包括流式执行)生效，批量执行不使用缓存<br/>
+     * 命中缓存时不执行责任链；同一个key正在执行时，其他调用等待该次执行的返回值，不重复执行(等待的调用不受自己的超时时间限制)；
+     * 只缓存成功的返回值，见{@link #cacheable(BaseResponse)}
+     *
+     * @param keyExtractor 从请求中获取缓存的key，例如申请单号，返回null时不使用缓存
+     * @param cache        返回值缓存，为null时关闭缓存
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:55
+     */
+    public synchronized AbstractManage<Request, Data> cache(Function<? super Request, ?> keyExtractor, ResultCache<Data> cache) {
+        if (cache != null && keyExtractor == null) {
+            throw new IllegalArgumentException("keyExtractor can't be null");
+        }
+        this.cacheBinding = cache == null ? null : new CacheBinding<>(cache, keyExtractor);
+        return this;
+    }
+
+    public ResultCache<Data> getResultCache() {
+        CacheBinding<Request, Data> binding = cacheBinding;
+        return binding == null ? null : binding.cache;
+    }
+
+    /**
+     * 返回值是否可以缓存，默认只缓存成功的返回值，各个系统可以覆盖
+     *
+     * @param response 责任链的返回值
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:55
+     */
+    protected boolean cacheable(BaseResponse<Data> response) {
+        return successCode().equals(response.getResponseCode());
+    }
+
+    /**
+     * 设置请求与返回值的字节编解码，用于{@link #execute(ByteBuffer)}、{@link #execute(ByteBuffer, ByteBuffer)}
+     *
+     * @param codec 编解码，为null时字节请求按UTF-8转为字符串后调用{@link #convertRequest(String, Class)}
+     * @return com.ej.chain.manages.AbstractManage<Request, Data>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:20
+     */
+    public AbstractManage<Request, Data> codec(ChainCodec<Request, Data> codec) {
+        this.codec = codec;
+        return this;
+    }
+
+    public ChainCodec<Request, Data> getCodec() {
+        return codec;
+    }
+
+    /**
+     * 每个系统都有自己的系统异常码，各个系统自己定义
+     *
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 16:23
+     */
+    protected abstract String systemErrorCode();
+
+    /**
+     * 每个系统都有自己的系统异常描述，各个系统自己定义
+     *
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 16:23
+     */
+    protected abstract String systemErrorMsg();
+
+    /**
+     * 每个系统都有自己的操作成功码，各个系统自己定义
+     *
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 16:23
+     */
+    protected abstract String successCode();
+
+    /**
+     * 每个系统都有自己的操作成功描述，各个系统自己定义
+     *
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 16:23
+     */
+    protected abstract String successMsg();
+
+    /**
+     * 超时时的返回码，默认与系统异常码相同，各个系统可以覆盖
+     *
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    protected String timeoutCode() {
+        return systemErrorCode();
+    }
+
+    /**
+     * 超时时的返回描述，默认与系统异常描述相同，各个系统可以覆盖
+     *
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    protected String timeoutMsg() {
+        return systemErrorMsg();
+    }
+
+    /**
+     * 并发数已满或熔断时的返回码，默认与系统异常码相同，各个系统可以覆盖；Handler类上的注解指定了返回码时使用注解的返回码
+     *
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:35
+     */
+    protected String rejectedCode() {
+        return systemErrorCode();
+    }
+
+    /**
+     * 并发数已满或熔断时的返回描述，默认与系统异常描述相同，各个系统可以覆盖
+     *
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:35
+     */
+    protected String rejectedMsg() {
+        return systemErrorMsg();
+    }
+
+    /**
+     * 当外部参数是String时需要反序列化参数为java对象
+     *
+     * @param request
+     * @param clazz
+     * @return Request
+     * @auther: Evan·Jiang
+     * @date: 2020/7/21 17:25
+     */
+    protected Request convertRequest(String request, Class<Request> clazz) {
+        throw new RuntimeException("需要子类【" + this.getClass().getName() + "】实现convertRequest方法");
+    }
+
+    /**
+     * 为反序列化对象提供class
+     *
+     * @return java.lang.Class<Request>
+     * @auther: Evan·Jiang
+     * @date: 2020/7/21 17:26
+     */
+    protected Class<Request> getRequestClass() {
+        throw new RuntimeException("需要子类【" + this.getClass().getName() + "】实现getRequestClass方法");
+    }
+
+    /**
+     * 缓存及其获取key的方法，不可变，切换缓存时整体替换，执行时不会拿到新缓存和旧方法的组合
+     */
+    private static final class CacheBinding<Request, Data> {
+
+        final ResultCache<Data> cache;
+        final Function<? super Request, ?> keyExtractor;
+
+        CacheBinding(ResultCache<Data> cache, Function<? super Request, ?> keyExtractor) {
+            this.cache = cache;
+            this.keyExtractor = keyExtractor;
+        }
+    }
+
+}
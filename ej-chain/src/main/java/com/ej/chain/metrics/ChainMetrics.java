@@ -0,0 +1,408 @@
+package com.ej.chain.metrics;
+
+import com.ej.chain.adaptive.AdaptiveCheckGroup;
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.exception.ChainForcedInterruptException;
+import com.ej.chain.handlers.AsyncProcessHandler;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.CheckHandler;
+import com.ej.chain.handlers.CompletedHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+import com.ej.chain.handlers.ProcessHandler;
+import com.ej.chain.handlers.SignalHandler;
+import com.ej.chain.jfr.ChainEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 责任链指标：整条责任链的执行次数和耗时，中断、强制中断异常、系统异常的次数，以及每个Handler的指标<br/>
+ * 通过JMX暴露，ObjectName为com.ej.chain:type=Chain,name=责任链名称，
+ * 每个Handler为com.ej.chain:type=Handler,chain=责任链名称,index=下标,name=Handler名称；
+ * {@link AdaptiveCheckGroup}另外暴露当前的执行顺序，组内每个Handler为com.ej.chain:type=Handler,chain=责任链名称,index=组的下标,member=组内下标,name=Handler名称
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 19:30
+ */
+public class ChainMetrics {
+
+    public static final Logger LOGGER = LoggerFactory.getLogger(ChainMetrics.class);
+
+    private static final String DOMAIN = "com.ej.chain";
+    /**
+     * 同名责任链的序号，避免ObjectName重复
+     */
+    private static final ConcurrentHashMap<String, AtomicInteger> NAME_SEQUENCES = new ConcurrentHashMap<>();
+
+    private final String chainName;
+    /**
+     * 责任链管理类的类名，用于JFR事件
+     */
+    private final String manageName;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder interrupts = new LongAdder();
+    private final LongAdder forcedInterrupts = new LongAdder();
+    private final LongAdder systemErrors = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final HandlerMetrics[] handlerMetrics;
+    /**
+     * 与责任链一一对应，不是{@link AdaptiveCheckGroup}的位置为null
+     */
+    private final AdaptiveCheckGroup<?>[] groups;
+    private final HandlerMetrics[][] memberMetrics;
+    private final List<ObjectName> objectNames = new ArrayList<>();
+
+    /**
+     * @param chainName 责任链名称，同名的责任链依次加上-2、-3等后缀
+     * @param chain     责任链
+     */
+    public ChainMetrics(String chainName, List<? extends BaseHandler<?>> chain) {
+        this(chain, uniqueName(chainName), chainName);
+    }
+
+    /**
+     * @param manageClass 责任链管理类，责任链名称为类名(不含包名)
+     * @param chain       责任链
+     */
+    public ChainMetrics(Class<?> manageClass, List<? extends BaseHandler<?>> chain) {
+        this(chain, uniqueName(manageClass.getSimpleName()), manageClass.getName());
+    }
+
+    private ChainMetrics(List<? extends BaseHandler<?>> chain, String chainName, String manageName) {
+        this.chainName = chainName;
+        this.manageName = manageName;
+        int size = chain == null ? 0 : chain.size();
+        this.handlerMetrics = new HandlerMetrics[size];
+        this.groups = new AdaptiveCheckGroup<?>[size];
+        this.memberMetrics = new HandlerMetrics[size][];
+        for (int idx = 0; idx < size; idx++) {
+            BaseHandler<?> handler = chain.get(idx);
+            Class<?> handlerClass = handlerClass(handler);
+            handlerMetrics[idx] = new HandlerMetrics(handlerName(handlerClass), phasesOf(handler)).events(manageName, className(handlerClass));
+            groups[idx] = groupOf(handler);
+            if (groups[idx] != null) {
+                memberMetrics[idx] = memberMetrics(groups[idx], manageName, true);
+            }
+        }
+    }
+
+    /**
+     * 责任链变化后按新的责任链重新生成指标，名称保持不变，已注册的MBean注销后重新注册
+     *
+     * @param chain 新的责任链
+     * @return com.ej.chain.metrics.ChainMetrics
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:45
+     */
+    public ChainMetrics rebuild(List<? extends BaseHandler<?>> chain) {
+        boolean registered;
+        synchronized (this) {
+            registered = !objectNames.isEmpty();
+            unregister();
+        }
+        ChainMetrics rebuilt = new ChainMetrics(chain, chainName, manageName);
+        return registered ? rebuilt.register() : rebuilt;
+    }
+
+    private static String uniqueName(String chainName) {
+        int sequence = NAME_SEQUENCES.computeIfAbsent(chainName, key -> new AtomicInteger()).incrementAndGet();
+        return sequence == 1 ? chainName : chainName + "-" + sequence;
+    }
+
+    /**
+     * 记录一次责任链执行，返回值组装完成后调用
+     *
+     * @param start   执行开始时的System.nanoTime()
+     * @param context 本次执行的上下文
+     * @param e       执行过程中抛出的异常，没有异常时为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:30
+     */
+    public void record(long start, ChainContext.Context context, Throwable e) {
+        record(start, System.nanoTime(), context, e);
+    }
+
+    /**
+     * 记录一次责任链执行，耗时不包括组装返回值的时间
+     *
+     * @param start   执行开始时的System.nanoTime()
+     * @param end     执行结束时的System.nanoTime()
+     * @param context 本次执行的上下文
+     * @param e       执行过程中抛出的异常，没有异常时为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 00:20
+     */
+    public void record(long start, long end, ChainContext.Context context, Throwable e) {
+        histogram.record(end - start);
+        if (e instanceof ChainForcedInterruptException) {
+            forcedInterrupts.increment();
+        } else if (e != null) {
+            systemErrors.increment();
+        } else if (context.isInterrupted()) {
+            if (context.isTimedOut()) {
+                timeouts.increment();
+            } else {
+                interrupts.increment();
+            }
+        }
+    }
+
+    /**
+     * 未开启指标统计时为执行器生成只处理JFR事件的Handler指标，运行环境不支持JFR时返回null；不修改责任链和其中的Handler
+     *
+     * @param manageClass 责任链管理类
+     * @param chain       责任链
+     * @return com.ej.chain.metrics.HandlerMetrics[] 与责任链一一对应
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    public static HandlerMetrics[] events(Class<?> manageClass, List<? extends BaseHandler<?>> chain) {
+        if (!ChainEvents.isAvailable()) {
+            return null;
+        }
+        int size = chain == null ? 0 : chain.size();
+        HandlerMetrics[] events = new HandlerMetrics[size];
+        for (int idx = 0; idx < size; idx++) {
+            Class<?> handlerClass = handlerClass(chain.get(idx));
+            events[idx] = HandlerMetrics.eventsOnly(handlerName(handlerClass)).events(manageClass.getName(), className(handlerClass));
+        }
+        return events;
+    }
+
+    /**
+     * 未开启指标统计时为{@link AdaptiveCheckGroup}组内的每个Handler生成只处理JFR事件的指标，运行环境不支持JFR时返回null
+     *
+     * @param manageClass 责任链管理类
+     * @param group       校验组
+     * @return com.ej.chain.metrics.HandlerMetrics[] 与{@link AdaptiveCheckGroup#getHandlers()}一一对应
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 11:50
+     */
+    public static HandlerMetrics[] memberEvents(Class<?> manageClass, AdaptiveCheckGroup<?> group) {
+        return ChainEvents.isAvailable() ? memberMetrics(group, manageClass.getName(), false) : null;
+    }
+
+    /**
+     * 为{@link AdaptiveCheckGroup}组内的每个Handler生成指标
+     *
+     * @param group      校验组
+     * @param manageName 责任链管理类的类名
+     * @param metered    是否统计指标，为false时只处理JFR事件
+     * @return com.ej.chain.metrics.HandlerMetrics[] 与{@link AdaptiveCheckGroup#getHandlers()}一一对应
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 09:50
+     */
+    private static HandlerMetrics[] memberMetrics(AdaptiveCheckGroup<?> group, String manageName, boolean metered) {
+        List<? extends CheckHandler<?>> handlers = group.getHandlers();
+        HandlerMetrics[] members = new HandlerMetrics[handlers.size()];
+        for (int idx = 0; idx < members.length; idx++) {
+            Class<?> handlerClass = handlerClass(handlers.get(idx));
+            String name = handlerName(handlerClass);
+            members[idx] = (metered ? new HandlerMetrics(name, Phase.CHECK_PARAMS) : HandlerMetrics.eventsOnly(name)).events(manageName, className(handlerClass));
+        }
+        return members;
+    }
+
+    private static AdaptiveCheckGroup<?> groupOf(BaseHandler<?> handler) {
+        BaseHandler<?> unwrapped = DelegatingHandler.unwrap(handler);
+        return unwrapped instanceof AdaptiveCheckGroup ? (AdaptiveCheckGroup<?>) unwrapped : null;
+    }
+
+    /**
+     * 注册JMX MBean，注册失败时只记录日志
+     *
+     * @return com.ej.chain.metrics.ChainMetrics
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:30
+     */
+    public synchronized ChainMetrics register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName chainObjectName = new ObjectName(DOMAIN + ":type=Chain,name=" + ObjectName.quote(chainName));
+            server.registerMBean(toMBean(), chainObjectName);
+            objectNames.add(chainObjectName);
+            for (int idx = 0; idx < handlerMetrics.length; idx++) {
+                String handlerPrefix = DOMAIN + ":type=Handler,chain=" + ObjectName.quote(chainName) + ",index=" + idx;
+                MetricsMBean handlerMBean = handlerMetrics[idx].toMBean();
+                AdaptiveCheckGroup<?> group = groups[idx];
+                if (group != null) {
+                    handlerMBean.attribute("Order", String[].class, () -> orderOf(group));
+                    handlerMBean.attribute("Reorders", Long.class, group::getReorders);
+                }
+                ObjectName handlerObjectName = new ObjectName(handlerPrefix + ",name=" + ObjectName.quote(handlerMetrics[idx].getHandlerName()));
+                server.registerMBean(handlerMBean, handlerObjectName);
+                objectNames.add(handlerObjectName);
+                if (group == null) {
+                    continue;
+                }
+                for (int member = 0; member < memberMetrics[idx].length; member++) {
+                    ObjectName memberObjectName = new ObjectName(handlerPrefix + ",member=" + member
+                            + ",name=" + ObjectName.quote(memberMetrics[idx][member].getHandlerName()));
+                    server.registerMBean(memberMetrics[idx][member].toMBean(), memberObjectName);
+                    objectNames.add(memberObjectName);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.warn("{} register metrics mbean failed -> ", chainName, e);
+        }
+        return this;
+    }
+
+    /**
+     * 注销JMX MBean
+     *
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:30
+     */
+    public synchronized void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName objectName : objectNames) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (Exception e) {
+                LOGGER.warn("{} unregister metrics mbean failed -> ", objectName, e);
+            }
+        }
+        objectNames.clear();
+    }
+
+    private MetricsMBean toMBean() {
+        MetricsMBean mBean = new MetricsMBean(ChainMetrics.class.getName(), chainName);
+        mBean.histogram("Execution", histogram);
+        mBean.attribute("Interrupts", Long.class, this::getInterrupts);
+        mBean.attribute("ForcedInterrupts", Long.class, this::getForcedInterrupts);
+        mBean.attribute("SystemErrors", Long.class, this::getSystemErrors);
+        mBean.attribute("Timeouts", Long.class, this::getTimeouts);
+        mBean.attribute("Handlers", String[].class, () -> {
+            String[] names = new String[handlerMetrics.length];
+            for (int idx = 0; idx < names.length; idx++) {
+                names[idx] = handlerMetrics[idx].getHandlerName();
+            }
+            return names;
+        });
+        return mBean;
+    }
+
+    /**
+     * 校验组当前的执行顺序
+     */
+    private static String[] orderOf(AdaptiveCheckGroup<?> group) {
+        List<? extends CheckHandler<?>> order = group.getOrder();
+        String[] names = new String[order.size()];
+        for (int idx = 0; idx < names.length; idx++) {
+            names[idx] = handlerName(handlerClass(order.get(idx)));
+        }
+        return names;
+    }
+
+    /**
+     * 获取Handler的名称，匿名类使用完整类名
+     *
+     * @param handlerClass 见{@link #handlerClass(BaseHandler)}
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:30
+     */
+    private static String handlerName(Class<?> handlerClass) {
+        String name = className(handlerClass);
+        if (!name.equals(handlerClass.getName())) {
+            return name.substring(name.lastIndexOf('.') + 1);
+        }
+        return handlerClass.getSimpleName().isEmpty() ? name : handlerClass.getSimpleName();
+    }
+
+    /**
+     * 获取类名，隐藏类(Lookup.defineHiddenClass生成的代理类、lambda)去掉类名后的"/0x..."后缀
+     *
+     * @param clazz
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 09:40
+     */
+    private static String className(Class<?> clazz) {
+        String name = clazz.getName();
+        int hidden = name.indexOf('/');
+        return hidden < 0 ? name : name.substring(0, hidden);
+    }
+
+    /**
+     * 获取Handler的类，代理类和包装类以被代理、被包装的Handler为准；隐藏类按去掉后缀的类名判断是否代理类
+     *
+     * @param handler
+     * @return java.lang.Class<?>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 00:20
+     */
+    private static Class<?> handlerClass(BaseHandler<?> handler) {
+        Class<?> clazz = DelegatingHandler.unwrap(handler).getClass();
+        while (clazz.isSynthetic() || clazz.isAnonymousClass() || className(clazz).endsWith("ProxyHandler")) {
+            if (clazz.getSuperclass() == null || clazz.getSuperclass() == Object.class) {
+                break;
+            }
+            clazz = clazz.getSuperclass();
+        }
+        return clazz;
+    }
+
+    private static Phase[] phasesOf(BaseHandler<?> handler) {
+        if (handler instanceof CheckHandler) {
+            return new Phase[]{Phase.CHECK_PARAMS};
+        } else if (handler instanceof ProcessHandler || handler instanceof AsyncProcessHandler) {
+            return new Phase[]{Phase.DUPLICATED, Phase.PROCESS};
+        } else if (handler instanceof CompletedHandler) {
+            return new Phase[]{Phase.COMPLETED};
+        } else if (handler instanceof SignalHandler) {
+            return new Phase[]{Phase.HANDLE};
+        }
+        return new Phase[0];
+    }
+
+    public String getChainName() {
+        return chainName;
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    public long getInterrupts() {
+        return interrupts.sum();
+    }
+
+    public long getForcedInterrupts() {
+        return forcedInterrupts.sum();
+    }
+
+    public long getSystemErrors() {
+        return systemErrors.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public HandlerMetrics[] getHandlerMetrics() {
+        return handlerMetrics;
+    }
+
+    /**
+     * 获取{@link AdaptiveCheckGroup}组内每个Handler的指标
+     *
+     * @param index 组在责任链中的下标
+     * @return com.ej.chain.metrics.HandlerMetrics[] 与{@link AdaptiveCheckGroup#getHandlers()}一一对应，该位置不是校验组时为null；
+     * 由责任链管理类生成执行器时通过{@link AdaptiveCheckGroup#memberMetrics(HandlerMetrics[])}设置给校验组
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 09:50
+     */
+    public HandlerMetrics[] getMemberMetrics(int index) {
+        return memberMetrics[index];
+    }
+}
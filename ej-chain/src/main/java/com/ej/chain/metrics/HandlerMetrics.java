@@ -0,0 +1,240 @@
+package com.ej.chain.metrics;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.exception.ChainForcedInterruptException;
+import com.ej.chain.jfr.ChainEvents;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个Handler的指标：各阶段的调用次数和耗时，以及中断、重复、强制中断异常、系统异常的次数<br/>
+ * 同时负责Handler阶段的JFR事件：有JFR记录时每个阶段开始时{@link ChainEvents#beginHandler()}、结束时提交；
+ * 未开启指标统计、开启了Handler阶段JFR事件时执行器使用{@link #eventsOnly(String)}创建的实例，只处理JFR事件，不统计
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 19:25
+ */
+public class HandlerMetrics {
+
+    private final String handlerName;
+    /**
+     * 是否统计指标，为false时只处理JFR事件
+     */
+    private final boolean metered;
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+    private final LongAdder interrupts = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder forcedInterrupts = new LongAdder();
+    private final LongAdder systemErrors = new LongAdder();
+    /**
+     * JFR事件中的责任链管理类和Handler类，未设置时使用Handler名称
+     */
+    private String manageName;
+    private String handlerClassName;
+
+    /**
+     * @param handlerName Handler名称
+     * @param phases      Handler会执行的阶段
+     */
+    public HandlerMetrics(String handlerName, Phase... phases) {
+        this(handlerName, true, phases);
+    }
+
+    private HandlerMetrics(String handlerName, boolean metered, Phase... phases) {
+        this.handlerName = handlerName;
+        this.metered = metered;
+        for (Phase phase : phases) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * 创建只处理JFR事件、不统计指标的实例
+     *
+     * @param handlerName Handler名称
+     * @return com.ej.chain.metrics.HandlerMetrics
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    static HandlerMetrics eventsOnly(String handlerName) {
+        return new HandlerMetrics(handlerName, false);
+    }
+
+    /**
+     * 设置JFR事件中的责任链管理类和Handler类，创建后立即调用
+     *
+     * @param manageName       责任链管理类的类名
+     * @param handlerClassName Handler的类名
+     * @return com.ej.chain.metrics.HandlerMetrics
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 00:20
+     */
+    HandlerMetrics events(String manageName, String handlerClassName) {
+        this.manageName = manageName;
+        this.handlerClassName = handlerClassName;
+        return this;
+    }
+
+    /**
+     * 阶段开始时调用，获取阶段开始时间
+     *
+     * @return long System.nanoTime()，不统计指标时为0
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    public long start() {
+        return metered ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * 阶段开始时调用，开始阶段的JFR事件
+     *
+     * @return java.lang.Object 事件，没有JFR记录时为null
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 10:00
+     */
+    public Object event() {
+        return ChainEvents.beginHandler();
+    }
+
+    /**
+     * 记录一个阶段正常结束，阶段结束后上下文已中断时记为一次中断
+     *
+     * @param phase   执行阶段
+     * @param start   {@link #start()}的返回值
+     * @param event   {@link #event()}的返回值
+     * @param context 本次执行的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:25
+     */
+    public void record(Phase phase, long start, Object event, ChainContext.Context context) {
+        if (metered) {
+            histogram(phase).record(System.nanoTime() - start);
+        }
+        if (!metered && event == null) {
+            return;
+        }
+        boolean interrupted = context.isInterrupted();
+        if (interrupted && metered) {
+            interrupts.increment();
+        }
+        if (event != null) {
+            event(event, phase, interrupted ? ChainEvents.OUTCOME_INTERRUPTED : ChainEvents.OUTCOME_CONTINUE,
+                    interrupted ? context.baseResponse().getResponseCode() : null);
+        }
+    }
+
+    /**
+     * 记录一次重复判断，判定为重复时记为一次重复
+     *
+     * @param start      {@link #start()}的返回值
+     * @param event      {@link #event()}的返回值
+     * @param duplicated 是否重复
+     * @param context    本次执行的上下文
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:25
+     */
+    public void recordDuplicated(long start, Object event, boolean duplicated, ChainContext.Context context) {
+        if (metered) {
+            histogram(Phase.DUPLICATED).record(System.nanoTime() - start);
+        }
+        if (!metered && event == null) {
+            return;
+        }
+        boolean interrupted = context.isInterrupted();
+        if (metered) {
+            if (interrupted) {
+                interrupts.increment();
+            }
+            if (duplicated) {
+                duplicates.increment();
+            }
+        }
+        if (event != null) {
+            String outcome = duplicated ? ChainEvents.OUTCOME_DUPLICATED : interrupted ? ChainEvents.OUTCOME_INTERRUPTED : ChainEvents.OUTCOME_CONTINUE;
+            event(event, Phase.DUPLICATED, outcome, interrupted ? context.baseResponse().getResponseCode() : null);
+        }
+    }
+
+    /**
+     * 记录一个阶段抛出异常
+     *
+     * @param phase 执行阶段
+     * @param start {@link #start()}的返回值
+     * @param event {@link #event()}的返回值
+     * @param e     抛出的异常
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:25
+     */
+    public void recordFailure(Phase phase, long start, Object event, Throwable e) {
+        if (metered) {
+            histogram(phase).record(System.nanoTime() - start);
+            if (e instanceof ChainForcedInterruptException) {
+                forcedInterrupts.increment();
+            } else {
+                systemErrors.increment();
+            }
+        }
+        if (event != null) {
+            event(event, phase, ChainEvents.OUTCOME_EXCEPTION, e instanceof ChainForcedInterruptException ? ((ChainForcedInterruptException) e).getErrorCode() : null);
+        }
+    }
+
+    private void event(Object event, Phase phase, String outcome, String responseCode) {
+        ChainEvents.endHandler(event, manageName, handlerClassName == null ? handlerName : handlerClassName, phase.name(), outcome, responseCode);
+    }
+
+    private LatencyHistogram histogram(Phase phase) {
+        LatencyHistogram histogram = histograms.get(phase);
+        if (histogram == null) {
+            throw new IllegalArgumentException(handlerName + " doesn't have phase " + phase);
+        }
+        return histogram;
+    }
+
+    public String getHandlerName() {
+        return handlerName;
+    }
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms.get(phase);
+    }
+
+    public long getInterrupts() {
+        return interrupts.sum();
+    }
+
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    public long getForcedInterrupts() {
+        return forcedInterrupts.sum();
+    }
+
+    public long getSystemErrors() {
+        return systemErrors.sum();
+    }
+
+    /**
+     * 生成JMX MBean
+     *
+     * @return com.ej.chain.metrics.MetricsMBean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:25
+     */
+    MetricsMBean toMBean() {
+        MetricsMBean mBean = new MetricsMBean(HandlerMetrics.class.getName(), handlerName);
+        mBean.attribute("Handler", String.class, () -> handlerName);
+        for (Map.Entry<Phase, LatencyHistogram> entry : histograms.entrySet()) {
+            mBean.histogram(entry.getKey().getAttributePrefix(), entry.getValue());
+        }
+        mBean.attribute("Interrupts", Long.class, this::getInterrupts);
+        mBean.attribute("Duplicates", Long.class, this::getDuplicates);
+        mBean.attribute("ForcedInterrupts", Long.class, this::getForcedInterrupts);
+        mBean.attribute("SystemErrors", Long.class, this::getSystemErrors);
+        return mBean;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ej.chain.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 耗时直方图，按纳秒记录<br/>
+ * 按2的幂分段，每段再分为8个桶，相对误差不超过12.5%；每个桶是一个LongAdder，多线程记录时分散到不同的cell，不加锁也不争用同一个计数
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 19:12
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * 小于该值的耗时每纳秒一个桶
+     */
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    /**
+     * 超过2^40纳秒(约18分钟)的耗时都记到最后一个桶
+     */
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + 1;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram() {
+        for (int idx = 0; idx < BUCKET_COUNT; idx++) {
+            buckets[idx] = new LongAdder();
+        }
+    }
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时，纳秒
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:12
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[bucketOf(nanos)].increment();
+        sum.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * 获取记录次数
+     *
+     * @return long
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:12
+     */
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * 获取平均耗时
+     *
+     * @return double 纳秒
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:12
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * 获取最大耗时
+     *
+     * @return long 纳秒
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:12
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * 获取耗时分位数，返回所在桶的上界
+     *
+     * @param quantile 分位，0到1之间，例如0.99
+     * @return long 纳秒，没有记录时为0
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:12
+     */
+    public long percentile(double quantile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int idx = 0; idx < BUCKET_COUNT; idx++) {
+            counts[idx] = buckets[idx].sum();
+            total += counts[idx];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int idx = 0; idx < BUCKET_COUNT; idx++) {
+            seen += counts[idx];
+            if (seen >= target) {
+                return Math.min(upperBoundOf(idx), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < LINEAR_LIMIT) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        if (bucket == BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ej.chain.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 只读的指标MBean，属性在创建时登记，读取时实时计算
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 19:20
+ */
+class MetricsMBean implements DynamicMBean {
+
+    private final String className;
+    private final String description;
+    private final Map<String, Supplier<?>> attributes = new LinkedHashMap<>();
+    private final Map<String, Class<?>> types = new LinkedHashMap<>();
+
+    MetricsMBean(String className, String description) {
+        this.className = className;
+        this.description = description;
+    }
+
+    MetricsMBean attribute(String name, Class<?> type, Supplier<?> supplier) {
+        attributes.put(name, supplier);
+        types.put(name, type);
+        return this;
+    }
+
+    /**
+     * 登记耗时直方图的次数、平均值、分位数、最大值，耗时单位为微秒
+     *
+     * @param prefix    属性名前缀
+     * @param histogram
+     * @return com.ej.chain.metrics.MetricsMBean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 19:20
+     */
+    MetricsMBean histogram(String prefix, LatencyHistogram histogram) {
+        attribute(prefix + "Count", Long.class, histogram::count);
+        attribute(prefix + "MeanMicros", Double.class, () -> histogram.mean() / 1000D);
+        attribute(prefix + "P50Micros", Double.class, () -> histogram.percentile(0.5) / 1000D);
+        attribute(prefix + "P90Micros", Double.class, () -> histogram.percentile(0.9) / 1000D);
+        attribute(prefix + "P99Micros", Double.class, () -> histogram.percentile(0.99) / 1000D);
+        attribute(prefix + "P999Micros", Double.class, () -> histogram.percentile(0.999) / 1000D);
+        attribute(prefix + "MaxMicros", Double.class, () -> histogram.max() / 1000D);
+        return this;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Supplier<?> supplier = attributes.get(attribute);
+        if (supplier == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return supplier.get();
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException(attribute.getName() + " is read only");
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] names) {
+        AttributeList list = new AttributeList();
+        for (String name : names) {
+            Supplier<?> supplier = attributes.get(name);
+            if (supplier != null) {
+                list.add(new Attribute(name, supplier.get()));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) {
+        throw new UnsupportedOperationException(actionName);
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        MBeanAttributeInfo[] infos = new MBeanAttributeInfo[types.size()];
+        int idx = 0;
+        for (Map.Entry<String, Class<?>> entry : types.entrySet()) {
+            infos[idx++] = new MBeanAttributeInfo(entry.getKey(), entry.getValue().getName(), entry.getKey(), true, false, false);
+        }
+        return new MBeanInfo(className, description, infos, null, new MBeanOperationInfo[0], null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ej.chain.metrics;
+
+/**
+ * Handler的执行阶段
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 19:10
+ */
+public enum Phase {
+    /**
+     * 参数校验
+     */
+    CHECK_PARAMS("CheckParams"),
+    /**
+     * 是否重复
+     */
+    DUPLICATED("Duplicated"),
+    /**
+     * 业务处理
+     */
+    PROCESS("Process"),
+    /**
+     * 处理完成
+     */
+    COMPLETED("Completed"),
+    /**
+     * 返回信号的业务处理
+     */
+    HANDLE("Handle");
+
+    /**
+     * JMX属性名前缀
+     */
+    private final String attributePrefix;
+
+    Phase(String attributePrefix) {
+        this.attributePrefix = attributePrefix;
+    }
+
+    public String getAttributePrefix() {
+        return attributePrefix;
+    }
+}
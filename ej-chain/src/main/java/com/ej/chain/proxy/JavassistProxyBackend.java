@@ -0,0 +1,85 @@
+package com.ej.chain.proxy;
+
+import com.ej.chain.annotation.FromContext;
+import com.ej.chain.context.ChainContext;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtMethod;
+import javassist.LoaderClassPath;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * 使用JAVASSIST编译源码生成代理类<br/>
+ * 每次生成使用独立的ClassPool，从被代理类的ClassLoader查找类，生成完成后不再持有CtClass
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:50
+ */
+public class JavassistProxyBackend implements ProxyBackend {
+
+    private static final String ABSTRACT_METHOD_KEY = "abstract";
+    /**
+     * ($r)按返回值类型强转并拆箱，($w)将基本类型装箱
+     */
+    private static final String FROM_METHOD_TEMPLATE = "%s %s %s(){return ($r)%s.extractTemporaryArgs(%d);}";
+    private static final String TO_METHOD_TEMPLATE = "%s void %s(%s object){%s.injectTemporaryArgs(%d,($w)object);}";
+    /**
+     * int/long/double/boolean直接读写基本类型槽位，不装箱
+     */
+    private static final String FROM_PRIMITIVE_METHOD_TEMPLATE = "%s %s %s(){return %s.extract%s(%d);}";
+    private static final String TO_PRIMITIVE_METHOD_TEMPLATE = "%s void %s(%s object){%s.inject%s(%d,object);}";
+
+    @Override
+    public Class<?> defineProxyClass(Class<?> targetClass, String className, List<Method> methods) throws Exception {
+        ClassPool cp = new ClassPool(true);
+        cp.insertClassPath(new LoaderClassPath(ProxyClassDefiner.classLoaderOf(targetClass)));
+        cp.insertClassPath(new LoaderClassPath(ChainContext.class.getClassLoader()));
+        CtClass cc = cp.makeClass(className);
+        try {
+            cc.setSuperclass(cp.get(targetClass.getName()));
+            //实现抽象方法
+            for (Method method : methods) {
+                CtMethod cm = CtMethod.make(buildMethod(method), cc);
+                cc.addMethod(cm);
+            }
+            return ProxyClassDefiner.define(targetClass, className, cc.toBytecode(), false);
+        } finally {
+            cc.detach();
+        }
+    }
+
+    /**
+     * 生成抽象Handler的JAVASSIST代理类的代理方法
+     *
+     * @param method
+     * @return java.lang.String
+     * @auther: Evan·Jiang
+     * @date: 2020/4/14 16:29
+     */
+    private static String buildMethod(Method method) {
+        String openLevel = Modifier.toString(method.getModifiers());
+        int idx = 0;
+        if ((idx = openLevel.indexOf(ABSTRACT_METHOD_KEY)) >= 0) {
+            openLevel = openLevel.substring(0, idx);
+        }
+        String methodName = method.getName();
+        if (method.getAnnotation(FromContext.class) != null) {
+            Class<?> returnType = method.getReturnType();
+            String primitiveName = ProxyClassWriter.primitiveAccessorOf(returnType);
+            if (primitiveName != null) {
+                return String.format(FROM_PRIMITIVE_METHOD_TEMPLATE, openLevel, returnType.getTypeName(), methodName, ChainContext.class.getName(), primitiveName, ProxyHandlerFactory.slotOf(method));
+            }
+            return String.format(FROM_METHOD_TEMPLATE, openLevel, returnType.getTypeName(), methodName, ChainContext.class.getName(), ProxyHandlerFactory.slotOf(method));
+        } else {
+            Class<?> parameterType = method.getParameterTypes()[0];
+            String primitiveName = ProxyClassWriter.primitiveAccessorOf(parameterType);
+            if (primitiveName != null) {
+                return String.format(TO_PRIMITIVE_METHOD_TEMPLATE, openLevel, methodName, parameterType.getTypeName(), ChainContext.class.getName(), primitiveName, ProxyHandlerFactory.slotOf(method));
+            }
+            return String.format(TO_METHOD_TEMPLATE, openLevel, methodName, parameterType.getTypeName(), ChainContext.class.getName(), ProxyHandlerFactory.slotOf(method));
+        }
+    }
+}
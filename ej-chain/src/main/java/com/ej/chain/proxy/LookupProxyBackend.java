@@ -0,0 +1,34 @@
+package com.ej.chain.proxy;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 默认的代理类生成方式：直接生成字节码，通过被代理类的Lookup定义代理类<br/>
+ * 不编译源码、不使用ClassPool，生成的读写方法只有槽位常量和一次静态调用；
+ * JDK15及以上默认定义为隐藏类，不占用类名，不再被引用时可以卸载
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:50
+ */
+public class LookupProxyBackend implements ProxyBackend {
+
+    private final boolean hidden;
+
+    public LookupProxyBackend() {
+        this(true);
+    }
+
+    /**
+     * @param hidden 是否定义为隐藏类，JDK15以下不支持或被代理类与ej-chain不在同一个ClassLoader时定义为普通类
+     */
+    public LookupProxyBackend(boolean hidden) {
+        this.hidden = hidden;
+    }
+
+    @Override
+    public Class<?> defineProxyClass(Class<?> targetClass, String className, List<Method> methods) throws Exception {
+        byte[] bytecode = ProxyClassWriter.write(className, targetClass, methods);
+        return ProxyClassDefiner.define(targetClass, className, bytecode, hidden);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ej.chain.proxy;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 抽象Handler代理类的生成方式<br/>
+ * 默认使用{@link LookupProxyBackend}，可以通过{@link ProxyHandlerFactory#setProxyBackend(ProxyBackend)}替换
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:40
+ */
+public interface ProxyBackend {
+
+    /**
+     * 生成并定义代理类，代理类必须与被代理类在同一个包中，并提供无参构造方法
+     *
+     * @param targetClass 被代理的抽象Handler类
+     * @param className   代理类名称
+     * @param methods     需要实现的抽象方法，已经过校验，槽位通过{@link ProxyHandlerFactory#slotOf(Method)}获取
+     * @return java.lang.Class<?>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:40
+     */
+    Class<?> defineProxyClass(Class<?> targetClass, String className, List<Method> methods) throws Exception;
+}
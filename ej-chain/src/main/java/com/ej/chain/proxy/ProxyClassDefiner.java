@@ -0,0 +1,98 @@
+package com.ej.chain.proxy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * 在被代理类所在的ClassLoader和包中定义代理类<br/>
+ * JDK15及以上可以定义为隐藏类，JDK9及以上使用Lookup.defineClass，JDK8反射调用ClassLoader.defineClass<br/>
+ * 被代理类与ej-chain不在同一个ClassLoader(同一个未命名模块)时，privateLookupIn得到的Lookup没有MODULE权限，不能定义隐藏类，
+ * 此时改用只需要PACKAGE权限的Lookup.defineClass定义为普通类，例如Web容器、热部署的ClassLoader加载的Handler
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:40
+ */
+final class ProxyClassDefiner {
+
+    private static final Method PRIVATE_LOOKUP_IN = method(MethodHandles.class, "privateLookupIn", Class.class, MethodHandles.Lookup.class);
+    private static final Method DEFINE_CLASS = method(MethodHandles.Lookup.class, "defineClass", byte[].class);
+    private static final Class<?> CLASS_OPTION = type("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+    private static final Method DEFINE_HIDDEN_CLASS = CLASS_OPTION == null ? null
+            : method(MethodHandles.Lookup.class, "defineHiddenClass", byte[].class, boolean.class, Array.newInstance(CLASS_OPTION, 0).getClass());
+    private static final Method LOOKUP_CLASS = method(MethodHandles.Lookup.class, "lookupClass");
+    private static final Method HAS_FULL_PRIVILEGE_ACCESS = method(MethodHandles.Lookup.class, "hasFullPrivilegeAccess");
+
+    private ProxyClassDefiner() {
+    }
+
+    /**
+     * 是否支持隐藏类
+     *
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:40
+     */
+    static boolean supportsHiddenClass() {
+        return DEFINE_HIDDEN_CLASS != null && PRIVATE_LOOKUP_IN != null;
+    }
+
+    /**
+     * 定义代理类
+     *
+     * @param neighbor  被代理类，代理类定义在它所在的ClassLoader和包中
+     * @param className 代理类名称
+     * @param bytecode  代理类字节码
+     * @param hidden    是否定义为隐藏类，不支持或没有权限时定义为普通类
+     * @return java.lang.Class<?>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:40
+     */
+    static Class<?> define(Class<?> neighbor, String className, byte[] bytecode, boolean hidden) throws Exception {
+        if (PRIVATE_LOOKUP_IN == null || DEFINE_CLASS == null) {
+            Method defineClass = ClassLoader.class.getDeclaredMethod("defineClass", String.class, byte[].class, int.class, int.class, java.security.ProtectionDomain.class);
+            defineClass.setAccessible(true);
+            return (Class<?>) defineClass.invoke(classLoaderOf(neighbor), className, bytecode, 0, bytecode.length, neighbor.getProtectionDomain());
+        }
+        Object lookup = PRIVATE_LOOKUP_IN.invoke(null, neighbor, MethodHandles.lookup());
+        if (hidden && supportsHiddenClass() && hasFullPrivilegeAccess(lookup)) {
+            try {
+                Object hiddenLookup = DEFINE_HIDDEN_CLASS.invoke(lookup, bytecode, true, Array.newInstance(CLASS_OPTION, 0));
+                return (Class<?>) LOOKUP_CLASS.invoke(hiddenLookup);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof IllegalAccessException)) {
+                    throw e;
+                }
+            }
+        }
+        return (Class<?>) DEFINE_CLASS.invoke(lookup, (Object) bytecode);
+    }
+
+    /**
+     * Lookup是否有定义隐藏类需要的全部权限(包括MODULE)
+     */
+    private static boolean hasFullPrivilegeAccess(Object lookup) throws Exception {
+        return HAS_FULL_PRIVILEGE_ACCESS == null || (Boolean) HAS_FULL_PRIVILEGE_ACCESS.invoke(lookup);
+    }
+
+    static ClassLoader classLoaderOf(Class<?> clazz) {
+        return clazz.getClassLoader() == null ? ClassLoader.getSystemClassLoader() : clazz.getClassLoader();
+    }
+
+    private static Method method(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            return owner.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Class<?> type(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
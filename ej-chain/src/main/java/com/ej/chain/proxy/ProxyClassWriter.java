@@ -0,0 +1,379 @@
+package com.ej.chain.proxy;
+
+import com.ej.chain.context.ChainContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 代理类字节码生成器<br/>
+ * 代理类只有无参构造方法和上下文读写方法，方法体都是无分支的几条指令，直接按class文件格式写出，不需要编译源码；
+ * 槽位作为常量写在指令中，读写临时变量时没有任何查找
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 20:45
+ */
+final class ProxyClassWriter {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    /**
+     * class文件版本，JDK8
+     */
+    private static final int MAJOR_VERSION = 52;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int ILOAD_1 = 0x1b;
+    private static final int LLOAD_1 = 0x1f;
+    private static final int FLOAD_1 = 0x23;
+    private static final int DLOAD_1 = 0x27;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int IRETURN = 0xac;
+    private static final int LRETURN = 0xad;
+    private static final int FRETURN = 0xae;
+    private static final int DRETURN = 0xaf;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int CHECKCAST = 0xc0;
+
+    private static final String CONTEXT_CLASS = internalName(ChainContext.class);
+    private static final String EXTRACT_DESCRIPTOR = "(I)Ljava/lang/Object;";
+    private static final String INJECT_DESCRIPTOR = "(ILjava/lang/Object;)V";
+
+    private final ByteArrayOutputStream constantBytes = new ByteArrayOutputStream();
+    private final DataOutputStream constants = new DataOutputStream(constantBytes);
+    private final Map<String, Integer> constantIndexes = new HashMap<>();
+    private int constantCount = 1;
+    private final List<byte[]> methods = new ArrayList<>();
+
+    private final String className;
+    private final String superName;
+
+    private ProxyClassWriter(String className, Class<?> superClass) {
+        this.className = className.replace('.', '/');
+        this.superName = internalName(superClass);
+    }
+
+    /**
+     * 生成代理类字节码
+     *
+     * @param className   代理类名称
+     * @param targetClass 被代理的抽象Handler类
+     * @param methods     需要实现的抽象方法
+     * @return byte[]
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:45
+     */
+    static byte[] write(String className, Class<?> targetClass, List<Method> methods) throws IOException {
+        ProxyClassWriter writer = new ProxyClassWriter(className, targetClass);
+        writer.constructor();
+        for (Method method : methods) {
+            int slot = ProxyHandlerFactory.slotOf(method);
+            if (method.getReturnType() == void.class) {
+                writer.injectMethod(method, slot);
+            } else {
+                writer.extractMethod(method, slot);
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    private void constructor() throws IOException {
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(code);
+        out.writeByte(ALOAD_0);
+        out.writeByte(INVOKESPECIAL);
+        out.writeShort(methodref(superName, "<init>", "()V"));
+        out.writeByte(RETURN);
+        method(ACC_PUBLIC, "<init>", "()V", code.toByteArray(), 1, 1);
+    }
+
+    /**
+     * 从上下文读取临时变量：按返回值类型强转，int/long/double/boolean直接读基本类型槽位，其他基本类型拆箱
+     */
+    private void extractMethod(Method method, int slot) throws IOException {
+        Class<?> returnType = method.getReturnType();
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(code);
+        pushSlot(out, slot);
+        String primitiveName = primitiveAccessorOf(returnType);
+        if (primitiveName != null) {
+            out.writeByte(INVOKESTATIC);
+            out.writeShort(methodref(CONTEXT_CLASS, "extract" + primitiveName, "(I)" + descriptor(returnType)));
+            out.writeByte(returnOpcodeOf(returnType));
+            method(accessOf(method), method.getName(), "()" + descriptor(returnType), code.toByteArray(), 2, 1);
+            return;
+        }
+        out.writeByte(INVOKESTATIC);
+        out.writeShort(methodref(CONTEXT_CLASS, "extractTemporaryArgs", EXTRACT_DESCRIPTOR));
+        int returnOpcode = ARETURN;
+        if (returnType.isPrimitive()) {
+            String wrapper = internalName(wrapperOf(returnType));
+            out.writeByte(CHECKCAST);
+            out.writeShort(classref(wrapper));
+            out.writeByte(INVOKEVIRTUAL);
+            out.writeShort(methodref(wrapper, returnType.getName() + "Value", "()" + descriptor(returnType)));
+            returnOpcode = returnOpcodeOf(returnType);
+        } else if (returnType != Object.class) {
+            out.writeByte(CHECKCAST);
+            out.writeShort(classref(internalName(returnType)));
+        }
+        out.writeByte(returnOpcode);
+        method(accessOf(method), method.getName(), "()" + descriptor(returnType), code.toByteArray(), 2, 1);
+    }
+
+    /**
+     * 保存临时变量到上下文：int/long/double/boolean直接写基本类型槽位，其他基本类型装箱
+     */
+    private void injectMethod(Method method, int slot) throws IOException {
+        Class<?> parameterType = method.getParameterTypes()[0];
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(code);
+        pushSlot(out, slot);
+        out.writeByte(loadOpcodeOf(parameterType));
+        String primitiveName = primitiveAccessorOf(parameterType);
+        if (primitiveName != null) {
+            out.writeByte(INVOKESTATIC);
+            out.writeShort(methodref(CONTEXT_CLASS, "inject" + primitiveName, "(I" + descriptor(parameterType) + ")V"));
+        } else {
+            if (parameterType.isPrimitive()) {
+                String wrapper = internalName(wrapperOf(parameterType));
+                out.writeByte(INVOKESTATIC);
+                out.writeShort(methodref(wrapper, "valueOf", "(" + descriptor(parameterType) + ")L" + wrapper + ";"));
+            }
+            out.writeByte(INVOKESTATIC);
+            out.writeShort(methodref(CONTEXT_CLASS, "injectTemporaryArgs", INJECT_DESCRIPTOR));
+        }
+        out.writeByte(RETURN);
+        int parameterSize = parameterType == long.class || parameterType == double.class ? 2 : 1;
+        method(accessOf(method), method.getName(), "(" + descriptor(parameterType) + ")V", code.toByteArray(), 1 + parameterSize, 1 + parameterSize);
+    }
+
+    private void pushSlot(DataOutputStream out, int slot) throws IOException {
+        if (slot <= 5) {
+            out.writeByte(ICONST_0 + slot);
+        } else if (slot <= Byte.MAX_VALUE) {
+            out.writeByte(BIPUSH);
+            out.writeByte(slot);
+        } else if (slot <= Short.MAX_VALUE) {
+            out.writeByte(SIPUSH);
+            out.writeShort(slot);
+        } else {
+            out.writeByte(LDC_W);
+            out.writeShort(integer(slot));
+        }
+    }
+
+    private void method(int access, String name, String descriptor, byte[] code, int maxStack, int maxLocals) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(access);
+        out.writeShort(utf8(name));
+        out.writeShort(utf8(descriptor));
+        out.writeShort(1);
+        out.writeShort(utf8("Code"));
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        //exception_table_length、attributes_count
+        out.writeShort(0);
+        out.writeShort(0);
+        methods.add(bytes.toByteArray());
+    }
+
+    private byte[] toByteArray() throws IOException {
+        int thisClass = classref(className);
+        int superClass = classref(superName);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(0);
+        out.writeShort(MAJOR_VERSION);
+        out.writeShort(constantCount);
+        out.write(constantBytes.toByteArray());
+        out.writeShort(ACC_PUBLIC | ACC_SUPER);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        //interfaces_count、fields_count
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(methods.size());
+        for (byte[] method : methods) {
+            out.write(method);
+        }
+        //attributes_count
+        out.writeShort(0);
+        return bytes.toByteArray();
+    }
+
+    private int utf8(String value) throws IOException {
+        Integer index = constantIndexes.get("U" + value);
+        if (index == null) {
+            constants.writeByte(CONSTANT_UTF8);
+            constants.writeUTF(value);
+            index = register("U" + value);
+        }
+        return index;
+    }
+
+    private int integer(int value) throws IOException {
+        Integer index = constantIndexes.get("I" + value);
+        if (index == null) {
+            constants.writeByte(CONSTANT_INTEGER);
+            constants.writeInt(value);
+            index = register("I" + value);
+        }
+        return index;
+    }
+
+    private int classref(String internalName) throws IOException {
+        Integer index = constantIndexes.get("C" + internalName);
+        if (index == null) {
+            int name = utf8(internalName);
+            constants.writeByte(CONSTANT_CLASS);
+            constants.writeShort(name);
+            index = register("C" + internalName);
+        }
+        return index;
+    }
+
+    private int methodref(String owner, String name, String descriptor) throws IOException {
+        String key = "M" + owner + "." + name + descriptor;
+        Integer index = constantIndexes.get(key);
+        if (index == null) {
+            int ownerIndex = classref(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            constants.writeByte(CONSTANT_NAME_AND_TYPE);
+            constants.writeShort(nameIndex);
+            constants.writeShort(descriptorIndex);
+            int nameAndType = register("N" + key);
+            constants.writeByte(CONSTANT_METHODREF);
+            constants.writeShort(ownerIndex);
+            constants.writeShort(nameAndType);
+            index = register(key);
+        }
+        return index;
+    }
+
+    private int register(String key) {
+        int index = constantCount++;
+        constantIndexes.put(key, index);
+        return index;
+    }
+
+    private static int accessOf(Method method) {
+        return method.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED);
+    }
+
+    private static String internalName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type == void.class) {
+            return "V";
+        } else if (type == int.class) {
+            return "I";
+        } else if (type == long.class) {
+            return "J";
+        } else if (type == boolean.class) {
+            return "Z";
+        } else if (type == byte.class) {
+            return "B";
+        } else if (type == char.class) {
+            return "C";
+        } else if (type == short.class) {
+            return "S";
+        } else if (type == float.class) {
+            return "F";
+        } else if (type == double.class) {
+            return "D";
+        } else if (type.isArray()) {
+            return internalName(type);
+        }
+        return "L" + internalName(type) + ";";
+    }
+
+    /**
+     * 有不装箱读写方法的基本类型，返回{@link ChainContext}中读写方法名的后缀，其他类型返回null
+     */
+    static String primitiveAccessorOf(Class<?> type) {
+        if (type == int.class) {
+            return "Int";
+        } else if (type == long.class) {
+            return "Long";
+        } else if (type == double.class) {
+            return "Double";
+        } else if (type == boolean.class) {
+            return "Boolean";
+        }
+        return null;
+    }
+
+    private static Class<?> wrapperOf(Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == float.class) {
+            return Float.class;
+        }
+        return Double.class;
+    }
+
+    private static int loadOpcodeOf(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return ALOAD_1;
+        } else if (type == long.class) {
+            return LLOAD_1;
+        } else if (type == float.class) {
+            return FLOAD_1;
+        } else if (type == double.class) {
+            return DLOAD_1;
+        }
+        return ILOAD_1;
+    }
+
+    private static int returnOpcodeOf(Class<?> type) {
+        if (type == long.class) {
+            return LRETURN;
+        } else if (type == float.class) {
+            return FRETURN;
+        } else if (type == double.class) {
+            return DRETURN;
+        }
+        return IRETURN;
+    }
+}
@@ -4,7 +4,6 @@ import com.ej.chain.annotation.FromContext;
 import com.ej.chain.annotation.ToContext;
 import com.ej.chain.context.ChainContext;
 import com.ej.chain.handlers.BaseHandler;
-import javassist.*;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -16,7 +15,8 @@ import java.util.stream.Collectors;
 
 
 /**
- * 抽象Handler代理工厂
+ * 抽象Handler代理工厂<br/>
+ * 优先使用编译期由ej-chain-processor生成的代理类，没有时在运行时按{@link ProxyBackend}生成，默认使用{@link LookupProxyBackend}
  *
  * @author: Evan·Jiang
  * @date: 2020/4/14 16:24
@@ -24,16 +24,16 @@ import java.util.stream.Collectors;
 public class ProxyHandlerFactory {
 
     /**
-     * JAVASSIST生成的代理对象池
+     * 代理对象池
      */
-    private static final Map<Class<?>, Object> JAVASSIST_OBJ_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Object> PROXY_OBJ_CACHE = new ConcurrentHashMap<>();
     /**
-     * JAVASSIST生成的代理类池
+     * 代理类池
      */
-    private static final Map<Class<?>, Class<?>> JAVASSIST_CLASS_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Class<?>> PROXY_CLASS_CACHE = new ConcurrentHashMap<>();
 
     /**
-     * 获取抽象Handler的JAVASSIST代理对象
+     * 获取抽象Handler的代理对象，方法名保留JAVASSIST以兼容原有调用
      *
      * @param clazz
      * @return T
@@ -49,30 +49,56 @@ public class ProxyHandlerFactory {
                 throw new IllegalArgumentException(e);
             }
         }
-        if (JAVASSIST_OBJ_CACHE.containsKey(clazz)) {
-            return (T) JAVASSIST_OBJ_CACHE.get(clazz);
+        if (PROXY_OBJ_CACHE.containsKey(clazz)) {
+            return (T) PROXY_OBJ_CACHE.get(clazz);
         }
         synchronized (clazz) {
-            if (JAVASSIST_OBJ_CACHE.containsKey(clazz)) {
-                return (T) JAVASSIST_OBJ_CACHE.get(clazz);
+            if (PROXY_OBJ_CACHE.containsKey(clazz)) {
+                return (T) PROXY_OBJ_CACHE.get(clazz);
             }
             try {
-                JAVASSIST_OBJ_CACHE.put(clazz, proxyClass.newInstance());
+                PROXY_OBJ_CACHE.put(clazz, proxyClass.newInstance());
             } catch (Exception e) {
                 throw new IllegalArgumentException(e);
             }
-            return (T) JAVASSIST_OBJ_CACHE.get(clazz);
+            return (T) PROXY_OBJ_CACHE.get(clazz);
         }
     }
 
     private static final String EXTENDS_CLASS_NAME_SUFFIX = "ProxyHandler";
-    private static final String ABSTRACT_METHOD_KEY = "abstract";
-    private static final String FROM_METHOD_TEMPLATE = "%s %s %s(){return (%s)%s.extractTemporaryArgs(\"%s\");}";
-    private static final String TO_METHOD_TEMPLATE = "%s void %s(%s object){%s.injectTemporaryArgs(\"%s\",object);}";
+
+    /**
+     * 运行时生成代理类的方式
+     */
+    private static volatile ProxyBackend proxyBackend = new LookupProxyBackend();
+
+    /**
+     * 替换运行时生成代理类的方式，只影响之后生成的代理类
+     *
+     * @param backend 代理类生成方式，为null时恢复为{@link LookupProxyBackend}
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:55
+     */
+    public static void setProxyBackend(ProxyBackend backend) {
+        proxyBackend = backend == null ? new LookupProxyBackend() : backend;
+    }
+
+    /**
+     * 获取代理方法读写的临时变量槽位
+     *
+     * @param method 使用了{@link FromContext}或{@link ToContext}注解的抽象方法
+     * @return int
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 20:55
+     */
+    public static int slotOf(Method method) {
+        FromContext fromContext = method.getAnnotation(FromContext.class);
+        return ChainContext.slotOf(fromContext != null ? fromContext.value() : method.getAnnotation(ToContext.class).value());
+    }
 
 
     /**
-     * 获取抽象Handler的JAVASSIST代理类
+     * 获取抽象Handler的代理类，方法名保留JAVASSIST以兼容原有调用
      *
      * @param clazz
      * @return java.lang.Class<?>
@@ -80,72 +106,48 @@ public class ProxyHandlerFactory {
      * @date: 2020/4/17 10:49
      */
     public static Class<?> getJavassistProxyHandlerClass(Class<?> clazz) {
-        if (JAVASSIST_CLASS_CACHE.containsKey(clazz)) {
-            return JAVASSIST_CLASS_CACHE.get(clazz);
+        if (PROXY_CLASS_CACHE.containsKey(clazz)) {
+            return PROXY_CLASS_CACHE.get(clazz);
         }
         synchronized (clazz) {
-            if (JAVASSIST_CLASS_CACHE.containsKey(clazz)) {
-                return JAVASSIST_CLASS_CACHE.get(clazz);
+            if (PROXY_CLASS_CACHE.containsKey(clazz)) {
+                return PROXY_CLASS_CACHE.get(clazz);
             }
             checkClass(clazz);
+            String className = clazz.getName() + EXTENDS_CLASS_NAME_SUFFIX;
+            Class<?> pregeneratedClass = loadPregeneratedClass(clazz, className);
+            if (pregeneratedClass != null) {
+                PROXY_CLASS_CACHE.put(clazz, pregeneratedClass);
+                return pregeneratedClass;
+            }
             List<Method> methods = getAbstractMethods(clazz);
             checkMethods(clazz, methods);
-            String className = clazz.getName() + EXTENDS_CLASS_NAME_SUFFIX;
             try {
-                Class<?> proxyClass = buildExtendsClass(clazz, className, methods);
-                JAVASSIST_CLASS_CACHE.put(clazz, proxyClass);
+                Class<?> proxyClass = proxyBackend.defineProxyClass(clazz, className, methods);
+                PROXY_CLASS_CACHE.put(clazz, proxyClass);
             } catch (Exception e) {
                 throw new IllegalArgumentException(e);
             }
-            return JAVASSIST_CLASS_CACHE.get(clazz);
+            return PROXY_CLASS_CACHE.get(clazz);
         }
     }
 
     /**
-     * 生成抽象Handler的JAVASSIST的代理类
+     * 加载编译期由ej-chain-processor生成的代理类
      *
      * @param targetClass
      * @param className
-     * @param methods
-     * @return java.lang.Class<?>
-     * @auther: Evan·Jiang
-     * @date: 2020/4/14 16:29
-     */
-    private static Class<?> buildExtendsClass(Class<?> targetClass, String className, List<Method> methods) throws NotFoundException, CannotCompileException {
-        ClassPool cp = ClassPool.getDefault();
-        CtClass cc = cp.makeClass(className);
-        cc.setSuperclass(cp.get(targetClass.getName()));
-        //实现抽象方法
-        for (Method method : methods) {
-            String methodString = buildMethod(method);
-            CtMethod cm = CtMethod.make(methodString, cc);
-            cc.addMethod(cm);
-        }
-        return cc.toClass();
-    }
-
-    /**
-     * 生成抽象Handler的JAVASSIST代理类的代理方法
-     *
-     * @param method
-     * @return java.lang.String
+     * @return java.lang.Class<?> 没有生成代理类时返回null
      * @auther: Evan·Jiang
-     * @date: 2020/4/14 16:29
+     * @date: 2026/10/18 20:25
      */
-    private static String buildMethod(Method method) {
-        String openLevel = Modifier.toString(method.getModifiers());
-        int idx = 0;
-        if ((idx = openLevel.indexOf(ABSTRACT_METHOD_KEY)) >= 0) {
-            openLevel = openLevel.substring(0, idx);
-        }
-        String methodName = method.getName();
-        String key = null;
-        if (method.getAnnotation(FromContext.class) != null) {
-            key = method.getAnnotation(FromContext.class).value();
-            return String.format(FROM_METHOD_TEMPLATE, openLevel, method.getReturnType().getName(), methodName, method.getReturnType().getName(), ChainContext.class.getName(), key);
-        } else {
-            key = method.getAnnotation(ToContext.class).value();
-            return String.format(TO_METHOD_TEMPLATE, openLevel, methodName, method.getParameterTypes()[0].getName(), ChainContext.class.getName(), key);
+    private static Class<?> loadPregeneratedClass(Class<?> targetClass, String className) {
+        ClassLoader classLoader = targetClass.getClassLoader() == null ? ClassLoader.getSystemClassLoader() : targetClass.getClassLoader();
+        try {
+            Class<?> proxyClass = Class.forName(className, true, classLoader);
+            return targetClass.isAssignableFrom(proxyClass) && !Modifier.isAbstract(proxyClass.getModifiers()) ? proxyClass : null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
         }
     }
 
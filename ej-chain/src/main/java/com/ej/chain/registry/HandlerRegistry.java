@@ -0,0 +1,231 @@
+package com.ej.chain.registry;
+
+import com.ej.chain.annotation.Handler;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.proxy.ProxyHandlerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handler注册表，扫描使用了{@link Handler}注解的类<br/>
+ * 启动时调用{@link #warmUp()}并行生成所有抽象Handler的代理类并创建单例Handler，避免第一批请求承担生成代理类的耗时；
+ * 未预热的Handler在第一次获取时生成
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 21:10
+ */
+public class HandlerRegistry {
+
+    public static final Logger LOGGER = LoggerFactory.getLogger(HandlerRegistry.class);
+
+    /**
+     * Handler名称 -> Handler类
+     */
+    private final Map<String, Class<?>> handlerClasses;
+
+    /**
+     * 单例Handler
+     */
+    private final Map<Class<?>, Object> singletons = new ConcurrentHashMap<>();
+
+    private volatile long warmUpNanos = -1L;
+
+    private HandlerRegistry(Map<String, Class<?>> handlerClasses) {
+        this.handlerClasses = handlerClasses;
+    }
+
+    /**
+     * 扫描包及其子包中使用了{@link Handler}注解的类，使用当前线程的ClassLoader
+     *
+     * @param packages 包名
+     * @return com.ej.chain.registry.HandlerRegistry
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:10
+     */
+    public static HandlerRegistry scan(String... packages) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return scan(classLoader == null ? HandlerRegistry.class.getClassLoader() : classLoader, packages);
+    }
+
+    /**
+     * 扫描包及其子包中使用了{@link Handler}注解的类
+     *
+     * @param classLoader 加载类使用的ClassLoader
+     * @param packages    包名
+     * @return com.ej.chain.registry.HandlerRegistry
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:10
+     */
+    public static HandlerRegistry scan(ClassLoader classLoader, String... packages) {
+        Set<Class<?>> classes = HandlerScanner.scan(classLoader, packages);
+        Map<String, Class<?>> handlerClasses = new LinkedHashMap<>();
+        for (Class<?> clazz : classes) {
+            if (!BaseHandler.class.isAssignableFrom(clazz)) {
+                throw new IllegalArgumentException(clazz.getName() + " must be the child of " + BaseHandler.class.getName());
+            }
+            Class<?> previous = handlerClasses.put(nameOf(clazz), clazz);
+            if (previous != null) {
+                throw new IllegalArgumentException(nameOf(clazz) + " is used by both " + previous.getName() + " and " + clazz.getName());
+            }
+        }
+        return new HandlerRegistry(Collections.unmodifiableMap(handlerClasses));
+    }
+
+    /**
+     * 使用公共ForkJoinPool预热
+     *
+     * @return com.ej.chain.registry.HandlerRegistry
+     * @see #warmUp(Executor)
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:10
+     */
+    public HandlerRegistry warmUp() {
+        return warmUp(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 预热：并行生成所有抽象Handler的代理类，创建所有单例Handler，全部完成后返回<br/>
+     * 有Handler预热失败时抛出异常，其他Handler的异常作为suppressed附加
+     *
+     * @param executor 并行预热使用的线程池
+     * @return com.ej.chain.registry.HandlerRegistry
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:10
+     */
+    public HandlerRegistry warmUp(Executor executor) {
+        long start = System.nanoTime();
+        List<Class<?>> classes = new ArrayList<>(handlerClasses.values());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(classes.size());
+        for (Class<?> clazz : classes) {
+            futures.add(CompletableFuture.runAsync(() -> prepare(clazz), executor));
+        }
+        IllegalStateException failure = null;
+        for (int idx = 0; idx < futures.size(); idx++) {
+            try {
+                futures.get(idx).join();
+            } catch (RuntimeException e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                if (failure == null) {
+                    failure = new IllegalStateException("warm up handler " + classes.get(idx).getName() + " failed", cause);
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        warmUpNanos = System.nanoTime() - start;
+        LOGGER.info("{} handlers warmed up in {} ms", classes.size(), TimeUnit.NANOSECONDS.toMillis(warmUpNanos));
+        return this;
+    }
+
+    /**
+     * 按名称获取Handler，单例Handler每次返回同一个对象，否则每次创建新对象
+     *
+     * @param name {@link Handler#value()}，未指定时为首字母小写的类名
+     * @return T
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:10
+     */
+    public <T extends BaseHandler> T getHandler(String name) {
+        Class<?> clazz = handlerClasses.get(name);
+        if (clazz == null) {
+            throw new IllegalArgumentException("handler " + name + " doesn't exist");
+        }
+        return (T) getHandler((Class<T>) clazz);
+    }
+
+    /**
+     * 按类型获取Handler，单例Handler每次返回同一个对象，否则每次创建新对象
+     *
+     * @param clazz 使用了{@link Handler}注解的类
+     * @return T
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:10
+     */
+    public <T extends BaseHandler> T getHandler(Class<T> clazz) {
+        if (handlerClasses.get(nameOf(clazz)) != clazz) {
+            throw new IllegalArgumentException(clazz.getName() + " isn't a registered handler");
+        }
+        if (!clazz.getAnnotation(Handler.class).singleton()) {
+            return newInstance(clazz, false);
+        }
+        Object handler = singletons.get(clazz);
+        if (handler == null) {
+            handler = singletons.computeIfAbsent(clazz, key -> newInstance(key, true));
+        }
+        return (T) handler;
+    }
+
+    /**
+     * 获取所有Handler的名称和类型
+     *
+     * @return java.util.Map<java.lang.String, java.lang.Class<?>>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:10
+     */
+    public Map<String, Class<?>> getHandlerClasses() {
+        return handlerClasses;
+    }
+
+    /**
+     * 最近一次预热的耗时
+     *
+     * @return long 纳秒，未预热时为-1
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:10
+     */
+    public long getWarmUpNanos() {
+        return warmUpNanos;
+    }
+
+    /**
+     * 预热单个Handler：抽象Handler生成代理类，单例Handler创建对象
+     *
+     * @param clazz
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:10
+     */
+    private void prepare(Class<?> clazz) {
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            ProxyHandlerFactory.getJavassistProxyHandlerClass(clazz);
+        }
+        if (clazz.getAnnotation(Handler.class).singleton()) {
+            singletons.computeIfAbsent(clazz, key -> newInstance(key, true));
+        }
+    }
+
+    private static <T> T newInstance(Class<?> clazz, boolean singleton) {
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            return (T) ProxyHandlerFactory.getJavassistProxyHandlerInstance((Class<? extends BaseHandler>) clazz, singleton);
+        }
+        try {
+            return (T) clazz.getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw new IllegalArgumentException(clazz.getName() + " can't be instantiated", e);
+        }
+    }
+
+    private static String nameOf(Class<?> clazz) {
+        Handler handler = clazz.getAnnotation(Handler.class);
+        if (handler != null && !handler.value().isEmpty()) {
+            return handler.value();
+        }
+        String simpleName = clazz.getSimpleName();
+        return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+    }
+}
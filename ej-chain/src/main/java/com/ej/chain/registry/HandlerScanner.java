@@ -0,0 +1,147 @@
+package com.ej.chain.registry;
+
+import com.ej.chain.annotation.Handler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 扫描包下使用了{@link Handler}注解的类，支持目录和jar包<br/>
+ * 先在class文件的常量池中查找注解的描述符，包含时才加载类，不会加载(初始化)包下的所有类
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 21:05
+ */
+final class HandlerScanner {
+
+    private static final String CLASS_SUFFIX = ".class";
+    private static final byte[] HANDLER_DESCRIPTOR = ("L" + Handler.class.getName().replace('.', '/') + ";").getBytes(StandardCharsets.UTF_8);
+
+    private HandlerScanner() {
+    }
+
+    /**
+     * 扫描包及其子包
+     *
+     * @param classLoader 加载类使用的ClassLoader
+     * @param packages    包名
+     * @return java.util.Set<java.lang.Class<?>>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:05
+     */
+    static Set<Class<?>> scan(ClassLoader classLoader, String... packages) {
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            for (String packageName : packages) {
+                String path = packageName.replace('.', '/');
+                Enumeration<URL> resources = classLoader.getResources(path);
+                while (resources.hasMoreElements()) {
+                    URL resource = resources.nextElement();
+                    if ("jar".equals(resource.getProtocol())) {
+                        scanJar(resource, path, classNames);
+                    } else if ("file".equals(resource.getProtocol())) {
+                        scanDirectory(new File(URLDecoder.decode(resource.getFile(), "UTF-8")), packageName, classNames);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String className : classNames) {
+            try {
+                Class<?> clazz = Class.forName(className, false, classLoader);
+                if (clazz.isAnnotationPresent(Handler.class)) {
+                    classes.add(clazz);
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new IllegalStateException("load handler class " + className + " failed", e);
+            }
+        }
+        return classes;
+    }
+
+    private static void scanDirectory(File directory, String packageName, Set<String> classNames) throws IOException {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                scanDirectory(file, packageName + "." + file.getName(), classNames);
+            } else if (file.getName().endsWith(CLASS_SUFFIX)) {
+                try (InputStream in = new FileInputStream(file)) {
+                    if (containsHandler(in)) {
+                        classNames.add(packageName + "." + file.getName().substring(0, file.getName().length() - CLASS_SUFFIX.length()));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void scanJar(URL resource, String path, Set<String> classNames) throws IOException {
+        JarURLConnection connection = (JarURLConnection) resource.openConnection();
+        connection.setUseCaches(false);
+        try (JarFile jarFile = connection.getJarFile()) {
+            List<JarEntry> entries = new ArrayList<>();
+            Enumeration<JarEntry> enumeration = jarFile.entries();
+            while (enumeration.hasMoreElements()) {
+                JarEntry entry = enumeration.nextElement();
+                if (!entry.isDirectory() && entry.getName().startsWith(path + "/") && entry.getName().endsWith(CLASS_SUFFIX)) {
+                    entries.add(entry);
+                }
+            }
+            for (JarEntry entry : entries) {
+                try (InputStream in = jarFile.getInputStream(entry)) {
+                    if (containsHandler(in)) {
+                        String name = entry.getName();
+                        classNames.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * class文件中是否引用了{@link Handler}注解
+     *
+     * @param in
+     * @return boolean
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:05
+     */
+    private static boolean containsHandler(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            out.write(buffer, 0, read);
+        }
+        byte[] bytes = out.toByteArray();
+        outer:
+        for (int idx = 0; idx <= bytes.length - HANDLER_DESCRIPTOR.length; idx++) {
+            for (int offset = 0; offset < HANDLER_DESCRIPTOR.length; offset++) {
+                if (bytes[idx + offset] != HANDLER_DESCRIPTOR[offset]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
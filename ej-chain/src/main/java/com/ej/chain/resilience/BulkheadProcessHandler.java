@@ -0,0 +1,114 @@
+package com.ej.chain.resilience;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.BatchProcessHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+import com.ej.chain.handlers.ProcessHandler;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 限制并发执行数的业务Handler<br/>
+ * 下游变慢时只占用有限的线程，并发数已满时不等待，直接中断责任链并返回提示信息，其他Handler和共用线程池的责任链不受影响<br/>
+ * 批量执行责任链时一批请求占用一个并发数，被包装的Handler支持批量时批量调用
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:35
+ */
+public class BulkheadProcessHandler<Request> implements BatchProcessHandler<Request>, DelegatingHandler<Request> {
+
+    private final ProcessHandler<Request> delegate;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final String responseCode;
+    private final String responseMsg;
+    private final LongAdder rejected = new LongAdder();
+
+    public BulkheadProcessHandler(ProcessHandler<Request> delegate, int maxConcurrent, String responseCode, String responseMsg) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive, but was " + maxConcurrent);
+        }
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        this.responseCode = responseCode;
+        this.responseMsg = responseMsg;
+    }
+
+    /**
+     * 包装业务Handler
+     *
+     * @param delegate      被包装的业务Handler
+     * @param maxConcurrent 最大并发执行数
+     * @param responseCode  并发数已满时的返回码
+     * @param responseMsg   并发数已满时的返回描述
+     * @return com.ej.chain.resilience.BulkheadProcessHandler<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:35
+     */
+    public static <Request> BulkheadProcessHandler<Request> of(ProcessHandler<Request> delegate, int maxConcurrent, String responseCode, String responseMsg) {
+        return new BulkheadProcessHandler<>(delegate, maxConcurrent, responseCode, responseMsg);
+    }
+
+    @Override
+    public boolean duplicated(Request request) {
+        return delegate.duplicated(request);
+    }
+
+    @Override
+    public void process(Request request) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            ChainContext.injectTips(responseCode, responseMsg);
+            return;
+        }
+        try {
+            delegate.process(request);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean[] duplicated(List<Request> requests, List<ChainContext.Context> contexts) {
+        return BatchProcessHandler.batchDuplicated(delegate, requests, contexts);
+    }
+
+    @Override
+    public void process(List<Request> requests, List<ChainContext.Context> contexts) {
+        if (!permits.tryAcquire()) {
+            rejected.add(requests.size());
+            for (ChainContext.Context context : contexts) {
+                context.injectTips(responseCode, responseMsg);
+            }
+            return;
+        }
+        try {
+            BatchProcessHandler.batchProcess(delegate, requests, contexts);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 正在执行的调用数
+     */
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * 并发数已满被拒绝的调用次数
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public BaseHandler<Request> delegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,213 @@
+package com.ej.chain.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 熔断器，按滑动窗口内的失败率和慢调用率熔断<br/>
+ * 关闭状态下统计调用结果，达到阈值后打开；打开状态下拒绝所有调用，熔断时间结束后进入半开状态；
+ * 半开状态下放行指定次数的试探调用，全部成功后关闭，任一失败或慢调用时重新打开。<br/>
+ * 状态、打开时间和半开状态的试探许可打包在一个不可变的状态对象中，切换时整体CAS替换，不加锁；
+ * 半开状态的许可数在发布之前就已确定，不会放行上一次半开遗留的许可
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:35
+ */
+public class CircuitBreaker {
+
+    /**
+     * 滑动窗口的桶个数
+     */
+    private static final int BUCKETS = 10;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureRate;
+    private final int slowCallRate;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final SlidingWindow window;
+    /**
+     * 时钟，返回System.nanoTime()的值
+     */
+    private final LongSupplier clock;
+    private final AtomicReference<Status> status = new AtomicReference<>(Status.CLOSED);
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opens = new LongAdder();
+
+    /**
+     * @param failureRate    失败率阈值，百分比
+     * @param slowCallRate   慢调用率阈值，百分比，大于100时不按慢调用熔断
+     * @param slowCallMillis 耗时达到该值的调用记为慢调用，毫秒
+     * @param windowMillis   统计窗口，毫秒
+     * @param minimumCalls   统计窗口内调用次数达到该值才计算失败率和慢调用率
+     * @param openMillis     熔断时间，毫秒
+     * @param halfOpenCalls  熔断时间结束后放行试探的调用次数
+     */
+    public CircuitBreaker(int failureRate, int slowCallRate, long slowCallMillis, long windowMillis, int minimumCalls, long openMillis, int halfOpenCalls) {
+        this(failureRate, slowCallRate, slowCallMillis, windowMillis, minimumCalls, openMillis, halfOpenCalls, System::nanoTime);
+    }
+
+    /**
+     * 使用指定时钟的熔断器，测试时用来控制时间
+     *
+     * @param clock 返回纳秒时间，与System.nanoTime()语义相同
+     */
+    CircuitBreaker(int failureRate, int slowCallRate, long slowCallMillis, long windowMillis, int minimumCalls, long openMillis, int halfOpenCalls,
+                   LongSupplier clock) {
+        if (failureRate <= 0 || slowCallRate <= 0) {
+            throw new IllegalArgumentException("failureRate and slowCallRate must be positive, but were " + failureRate + " and " + slowCallRate);
+        }
+        if (windowMillis <= 0 || openMillis <= 0 || minimumCalls <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("windowMillis, openMillis, minimumCalls and halfOpenCalls must be positive");
+        }
+        this.failureRate = failureRate;
+        this.slowCallRate = slowCallRate;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.minimumCalls = minimumCalls;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+        this.window = new SlidingWindow(TimeUnit.MILLISECONDS.toNanos(windowMillis), BUCKETS, clock);
+    }
+
+    /**
+     * 按注解的配置创建熔断器
+     *
+     * @param config Handler类上的注解
+     * @return com.ej.chain.resilience.CircuitBreaker
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:35
+     */
+    public static CircuitBreaker of(com.ej.chain.annotation.CircuitBreaker config) {
+        return new CircuitBreaker(config.failureRate(), config.slowCallRate(), config.slowCallMillis(), config.windowMillis(),
+                config.minimumCalls(), config.openMillis(), config.halfOpenCalls());
+    }
+
+    /**
+     * 判断是否允许调用，允许时调用结束后必须调用{@link #record(boolean, long)}
+     *
+     * @return boolean false:熔断中
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:35
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            Status current = status.get();
+            if (current.state == State.CLOSED) {
+                return true;
+            }
+            if (current.state == State.OPEN) {
+                if (clock.getAsLong() - current.openedAt < openNanos) {
+                    rejected.increment();
+                    return false;
+                }
+                //CAS失败时其他线程已经切换了状态，按新的状态重新判断
+                status.compareAndSet(current, new Status(State.HALF_OPEN, current.openedAt, halfOpenCalls));
+                continue;
+            }
+            int permits;
+            while ((permits = current.permits.get()) > 0) {
+                if (current.permits.compareAndSet(permits, permits - 1)) {
+                    return true;
+                }
+            }
+            rejected.increment();
+            return false;
+        }
+    }
+
+    /**
+     * 记录一次调用结果
+     *
+     * @param failure      是否失败
+     * @param elapsedNanos 调用耗时，纳秒
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:35
+     */
+    public void record(boolean failure, long elapsedNanos) {
+        boolean slow = elapsedNanos >= slowCallNanos;
+        Status current = status.get();
+        if (current.state == State.HALF_OPEN) {
+            if (failure || slow) {
+                open(current);
+            } else if (current.successes.incrementAndGet() == halfOpenCalls) {
+                //关闭前先清空窗口，关闭后的调用不会被清掉
+                window.reset();
+                status.compareAndSet(current, Status.CLOSED);
+            }
+            return;
+        }
+        if (current.state != State.CLOSED) {
+            return;
+        }
+        window.record(failure, slow);
+        if ((failure || slow) && tripped()) {
+            open(current);
+        }
+    }
+
+    /**
+     * 只在记录失败或慢调用时计算，成功的调用不需要汇总窗口
+     */
+    private boolean tripped() {
+        long[] sum = window.sum();
+        if (sum[0] < minimumCalls) {
+            return false;
+        }
+        return sum[1] * 100 >= failureRate * sum[0] || sum[2] * 100 >= slowCallRate * sum[0];
+    }
+
+    private void open(Status from) {
+        if (status.compareAndSet(from, new Status(State.OPEN, clock.getAsLong(), 0))) {
+            opens.increment();
+        }
+    }
+
+    public State getState() {
+        return status.get().state;
+    }
+
+    /**
+     * 熔断期间拒绝的调用次数
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 熔断(打开)的次数
+     */
+    public long getOpens() {
+        return opens.sum();
+    }
+
+    /**
+     * 熔断器的一个状态，每次切换创建新对象；半开状态的许可和成功次数属于该次半开
+     */
+    private static final class Status {
+
+        static final Status CLOSED = new Status(State.CLOSED, 0L, 0);
+
+        final State state;
+        /**
+         * 打开的时间，System.nanoTime()的值
+         */
+        final long openedAt;
+        final AtomicInteger permits;
+        final AtomicInteger successes = new AtomicInteger();
+
+        Status(State state, long openedAt, int permits) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.permits = new AtomicInteger(permits);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ej.chain.resilience;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.exception.ChainForcedInterruptException;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.BatchProcessHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+import com.ej.chain.handlers.ProcessHandler;
+
+import java.util.List;
+
+/**
+ * 带熔断的业务Handler<br/>
+ * 抛出异常(业务拒绝{@link ChainForcedInterruptException}除外)或执行期间责任链超时记为失败，耗时达到阈值记为慢调用；
+ * 熔断期间不调用被包装的Handler，直接中断责任链并返回提示信息<br/>
+ * 批量执行责任链时一批请求记为一次调用，被包装的Handler支持批量时批量调用
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:35
+ */
+public class CircuitBreakerProcessHandler<Request> implements BatchProcessHandler<Request>, DelegatingHandler<Request> {
+
+    private final ProcessHandler<Request> delegate;
+    private final CircuitBreaker breaker;
+    private final String responseCode;
+    private final String responseMsg;
+
+    public CircuitBreakerProcessHandler(ProcessHandler<Request> delegate, CircuitBreaker breaker, String responseCode, String responseMsg) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.responseCode = responseCode;
+        this.responseMsg = responseMsg;
+    }
+
+    /**
+     * 包装业务Handler
+     *
+     * @param delegate     被包装的业务Handler
+     * @param breaker      熔断器，可以由多个Handler共用
+     * @param responseCode 熔断时的返回码
+     * @param responseMsg  熔断时的返回描述
+     * @return com.ej.chain.resilience.CircuitBreakerProcessHandler<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 23:35
+     */
+    public static <Request> CircuitBreakerProcessHandler<Request> of(ProcessHandler<Request> delegate, CircuitBreaker breaker, String responseCode, String responseMsg) {
+        return new CircuitBreakerProcessHandler<>(delegate, breaker, responseCode, responseMsg);
+    }
+
+    @Override
+    public boolean duplicated(Request request) {
+        return delegate.duplicated(request);
+    }
+
+    @Override
+    public void process(Request request) {
+        if (!breaker.tryAcquire()) {
+            ChainContext.injectTips(responseCode, responseMsg);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failure = true;
+        try {
+            delegate.process(request);
+            ChainContext.Context context = ChainContext.current();
+            failure = context.isInterrupted() && context.isTimedOut();
+        } catch (ChainForcedInterruptException e) {
+            failure = false;
+            throw e;
+        } finally {
+            breaker.record(failure, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean[] duplicated(List<Request> requests, List<ChainContext.Context> contexts) {
+        return BatchProcessHandler.batchDuplicated(delegate, requests, contexts);
+    }
+
+    @Override
+    public void process(List<Request> requests, List<ChainContext.Context> contexts) {
+        if (!breaker.tryAcquire()) {
+            for (ChainContext.Context context : contexts) {
+                context.injectTips(responseCode, responseMsg);
+            }
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failure = true;
+        try {
+            BatchProcessHandler.batchProcess(delegate, requests, contexts);
+            failure = false;
+            for (ChainContext.Context context : contexts) {
+                if (context.isInterrupted() && context.isTimedOut()) {
+                    failure = true;
+                    break;
+                }
+            }
+        } catch (ChainForcedInterruptException e) {
+            failure = false;
+            throw e;
+        } finally {
+            breaker.record(failure, System.nanoTime() - start);
+        }
+    }
+
+    public CircuitBreaker getBreaker() {
+        return breaker;
+    }
+
+    @Override
+    public BaseHandler<Request> delegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ej.chain.resilience;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 按时间分桶的滑动窗口，统计调用次数、失败次数、慢调用次数<br/>
+ * 每个桶对应一段时间，桶过期后通过CAS替换为新桶，记录和统计都不加锁
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 23:35
+ */
+class SlidingWindow {
+
+    private final long bucketNanos;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final LongSupplier clock;
+
+    /**
+     * @param windowNanos 窗口长度，纳秒
+     * @param bucketCount 桶个数
+     * @param clock       时钟，返回纳秒时间
+     */
+    SlidingWindow(long windowNanos, int bucketCount, LongSupplier clock) {
+        this.bucketNanos = Math.max(1L, windowNanos / bucketCount);
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+        this.clock = clock;
+    }
+
+    void record(boolean failure, boolean slow) {
+        Bucket bucket = bucketOf(Math.floorDiv(clock.getAsLong(), bucketNanos));
+        bucket.calls.increment();
+        if (failure) {
+            bucket.failures.increment();
+        }
+        if (slow) {
+            bucket.slowCalls.increment();
+        }
+    }
+
+    /**
+     * 统计窗口内的调用次数、失败次数、慢调用次数
+     *
+     * @return long[] {调用次数, 失败次数, 慢调用次数}
+     */
+    long[] sum() {
+        long epoch = Math.floorDiv(clock.getAsLong(), bucketNanos);
+        long[] sum = new long[3];
+        for (int idx = 0; idx < buckets.length(); idx++) {
+            Bucket bucket = buckets.get(idx);
+            if (bucket != null && epoch - bucket.epoch < buckets.length()) {
+                sum[0] += bucket.calls.sum();
+                sum[1] += bucket.failures.sum();
+                sum[2] += bucket.slowCalls.sum();
+            }
+        }
+        return sum;
+    }
+
+    void reset() {
+        for (int idx = 0; idx < buckets.length(); idx++) {
+            buckets.set(idx, null);
+        }
+    }
+
+    private Bucket bucketOf(long epoch) {
+        int idx = (int) Math.floorMod(epoch, (long) buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(idx);
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(idx, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        final long epoch;
+        final LongAdder calls = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder slowCalls = new LongAdder();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
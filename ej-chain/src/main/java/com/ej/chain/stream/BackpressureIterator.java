@@ -0,0 +1,92 @@
+package com.ej.chain.stream;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * 按调用方的消费速度执行请求的迭代器<br/>
+ * 只在调用方线程读取请求来源，每次取返回值前补足到{@link StreamOptions#getMaxInFlight()}个执行中的请求，
+ * 调用方不取返回值时不会再读取请求，执行中和已完成未取走的返回值总数不超过上限
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 21:50
+ */
+public class BackpressureIterator<T, R> implements Iterator<R> {
+
+    private final Iterator<T> source;
+    private final Function<T, CompletableFuture<R>> task;
+    private final int maxInFlight;
+    private final boolean ordered;
+    /**
+     * 按顺序输出时，按提交顺序保存执行中的请求
+     */
+    private final ArrayDeque<CompletableFuture<R>> pending;
+    /**
+     * 不按顺序输出时，保存已执行完的请求
+     */
+    private final BlockingQueue<CompletableFuture<R>> completed;
+    private int inFlight;
+
+    /**
+     * @param source  请求来源
+     * @param task    执行一个请求，返回的CompletableFuture异常完成时，取到该返回值时抛出异常
+     * @param options 流式执行的参数，只使用上限和是否按顺序
+     */
+    public BackpressureIterator(Iterator<T> source, Function<T, CompletableFuture<R>> task, StreamOptions options) {
+        this.source = source;
+        this.task = task;
+        this.maxInFlight = options.getMaxInFlight();
+        this.ordered = options.isOrdered();
+        this.pending = ordered ? new ArrayDeque<>(maxInFlight) : null;
+        this.completed = ordered ? null : new LinkedBlockingQueue<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        fill();
+        return inFlight > 0;
+    }
+
+    /**
+     * 获取下一个返回值，还没有执行完时等待
+     *
+     * @return R
+     * @throws java.util.concurrent.CompletionException 请求执行异常时
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:50
+     */
+    @Override
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        inFlight--;
+        if (ordered) {
+            return pending.poll().join();
+        }
+        try {
+            return completed.take().join();
+        } catch (InterruptedException e) {
+            inFlight++;
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the next response", e);
+        }
+    }
+
+    private void fill() {
+        while (inFlight < maxInFlight && source.hasNext()) {
+            CompletableFuture<R> future = task.apply(source.next());
+            inFlight++;
+            if (ordered) {
+                pending.add(future);
+            } else {
+                future.whenComplete((result, e) -> completed.add(future));
+            }
+        }
+    }
+}
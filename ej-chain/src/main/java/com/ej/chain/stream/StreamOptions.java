@@ -0,0 +1,93 @@
+package com.ej.chain.stream;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 流式执行的参数：同时执行的请求上限、返回值是否按请求顺序输出、执行请求的线程池<br/>
+ * 已提交但调用方还没有取走的请求(包括已执行完的)都计入上限，调用方消费变慢时不再读取新的请求
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 21:50
+ */
+public class StreamOptions {
+
+    private int maxInFlight = Runtime.getRuntime().availableProcessors() * 2;
+    private boolean ordered = true;
+    private Executor executor;
+
+    /**
+     * 设置同时执行的请求上限，默认CPU核数的2倍
+     *
+     * @param maxInFlight 大于0
+     * @return com.ej.chain.stream.StreamOptions
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:50
+     */
+    public StreamOptions maxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive, but was " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * 设置返回值是否按请求顺序输出，默认按顺序；不按顺序时先执行完的先输出，慢请求不会阻塞后面的返回值
+     *
+     * @param ordered
+     * @return com.ej.chain.stream.StreamOptions
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:50
+     */
+    public StreamOptions ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * 设置执行请求的线程池，默认使用所有流共用的固定大小线程池(CPU核数的2倍个守护线程)，不占用{@link ForkJoinPool#commonPool()}；
+     * 需要与其他流隔离或Handler有长时间阻塞调用时应传入独立的线程池
+     *
+     * @param executor
+     * @return com.ej.chain.stream.StreamOptions
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 21:50
+     */
+    public StreamOptions executor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor can't be null");
+        }
+        this.executor = executor;
+        return this;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public Executor getExecutor() {
+        return executor != null ? executor : DefaultExecutor.POOL;
+    }
+
+    /**
+     * 默认线程池，第一次使用时创建；每个流已提交的请求受{@link #maxInFlight(int)}限制，队列不会无限增长
+     */
+    private static final class DefaultExecutor {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        private static final ExecutorService POOL = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2, runnable -> {
+            Thread thread = new Thread(runnable, "ej-chain-stream-" + SEQUENCE.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
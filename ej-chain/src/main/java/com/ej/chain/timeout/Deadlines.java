@@ -0,0 +1,118 @@
+package com.ej.chain.timeout;
+
+import com.ej.chain.context.ChainContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按截止时间等待异步结果<br/>
+ * 超时后定时线程只完成等待结果，等待方(同步执行时是责任链线程，异步执行时是责任链的后续回调)通过{@link #expire(Object, ChainContext.Context)}
+ * 按超时中断上下文并取消异步结果，超时状态只由执行责任链的一方设置，不与Handler的回调并发修改上下文
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:55
+ */
+public class Deadlines {
+
+    /**
+     * 所有截止时间共用的定时线程，只负责完成超时的等待结果
+     */
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ej-chain-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Deadlines() {
+    }
+
+    /**
+     * 在上下文的截止时间内等待异步结果
+     *
+     * @param stage   异步结果
+     * @param context 本次执行的上下文，没有截止时间时直接返回异步结果
+     * @return java.util.concurrent.CompletableFuture<?> 异步结果完成时按原结果完成，超时时以超时标记正常完成，等待方需调用{@link #expire(Object, ChainContext.Context)}
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    public static CompletableFuture<?> within(CompletionStage<?> stage, ChainContext.Context context) {
+        if (!context.hasDeadline()) {
+            return stage.toCompletableFuture();
+        }
+        return within(stage, context, context.getDeadline());
+    }
+
+    /**
+     * 在指定截止时间内等待异步结果
+     *
+     * @param stage    异步结果
+     * @param context  本次执行的上下文
+     * @param deadline 截止时间，System.nanoTime()的值
+     * @return java.util.concurrent.CompletableFuture<?> 异步结果完成时按原结果完成，超时时以超时标记正常完成，等待方需调用{@link #expire(Object, ChainContext.Context)}；
+     * 取消返回的结果时同时取消异步结果
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    public static CompletableFuture<?> within(CompletionStage<?> stage, ChainContext.Context context, long deadline) {
+        CompletableFuture<?> source = stage.toCompletableFuture();
+        if (source.isDone()) {
+            return source;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return CompletableFuture.completedFuture(new Expired(source));
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        //原结果和超时只有一个生效，定时线程不修改上下文
+        ScheduledFuture<?> timer = TIMER.schedule(() -> result.complete(new Expired(source)), remaining, TimeUnit.NANOSECONDS);
+        source.whenComplete((value, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+            } else {
+                result.complete(value);
+            }
+        });
+        result.whenComplete((value, e) -> {
+            timer.cancel(false);
+            if (result.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 处理等待结果，超时时按超时中断上下文并取消异步结果；由等待方在读取上下文之前调用
+     *
+     * @param result  {@link #within(CompletionStage, ChainContext.Context, long)}返回的结果值
+     * @param context 本次执行的上下文
+     * @return boolean 是否超时
+     * @auther: Evan·Jiang
+     * @date: 2026/10/19 09:50
+     */
+    public static boolean expire(Object result, ChainContext.Context context) {
+        if (!(result instanceof Expired)) {
+            return false;
+        }
+        context.timeout();
+        ((Expired) result).source.cancel(true);
+        return true;
+    }
+
+    /**
+     * 超时标记，保存超时后要取消的异步结果
+     */
+    private static final class Expired {
+
+        private final CompletableFuture<?> source;
+
+        private Expired(CompletableFuture<?> source) {
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ej.chain.timeout;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.AsyncProcessHandler;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限制单个异步业务Handler耗时的Handler<br/>
+ * process的同步部分读取到的剩余时间为Handler的时间预算(不超过责任链的截止时间)，异步结果在预算内没有完成时取消异步结果并按超时中断，不再等待
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:55
+ */
+public class TimeBudgetAsyncProcessHandler<Request> implements AsyncProcessHandler<Request>, DelegatingHandler<Request> {
+
+    private final AsyncProcessHandler<Request> delegate;
+    private final long budgetNanos;
+
+    public TimeBudgetAsyncProcessHandler(AsyncProcessHandler<Request> delegate, long budget, TimeUnit unit) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("budget must be positive, but was " + budget);
+        }
+        this.delegate = delegate;
+        this.budgetNanos = unit.toNanos(budget);
+    }
+
+    /**
+     * 包装异步业务Handler
+     *
+     * @param delegate 被包装的异步业务Handler
+     * @param budget   时间预算
+     * @param unit     时间单位
+     * @return com.ej.chain.timeout.TimeBudgetAsyncProcessHandler<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    public static <Request> TimeBudgetAsyncProcessHandler<Request> of(AsyncProcessHandler<Request> delegate, long budget, TimeUnit unit) {
+        return new TimeBudgetAsyncProcessHandler<>(delegate, budget, unit);
+    }
+
+    @Override
+    public boolean duplicated(Request request) {
+        return delegate.duplicated(request);
+    }
+
+    @Override
+    public CompletionStage<?> process(Request request, ChainContext.Context context) {
+        boolean hadDeadline = context.hasDeadline();
+        long chainDeadline = context.getDeadline();
+        long deadline = System.nanoTime() + budgetNanos;
+        if (hadDeadline && chainDeadline - deadline < 0) {
+            deadline = chainDeadline;
+        }
+        //process的同步部分按时间预算读取剩余时间
+        context.deadline(deadline);
+        CompletionStage<?> stage;
+        try {
+            stage = delegate.process(request, context);
+        } finally {
+            if (hadDeadline) {
+                context.deadline(chainDeadline);
+            } else {
+                context.clearDeadline();
+            }
+        }
+        return Deadlines.within(stage, context, deadline);
+    }
+
+    @Override
+    public BaseHandler<Request> delegate() {
+        return delegate;
+    }
+}
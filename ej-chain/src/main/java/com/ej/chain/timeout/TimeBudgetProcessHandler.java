@@ -0,0 +1,77 @@
+package com.ej.chain.timeout;
+
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.DelegatingHandler;
+import com.ej.chain.handlers.ProcessHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限制单个业务Handler耗时的Handler<br/>
+ * process执行期间上下文的截止时间缩短为Handler的时间预算(不超过责任链的截止时间)，被包装的Handler通过剩余时间设置下游调用的超时；
+ * 同步执行无法强制停止，process返回时已超出预算则按超时中断，后续Handler不再执行
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/18 22:55
+ */
+public class TimeBudgetProcessHandler<Request> implements ProcessHandler<Request>, DelegatingHandler<Request> {
+
+    private final ProcessHandler<Request> delegate;
+    private final long budgetNanos;
+
+    public TimeBudgetProcessHandler(ProcessHandler<Request> delegate, long budget, TimeUnit unit) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("budget must be positive, but was " + budget);
+        }
+        this.delegate = delegate;
+        this.budgetNanos = unit.toNanos(budget);
+    }
+
+    /**
+     * 包装业务Handler
+     *
+     * @param delegate 被包装的业务Handler
+     * @param budget   时间预算
+     * @param unit     时间单位
+     * @return com.ej.chain.timeout.TimeBudgetProcessHandler<Request>
+     * @auther: Evan·Jiang
+     * @date: 2026/10/18 22:55
+     */
+    public static <Request> TimeBudgetProcessHandler<Request> of(ProcessHandler<Request> delegate, long budget, TimeUnit unit) {
+        return new TimeBudgetProcessHandler<>(delegate, budget, unit);
+    }
+
+    @Override
+    public boolean duplicated(Request request) {
+        return delegate.duplicated(request);
+    }
+
+    @Override
+    public void process(Request request) {
+        ChainContext.Context context = ChainContext.current();
+        boolean hadDeadline = context.hasDeadline();
+        long chainDeadline = context.getDeadline();
+        long deadline = System.nanoTime() + budgetNanos;
+        if (!hadDeadline || deadline - chainDeadline < 0) {
+            context.deadline(deadline);
+        }
+        try {
+            delegate.process(request);
+        } finally {
+            if (hadDeadline) {
+                context.deadline(chainDeadline);
+            } else {
+                context.clearDeadline();
+            }
+        }
+        if (System.nanoTime() - deadline >= 0) {
+            context.timeout();
+        }
+    }
+
+    @Override
+    public BaseHandler<Request> delegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,204 @@
+package com.ej.chain.cache;
+
+import com.ej.chain.dto.BaseResponse;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * 返回值缓存的single-flight、有效时间、内存估算和淘汰，使用可控的时钟
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 11:20
+ */
+public class ResultCacheTest {
+
+    private static final Predicate<BaseResponse<String>> ALWAYS = response -> true;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private ResultCache<String> cache(int maxEntries, long maxWeight, long ttlMillis) {
+        return new ResultCache<>(maxEntries, maxWeight, response -> 100L, ttlMillis, TimeUnit.MILLISECONDS, now::get);
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static BaseResponse<String> response(String data) {
+        BaseResponse<String> response = new BaseResponse<>();
+        response.setResponseCode("000000");
+        response.setResponseMsg("ok");
+        response.setData(data);
+        return response;
+    }
+
+    @Test(timeout = 10_000)
+    public void concurrentCallsShareOneLoad() throws Exception {
+        ResultCache<String> cache = cache(16, Long.MAX_VALUE, 0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReferenceArray<String> results = new AtomicReferenceArray<>(8);
+        List<Thread> threads = new ArrayList<>();
+        for (int idx = 0; idx < 8; idx++) {
+            int index = idx;
+            threads.add(new Thread(() -> results.set(index, cache.get("key", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return response("loaded");
+            }, ALWAYS).getData())));
+        }
+        threads.get(0).start();
+        loading.await();
+        for (int idx = 1; idx < threads.size(); idx++) {
+            threads.get(idx).start();
+        }
+        awaitWaiting(threads.subList(1, threads.size()));
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, loads.get());
+        for (int idx = 0; idx < 8; idx++) {
+            assertEquals("loaded", results.get(idx));
+        }
+        assertEquals(7, cache.getCoalesced());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test(timeout = 10_000)
+    public void failedLoadLetsWaiterLoadItself() throws Exception {
+        ResultCache<String> cache = cache(16, Long.MAX_VALUE, 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = new Thread(() -> {
+            try {
+                cache.get("key", () -> {
+                    loading.countDown();
+                    await(release);
+                    throw new IllegalStateException("leader failed");
+                }, ALWAYS);
+            } catch (IllegalStateException expected) {
+                //执行者自己收到异常
+            }
+        });
+        leader.start();
+        loading.await();
+        AtomicReferenceArray<String> result = new AtomicReferenceArray<>(1);
+        Thread waiter = new Thread(() -> result.set(0, cache.get("key", () -> response("waiter"), ALWAYS).getData()));
+        waiter.start();
+        awaitWaiting(Collections.singletonList(waiter));
+        release.countDown();
+        waiter.join();
+        leader.join();
+        assertEquals("waiter", result.get(0));
+    }
+
+    @Test(timeout = 10_000)
+    public void reentrantLoadRunsDirectly() {
+        ResultCache<String> cache = cache(16, Long.MAX_VALUE, 0);
+        BaseResponse<String> response = cache.get("key", () -> {
+            BaseResponse<String> inner = cache.get("key", () -> response("inner"), ALWAYS);
+            return response("outer-" + inner.getData());
+        }, ALWAYS);
+        assertEquals("outer-inner", response.getData());
+        assertEquals("outer-inner", cache.getIfPresent("key").getData());
+    }
+
+    @Test
+    public void expiresAfterTtl() {
+        ResultCache<String> cache = cache(16, Long.MAX_VALUE, 1_000);
+        cache.put("key", response("value"));
+        advanceMillis(999);
+        assertNotNull(cache.getIfPresent("key"));
+        advanceMillis(1);
+        assertNull(cache.getIfPresent("key"));
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void tracksWeight() {
+        ResultCache<String> cache = cache(16, Long.MAX_VALUE, 0);
+        //112(记录) + 52("000000") + 44("ok") + 100(业务数据)
+        long entryWeight = 308;
+        cache.put("first", response("value"));
+        assertEquals(entryWeight, cache.getWeight());
+        cache.put("first", response("replaced"));
+        assertEquals(entryWeight, cache.getWeight());
+        cache.put("second", response("value"));
+        assertEquals(2 * entryWeight, cache.getWeight());
+        cache.invalidate("first");
+        assertEquals(entryWeight, cache.getWeight());
+        cache.clear();
+        assertEquals(0, cache.getWeight());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void evictsLeastRecentlyAccessed() {
+        ResultCache<String> cache = cache(3, Long.MAX_VALUE, 0);
+        cache.put("a", response("a"));
+        advanceMillis(2);
+        cache.put("b", response("b"));
+        advanceMillis(2);
+        cache.put("c", response("c"));
+        advanceMillis(2);
+        assertNotNull(cache.getIfPresent("a"));
+        advanceMillis(2);
+        cache.put("d", response("d"));
+        assertEquals(3, cache.getSize());
+        assertNull(cache.getIfPresent("b"));
+        assertNotNull(cache.getIfPresent("a"));
+        assertNotNull(cache.getIfPresent("c"));
+        assertNotNull(cache.getIfPresent("d"));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void evictsByWeight() {
+        ResultCache<String> cache = cache(16, 2 * 308, 0);
+        cache.put("a", response("a"));
+        advanceMillis(2);
+        cache.put("b", response("b"));
+        advanceMillis(2);
+        cache.put("c", response("c"));
+        assertEquals(2, cache.getSize());
+        assertEquals(2 * 308, cache.getWeight());
+        assertNull(cache.getIfPresent("a"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 等待线程阻塞在执行者的返回值上
+     */
+    private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+    }
+}
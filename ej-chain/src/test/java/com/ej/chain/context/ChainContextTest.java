@@ -0,0 +1,99 @@
+package com.ej.chain.context;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * 分支上下文的临时变量合并、上下文绑定
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 11:00
+ */
+public class ChainContextTest {
+
+    @Test
+    public void branchWritesToSlotsAllocatedAfterBranchAreMerged() {
+        int existing = ChainContext.slotOf("branch.existing");
+        int other = ChainContext.slotOf("branch.other");
+        ChainContext.Context parent = ChainContext.newContext();
+        parent.injectTemporaryArgs(existing, "parent");
+        parent.injectTemporaryArgs(other, "parent");
+
+        ChainContext.Context grown = parent.branch();
+        ChainContext.Context shared = parent.branch();
+        //创建分支之后才分配的槽位，超过共享数组的容量
+        int late = ChainContext.slotOf("branch.late." + System.nanoTime());
+        int lateLong = ChainContext.slotOf("branch.lateLong." + System.nanoTime());
+        grown.injectTemporaryArgs(late, "late");
+        grown.injectLong(lateLong, 42L);
+        grown.injectTemporaryArgs(existing, "grown");
+        shared.injectTemporaryArgs(other, "shared");
+
+        parent.merge(shared);
+        parent.merge(grown);
+        assertEquals("late", parent.extractTemporaryArgs(late));
+        assertEquals(42L, parent.extractLong(lateLong));
+        assertEquals("grown", parent.extractTemporaryArgs(existing));
+        //扩容的分支没有写过的槽位不会覆盖其他分支的写入
+        assertEquals("shared", parent.extractTemporaryArgs(other));
+    }
+
+    @Test
+    public void branchSharesWritesBeforeGrowing() {
+        int slot = ChainContext.slotOf("branch.before");
+        ChainContext.Context parent = ChainContext.newContext();
+        ChainContext.Context branch = parent.branch();
+        branch.injectTemporaryArgs(slot, "branch");
+        assertEquals("branch", parent.extractTemporaryArgs(slot));
+        parent.merge(branch);
+        assertEquals("branch", parent.extractTemporaryArgs(slot));
+    }
+
+    @Test
+    public void currentThrowsWhenNothingIsBound() {
+        try {
+            ChainContext.current();
+            fail("current() must not create a context outside a chain");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void bindAndRunWithExposeContext() {
+        ChainContext.Context bound = ChainContext.newContext();
+        ChainContext.Context scoped = ChainContext.newContext();
+        ChainContext.bind(bound);
+        try {
+            assertSame(bound, ChainContext.current());
+            ChainContext.runWith(scoped, () -> assertSame(scoped, ChainContext.current()));
+            assertSame(bound, ChainContext.current());
+        } finally {
+            ChainContext.clear();
+        }
+    }
+
+    @Test
+    public void bindRejectsCustomStorage() {
+        ChainContext.setStorage(new ContextStorage() {
+            @Override
+            public ChainContext.Context get() {
+                return null;
+            }
+
+            @Override
+            public void runWith(ChainContext.Context context, Runnable action) {
+                action.run();
+            }
+        });
+        try {
+            ChainContext.bind(ChainContext.newContext());
+            fail("bind must only support the thread local storage");
+        } catch (IllegalStateException expected) {
+        } finally {
+            ChainContext.setStorage(null);
+        }
+    }
+}
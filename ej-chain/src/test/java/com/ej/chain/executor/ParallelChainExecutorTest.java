@@ -0,0 +1,179 @@
+package com.ej.chain.executor;
+
+import com.ej.chain.annotation.FromContext;
+import com.ej.chain.annotation.SideEffectFree;
+import com.ej.chain.annotation.ToContext;
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.dto.BaseResponse;
+import com.ej.chain.handlers.BaseHandler;
+import com.ej.chain.handlers.CheckHandler;
+import com.ej.chain.handlers.ProcessHandler;
+import com.ej.chain.proxy.ProxyHandlerFactory;
+import com.ej.manage.EjManage;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 并行执行的分层规则和中断语义
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 11:00
+ */
+public class ParallelChainExecutorTest {
+
+    private static final AtomicInteger SIDE_EFFECTS = new AtomicInteger();
+
+    @Test
+    public void checkWithoutDeclaredKeysIsBarrier() {
+        List<int[]> levels = ChainDependencyGraph.levels(Arrays.<BaseHandler<Object>>asList(
+                proxy(ReadsFirst.class), new WritesDirectly(), proxy(ReadsSecond.class)));
+        assertLevels(levels, new int[]{0}, new int[]{1}, new int[]{2});
+    }
+
+    @Test
+    public void declaredChecksShareLevel() {
+        List<int[]> levels = ChainDependencyGraph.levels(Arrays.<BaseHandler<Object>>asList(
+                proxy(ReadsFirst.class), proxy(ReadsSecond.class)));
+        assertLevels(levels, new int[]{0, 1});
+    }
+
+    @Test
+    public void processWithoutSideEffectFreeRunsAlone() {
+        List<int[]> levels = ChainDependencyGraph.levels(Arrays.<BaseHandler<Object>>asList(
+                proxy(RejectingProcess.class), proxy(CountingProcess.class)));
+        assertLevels(levels, new int[]{0}, new int[]{1});
+    }
+
+    @Test
+    public void sideEffectFreeProcessesShareLevel() {
+        List<int[]> levels = ChainDependencyGraph.levels(Arrays.<BaseHandler<Object>>asList(
+                proxy(PureFirst.class), proxy(PureSecond.class)));
+        assertLevels(levels, new int[]{0, 1});
+    }
+
+    @Test
+    public void interruptedProcessStopsLaterProcess() {
+        EjManage<Object, Object> manage = new EjManage<>();
+        manage.register(proxy(RejectingProcess.class)).register(proxy(CountingProcess.class)).parallel(new ForkJoinPool(4));
+        SIDE_EFFECTS.set(0);
+        for (int idx = 0; idx < 100; idx++) {
+            BaseResponse<Object> response = manage.execute(new Object());
+            assertEquals("E1", response.getResponseCode());
+        }
+        assertEquals(0, SIDE_EFFECTS.get());
+    }
+
+    private static void assertLevels(List<int[]> levels, int[]... expected) {
+        assertEquals(expected.length, levels.size());
+        for (int idx = 0; idx < expected.length; idx++) {
+            assertArrayEquals(expected[idx], levels.get(idx));
+        }
+    }
+
+    private static <T extends BaseHandler> T proxy(Class<T> clazz) {
+        return ProxyHandlerFactory.getJavassistProxyHandlerInstance(clazz, false);
+    }
+
+    public abstract static class ReadsFirst implements CheckHandler<Object> {
+        @Override
+        public void checkParams(Object request) {
+            getFirst();
+        }
+
+        @FromContext("parallel.first")
+        abstract Object getFirst();
+    }
+
+    public abstract static class ReadsSecond implements CheckHandler<Object> {
+        @Override
+        public void checkParams(Object request) {
+            getSecond();
+        }
+
+        @FromContext("parallel.second")
+        abstract Object getSecond();
+    }
+
+    /**
+     * 没有声明key，直接通过ChainContext写入其他校验读取的临时变量
+     */
+    public static class WritesDirectly implements CheckHandler<Object> {
+        @Override
+        public void checkParams(Object request) {
+            ChainContext.injectTemporaryArgs("parallel.first", "direct");
+        }
+    }
+
+    public abstract static class RejectingProcess implements ProcessHandler<Object> {
+        @Override
+        public boolean duplicated(Object request) {
+            return false;
+        }
+
+        @Override
+        public void process(Object request) {
+            injectTips("E1", "rejected");
+        }
+
+        @ToContext("parallel.rejected")
+        abstract void setRejected(Object rejected);
+    }
+
+    /**
+     * 有副作用的业务Handler，前面的Handler中断时不能执行
+     */
+    public abstract static class CountingProcess implements ProcessHandler<Object> {
+        @Override
+        public boolean duplicated(Object request) {
+            return false;
+        }
+
+        @Override
+        public void process(Object request) {
+            SIDE_EFFECTS.incrementAndGet();
+            setCounted(Boolean.TRUE);
+        }
+
+        @ToContext("parallel.counted")
+        abstract void setCounted(Object counted);
+    }
+
+    @SideEffectFree
+    public abstract static class PureFirst implements ProcessHandler<Object> {
+        @Override
+        public boolean duplicated(Object request) {
+            return false;
+        }
+
+        @Override
+        public void process(Object request) {
+            setPureFirst("first");
+        }
+
+        @ToContext("parallel.pureFirst")
+        abstract void setPureFirst(Object value);
+    }
+
+    @SideEffectFree
+    public abstract static class PureSecond implements ProcessHandler<Object> {
+        @Override
+        public boolean duplicated(Object request) {
+            return false;
+        }
+
+        @Override
+        public void process(Object request) {
+            setPureSecond("second");
+        }
+
+        @ToContext("parallel.pureSecond")
+        abstract void setPureSecond(Object value);
+    }
+}
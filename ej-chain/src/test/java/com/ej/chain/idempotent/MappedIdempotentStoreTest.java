@@ -0,0 +1,155 @@
+package com.ej.chain.idempotent;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 内存映射幂等存储的重启回放、过期、文件重写和容量淘汰，使用可控的时钟
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 11:30
+ */
+public class MappedIdempotentStoreTest {
+
+    private static final long TTL = 1000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private MappedIdempotentStore store;
+
+    private MappedIdempotentStore open(Path file, int maxEntries, int initialCapacity) throws IOException {
+        if (store != null) {
+            store.close();
+        }
+        store = new MappedIdempotentStore(file, maxEntries, TTL, initialCapacity, now::get);
+        return store;
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    public void replaysRecordsAfterRestart() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("store.idx");
+        open(file, 100, 4096);
+        store.record("a");
+        store.record("b");
+
+        open(file, 100, 4096);
+        assertTrue(store.contains("a"));
+        assertTrue(store.contains("b"));
+        assertFalse(store.contains("c"));
+    }
+
+    @Test
+    public void expiresRecordsInMemoryAndOnReplay() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("store.idx");
+        open(file, 100, 4096);
+        store.record("a");
+        now.addAndGet(TTL / 2);
+        store.record("b");
+
+        now.addAndGet(TTL / 2 + 1);
+        assertFalse(store.contains("a"));
+        assertTrue(store.contains("b"));
+        assertTrue(store.claim("a"));
+
+        open(file, 100, 4096);
+        assertFalse(store.contains("a"));
+        assertTrue(store.contains("b"));
+    }
+
+    @Test
+    public void compactsKeepingLiveRecordsInOrder() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("store.idx");
+        open(file, 3, 64);
+        for (int i = 0; i < 50; i++) {
+            store.record("key-" + i);
+        }
+        assertTrue(Files.size(file) < 4096);
+        assertFalse(store.contains("key-46"));
+        assertTrue(store.contains("key-47"));
+        assertTrue(store.contains("key-49"));
+
+        open(file, 3, 64);
+        assertFalse(store.contains("key-46"));
+        assertTrue(store.contains("key-47"));
+        assertTrue(store.contains("key-48"));
+        assertTrue(store.contains("key-49"));
+
+        store.record("key-50");
+        assertFalse(store.contains("key-47"));
+        assertTrue(store.contains("key-48"));
+    }
+
+    @Test
+    public void compactionDropsExpiredRecords() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("store.idx");
+        open(file, 100, 64);
+        store.record("old");
+        now.addAndGet(TTL + 1);
+        for (int i = 0; i < 10; i++) {
+            store.record("key-" + i);
+        }
+
+        open(file, 100, 64);
+        assertFalse(store.contains("old"));
+        for (int i = 0; i < 10; i++) {
+            assertTrue(store.contains("key-" + i));
+        }
+    }
+
+    @Test
+    public void evictsEldestRecordWhenFull() throws IOException {
+        open(folder.getRoot().toPath().resolve("store.idx"), 2, 4096);
+        store.record("a");
+        store.record("b");
+        store.record("a");
+        store.record("c");
+
+        assertTrue(store.contains("a"));
+        assertFalse(store.contains("b"));
+        assertTrue(store.contains("c"));
+    }
+
+    @Test
+    public void claimsKeyOnceUntilReleasedOrRecorded() throws IOException {
+        open(folder.getRoot().toPath().resolve("store.idx"), 100, 4096);
+        assertTrue(store.claim("a"));
+        assertFalse(store.claim("a"));
+        store.release("a");
+        assertTrue(store.claim("a"));
+        store.record("a");
+        assertFalse(store.claim("a"));
+    }
+
+    @Test
+    public void lookupsDoNotWaitForAppendLock() throws Exception {
+        open(folder.getRoot().toPath().resolve("store.idx"), 100, 4096);
+        store.record("a");
+        synchronized (store) {
+            CompletableFuture<Boolean> lookup = CompletableFuture.supplyAsync(() -> store.contains("a") && store.claim("b") && !store.claim("b"));
+            assertEquals(Boolean.TRUE, lookup.get(5, TimeUnit.SECONDS));
+        }
+    }
+}
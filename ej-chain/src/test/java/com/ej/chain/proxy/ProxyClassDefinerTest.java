@@ -0,0 +1,111 @@
+package com.ej.chain.proxy;
+
+import com.ej.chain.annotation.FromContext;
+import com.ej.chain.annotation.ToContext;
+import com.ej.chain.context.ChainContext;
+import com.ej.chain.handlers.ProcessHandler;
+import org.junit.After;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * 被代理的Handler由子ClassLoader加载时(Web容器、热部署等)，各代理生成方式都能定义代理类
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 10:45
+ */
+public class ProxyClassDefinerTest {
+
+    @After
+    public void tearDown() {
+        ProxyHandlerFactory.setProxyBackend(null);
+    }
+
+    @Test
+    public void hiddenClassFromChildClassLoader() throws Exception {
+        ProxyHandlerFactory.setProxyBackend(new LookupProxyBackend(true));
+        assertProxyWorks();
+    }
+
+    @Test
+    public void lookupClassFromChildClassLoader() throws Exception {
+        ProxyHandlerFactory.setProxyBackend(new LookupProxyBackend(false));
+        assertProxyWorks();
+    }
+
+    @Test
+    public void javassistFromChildClassLoader() throws Exception {
+        ProxyHandlerFactory.setProxyBackend(new JavassistProxyBackend());
+        assertProxyWorks();
+    }
+
+    private void assertProxyWorks() throws Exception {
+        try (ChildFirstClassLoader loader = new ChildFirstClassLoader(IsolatedHandler.class)) {
+            Class<?> isolated = loader.loadClass(IsolatedHandler.class.getName());
+            assertNotSame(IsolatedHandler.class, isolated);
+
+            Class<?> proxyClass = ProxyHandlerFactory.getJavassistProxyHandlerClass(isolated);
+            assertSame(isolated, proxyClass.getSuperclass());
+            assertSame(loader, proxyClass.getClassLoader());
+
+            ProcessHandler<Object> handler = (ProcessHandler<Object>) proxyClass.newInstance();
+            ChainContext.runWith(ChainContext.newContext(), () -> {
+                ChainContext.injectTemporaryArgs("isolated.source", "child");
+                handler.process(null);
+                assertEquals("child!", ChainContext.extractTemporaryArgs("isolated.result"));
+            });
+        }
+    }
+
+    public abstract static class IsolatedHandler implements ProcessHandler<Object> {
+        @Override
+        public boolean duplicated(Object request) {
+            return false;
+        }
+
+        @Override
+        public void process(Object request) {
+            setResult(getSource() + "!");
+        }
+
+        @FromContext("isolated.source")
+        abstract String getSource();
+
+        @ToContext("isolated.result")
+        abstract void setResult(String result);
+    }
+
+    /**
+     * 自己加载指定的类，其他类委托给父ClassLoader，与ej-chain处于不同的未命名模块；
+     * 隐藏编译期生成的代理类，代理类只能在运行时生成
+     */
+    private static final class ChildFirstClassLoader extends URLClassLoader {
+
+        private final String isolatedName;
+
+        ChildFirstClassLoader(Class<?> isolated) {
+            super(new URL[]{isolated.getProtectionDomain().getCodeSource().getLocation()}, isolated.getClassLoader());
+            this.isolatedName = isolated.getName();
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith(isolatedName) && !isolatedName.equals(name)) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!isolatedName.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                return clazz != null ? clazz : findClass(name);
+            }
+        }
+    }
+}
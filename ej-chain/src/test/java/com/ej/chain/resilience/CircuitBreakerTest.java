@@ -0,0 +1,168 @@
+package com.ej.chain.resilience;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 熔断器的状态切换和许可计数，使用可控的时钟
+ *
+ * @author: Evan·Jiang
+ * @date: 2026/10/19 10:30
+ */
+public class CircuitBreakerTest {
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    /**
+     * 失败率50%，慢调用率50%，慢调用100ms，窗口10s，至少4次调用，熔断1s，半开试探2次
+     */
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker(50, 50, 100, 10_000, 4, 1_000, 2, now::get);
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private void trip(CircuitBreaker breaker) {
+        for (int idx = 0; idx < 4; idx++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.record(true, FAST);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = breaker();
+        breaker.record(false, FAST);
+        breaker.record(true, FAST);
+        breaker.record(false, FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.record(true, FAST);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, breaker.getOpens());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejected());
+    }
+
+    @Test
+    public void staysClosedBelowThreshold() {
+        CircuitBreaker breaker = breaker();
+        for (int idx = 0; idx < 10; idx++) {
+            breaker.record(idx >= 6, FAST);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    public void waitsForMinimumCalls() {
+        CircuitBreaker breaker = breaker();
+        for (int idx = 0; idx < 3; idx++) {
+            breaker.record(true, FAST);
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        }
+        breaker.record(true, FAST);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void forgetsCallsOutsideWindow() {
+        CircuitBreaker breaker = breaker();
+        for (int idx = 0; idx < 3; idx++) {
+            breaker.record(true, FAST);
+        }
+        advanceMillis(11_000);
+        breaker.record(true, FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void opensWhenSlowCallRateReachesThreshold() {
+        CircuitBreaker breaker = breaker();
+        breaker.record(false, SLOW);
+        breaker.record(false, FAST);
+        breaker.record(false, FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.record(false, SLOW);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void halfOpenAdmitsOnlyConfiguredPermits() {
+        CircuitBreaker breaker = breaker();
+        trip(breaker);
+        advanceMillis(999);
+        assertFalse(breaker.tryAcquire());
+        advanceMillis(1);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(2, breaker.getRejected());
+
+        breaker.record(false, FAST);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        breaker.record(false, FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    public void closedAfterHalfOpenStartsWithEmptyWindow() {
+        CircuitBreaker breaker = breaker();
+        trip(breaker);
+        advanceMillis(1_000);
+        for (int idx = 0; idx < 2; idx++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.record(false, FAST);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.record(true, FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void reopensOnHalfOpenFailure() {
+        CircuitBreaker breaker = breaker();
+        trip(breaker);
+        advanceMillis(1_000);
+        assertTrue(breaker.tryAcquire());
+        breaker.record(true, FAST);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpens());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void reopensOnHalfOpenSlowCall() {
+        CircuitBreaker breaker = breaker();
+        trip(breaker);
+        advanceMillis(1_000);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        breaker.record(false, FAST);
+        breaker.record(false, SLOW);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpens());
+
+        //重新打开后需要再等待完整的熔断时间，上一次半开的许可不再有效
+        advanceMillis(999);
+        assertFalse(breaker.tryAcquire());
+        advanceMillis(1);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+    }
+}